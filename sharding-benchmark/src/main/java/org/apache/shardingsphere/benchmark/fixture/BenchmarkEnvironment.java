@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Benchmark environment.
+ * 
+ * <p>
+ *     All benchmarks share one data source {@code ds_0} and one logic table {@code t_order(order_id, user_id, status)},
+ *     whose actual tables are {@code t_order_0} to {@code t_order_${shards - 1}}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkEnvironment {
+    
+    public static final String DATA_SOURCE_NAME = "ds_0";
+    
+    public static final String LOGIC_TABLE_NAME = "t_order";
+    
+    /**
+     * Get database type.
+     *
+     * @param databaseTypeName database type name
+     * @return database type
+     */
+    public static DatabaseType getDatabaseType(final String databaseTypeName) {
+        return DatabaseTypes.getActualDatabaseType(databaseTypeName);
+    }
+    
+    /**
+     * Create sharding rule.
+     *
+     * @param shardingStrategyType sharding strategy type of logic table
+     * @param shards count of actual tables
+     * @return sharding rule
+     */
+    public static ShardingRule createShardingRule(final ShardingStrategyType shardingStrategyType, final int shards) {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration(LOGIC_TABLE_NAME, DATA_SOURCE_NAME + "." + LOGIC_TABLE_NAME + "_${0.." + (shards - 1) + "}");
+        tableRuleConfig.setTableShardingStrategyConfig(createTableShardingStrategyConfiguration(shardingStrategyType, shards));
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        return new ShardingRule(shardingRuleConfig, Collections.singletonList(DATA_SOURCE_NAME));
+    }
+    
+    private static ShardingStrategyConfiguration createTableShardingStrategyConfiguration(final ShardingStrategyType shardingStrategyType, final int shards) {
+        switch (shardingStrategyType) {
+            case STANDARD:
+                return new StandardShardingStrategyConfiguration("order_id", new ModuloPreciseShardingAlgorithm());
+            case COMPLEX:
+                return new ComplexShardingStrategyConfiguration("user_id,order_id", new ModuloComplexKeysShardingAlgorithm());
+            case INLINE:
+                return new InlineShardingStrategyConfiguration("order_id", LOGIC_TABLE_NAME + "_${order_id % " + shards + "}");
+            case HINT:
+                return new HintShardingStrategyConfiguration(new ModuloHintShardingAlgorithm());
+            default:
+                throw new UnsupportedOperationException(shardingStrategyType.name());
+        }
+    }
+    
+    /**
+     * Create meta data of MySQL data source.
+     *
+     * @return meta data
+     */
+    public static ShardingSphereMetaData createMetaData() {
+        Map<String, String> dataSourceURLs = Collections.singletonMap(DATA_SOURCE_NAME, "jdbc:mysql://127.0.0.1:3306/" + DATA_SOURCE_NAME);
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put(LOGIC_TABLE_NAME, new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new ShardingSphereMetaData(new DataSourceMetas(dataSourceURLs, getDatabaseType("MySQL")), new TableMetas(tableMetaDataMap));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingValue;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+/**
+ * Complex keys sharding algorithm which routes to {@code logic table name + '_' + (user_id + order_id) % shards}.
+ *
+ * @author zhangliang
+ */
+public final class ModuloComplexKeysShardingAlgorithm implements ComplexKeysShardingAlgorithm<Integer> {
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final ComplexKeysShardingValue<Integer> shardingValue) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (Integer userId : shardingValue.getColumnNameAndShardingValuesMap().get("user_id")) {
+            for (Integer orderId : shardingValue.getColumnNameAndShardingValuesMap().get("order_id")) {
+                result.add(shardingValue.getLogicTableName() + "_" + (userId + orderId) % availableTargetNames.size());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.CompiledInlineExpression;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for evaluating inline sharding expression by compiled expression and by groovy closure.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineExpressionBenchmark {
+    
+    private static final String SHARDING_COLUMN = "order_id";
+    
+    @Param({"t_order_${order_id % 16}", "t_order_${(order_id.intdiv(16)) % 16}_${order_id % 16}"})
+    private String algorithmExpression;
+    
+    private Closure<?> closure;
+    
+    private CompiledInlineExpression compiledExpression;
+    
+    private int value;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        InlineExpressionParser inlineExpressionParser = new InlineExpressionParser(InlineExpressionParser.handlePlaceHolder(algorithmExpression));
+        closure = inlineExpressionParser.evaluateClosure();
+        compiledExpression = inlineExpressionParser.compile(SHARDING_COLUMN).get();
+    }
+    
+    /**
+     * Evaluate by compiled expression.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String evaluateCompiled() {
+        return compiledExpression.evaluate(SHARDING_COLUMN, value++).get();
+    }
+    
+    /**
+     * Evaluate by groovy closure, the same way as inline sharding strategy does without compiled expression.
+     *
+     * @return evaluated result
+     */
+    @Benchmark
+    public String evaluateClosure() {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty(SHARDING_COLUMN, value++);
+        return result.call().toString();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ListQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStrategyType;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code DQLMergeEngine.merge} over in-memory query results, and for iterating the merged result.
+ * 
+ * <ul>
+ *     <li>ORDER_BY: order by stream merged result.</li>
+ *     <li>GROUP_BY: group by memory merged result, because group by and order by items are different.</li>
+ *     <li>PAGINATION: limit decorator merged result over order by stream merged result.</li>
+ * </ul>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DQLMergeBenchmark {
+    
+    @Param({"ORDER_BY", "GROUP_BY", "PAGINATION"})
+    private MergeType mergeType;
+    
+    @Param({"4", "64"})
+    private int shards;
+    
+    @Param({"100", "1000"})
+    private int rowsPerShard;
+    
+    private DatabaseType databaseType;
+    
+    private SQLRouteResult routeResult;
+    
+    private List<List<Object[]>> shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        databaseType = BenchmarkEnvironment.getDatabaseType("MySQL");
+        routeResult = new PreparedStatementRoutingEngine(mergeType.sql, BenchmarkEnvironment.createShardingRule(ShardingStrategyType.INLINE, shards), 
+                BenchmarkEnvironment.createMetaData(), databaseType, new SQLParseEngine(databaseType)).route(new ArrayList<>());
+        shardRows = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            shardRows.add(createRows(i));
+        }
+    }
+    
+    private List<Object[]> createRows(final int shardIndex) {
+        List<Object[]> result = new ArrayList<>(rowsPerShard);
+        for (int i = 0; i < rowsPerShard; i++) {
+            result.add(MergeType.GROUP_BY == mergeType ? new Object[] {i, (long) shardIndex + 1} : new Object[] {i * shards + shardIndex, i, "init"});
+        }
+        return result;
+    }
+    
+    /**
+     * Merge and iterate merged result.
+     *
+     * @param blackhole blackhole
+     * @return count of merged rows
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public int merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shards);
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(new ListQueryResult(mergeType.columnLabels, each.iterator()));
+        }
+        MergedResult mergedResult = new DQLMergeEngine(databaseType, routeResult, queryResults).merge();
+        int result = 0;
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+            result++;
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    public enum MergeType {
+        
+        ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", Arrays.asList("order_id", "user_id", "status")),
+        
+        GROUP_BY("SELECT user_id, COUNT(*) AS order_count FROM t_order GROUP BY user_id ORDER BY order_count DESC", Arrays.asList("user_id", "order_count")),
+        
+        PAGINATION("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT 50, 10", Arrays.asList("order_id", "user_id", "status"));
+        
+        private final String sql;
+        
+        private final List<String> columnLabels;
+    }
+}
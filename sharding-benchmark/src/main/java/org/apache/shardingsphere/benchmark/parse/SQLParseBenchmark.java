@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
+import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
+import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLParseEngine.parse}.
+ * 
+ * <ul>
+ *     <li>cached: parse result is taken from parse result cache.</li>
+ *     <li>template: parse result cache is skipped, parse tree is taken from template cache.</li>
+ *     <li>uncached: lexer, parser and extractors run for every call.</li>
+ * </ul>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLParseBenchmark {
+    
+    private static final String SQL = "SELECT i.item_id, o.user_id, o.status FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id "
+            + "WHERE o.user_id = ? AND o.status IN (?, ?, ?) AND i.item_id > 100 ORDER BY i.item_id DESC";
+    
+    @Param({"MySQL", "PostgreSQL", "Oracle", "SQLServer"})
+    private String databaseTypeName;
+    
+    private DatabaseType databaseType;
+    
+    private SQLParseEngine parseEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        databaseType = BenchmarkEnvironment.getDatabaseType(databaseTypeName);
+        parseEngine = new SQLParseEngine(databaseType);
+    }
+    
+    /**
+     * Parse with parse result cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseCached() {
+        return parseEngine.parse(SQL, true);
+    }
+    
+    /**
+     * Parse with parse template cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseTemplate() {
+        return parseEngine.parse(SQL, false);
+    }
+    
+    /**
+     * Parse without any cache.
+     *
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parseUncached() {
+        return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, SQL).parse();
+    }
+}
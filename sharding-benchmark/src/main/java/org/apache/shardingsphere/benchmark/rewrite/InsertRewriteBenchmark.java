@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStrategyType;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for rewriting multi-values insert which fans out to every shard.
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertRewriteBenchmark {
+    
+    @Param({"100", "5000"})
+    private int rows;
+    
+    @Param({"64"})
+    private int shards;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRouteResult routeResult;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        StringBuilder sqlBuilder = new StringBuilder("INSERT INTO t_order (order_id, user_id, status) VALUES ");
+        parameters = new ArrayList<>(rows * 3);
+        for (int i = 0; i < rows; i++) {
+            sqlBuilder.append(0 == i ? "" : ", ").append("(?, ?, ?)");
+            Collections.addAll(parameters, i, i, "init");
+        }
+        sql = sqlBuilder.toString();
+        DatabaseType databaseType = BenchmarkEnvironment.getDatabaseType("MySQL");
+        shardingRule = BenchmarkEnvironment.createShardingRule(ShardingStrategyType.INLINE, shards);
+        routeResult = new PreparedStatementRoutingEngine(
+                sql, shardingRule, BenchmarkEnvironment.createMetaData(), databaseType, new SQLParseEngine(databaseType)).route(new ArrayList<>(parameters));
+    }
+    
+    /**
+     * Create SQL rewrite engine and generate SQL for every routing unit.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine rewriteEngine = new SQLRewriteEngine(shardingRule, routeResult, sql, new ArrayList<>(parameters), routeResult.getRoutingResult().isSingleRouting(), false);
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            TableUnit tableUnit = each.getTableUnits().get(0);
+            blackhole.consume(rewriteEngine.generateSQL(each, Collections.singletonMap(tableUnit.getLogicTableName(), tableUnit.getActualTableName())));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStrategyType;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.rewrite.SQLRewriteEngine;
+import org.apache.shardingsphere.core.route.PreparedStatementRoutingEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code SQLRewriteEngine.generateSQL} of a full routed query with many table tokens.
+ * 
+ * <p>
+ *     Every select item is qualified by logic table name, so each of them is rewritten by one table token.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLRewriteBenchmark {
+    
+    private static final int SHARDS = 4;
+    
+    @Param({"16", "256", "1024"})
+    private int tokens;
+    
+    private String sql;
+    
+    private List<Object> parameters;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRouteResult routeResult;
+    
+    private SQLRewriteEngine rewriteEngine;
+    
+    private Map<RoutingUnit, Map<String, String>> logicAndActualTables;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        sql = createSQL();
+        parameters = Collections.<Object>singletonList("init");
+        DatabaseType databaseType = BenchmarkEnvironment.getDatabaseType("MySQL");
+        shardingRule = BenchmarkEnvironment.createShardingRule(ShardingStrategyType.INLINE, SHARDS);
+        routeResult = new PreparedStatementRoutingEngine(
+                sql, shardingRule, BenchmarkEnvironment.createMetaData(), databaseType, new SQLParseEngine(databaseType)).route(new ArrayList<>(parameters));
+        rewriteEngine = createRewriteEngine();
+        logicAndActualTables = new LinkedHashMap<>();
+        for (RoutingUnit each : routeResult.getRoutingResult().getRoutingUnits()) {
+            logicAndActualTables.put(each, getLogicAndActualTables(each));
+        }
+    }
+    
+    private String createSQL() {
+        StringBuilder result = new StringBuilder("SELECT ");
+        for (int i = 0; i < tokens; i++) {
+            result.append(0 == i ? "" : ", ").append(BenchmarkEnvironment.LOGIC_TABLE_NAME).append(".order_id AS order_id_").append(i);
+        }
+        return result.append(" FROM ").append(BenchmarkEnvironment.LOGIC_TABLE_NAME).append(" WHERE status = ?").toString();
+    }
+    
+    private Map<String, String> getLogicAndActualTables(final RoutingUnit routingUnit) {
+        Map<String, String> result = new HashMap<>();
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.put(each.getLogicTableName().toLowerCase(), each.getActualTableName());
+        }
+        return result;
+    }
+    
+    private SQLRewriteEngine createRewriteEngine() {
+        return new SQLRewriteEngine(shardingRule, routeResult, sql, new ArrayList<>(parameters), routeResult.getRoutingResult().isSingleRouting(), false);
+    }
+    
+    /**
+     * Generate SQL for every routing unit.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void generateSQL(final Blackhole blackhole) {
+        for (Entry<RoutingUnit, Map<String, String>> entry : logicAndActualTables.entrySet()) {
+            blackhole.consume(rewriteEngine.generateSQL(entry.getKey(), entry.getValue()));
+        }
+    }
+    
+    /**
+     * Create SQL rewrite engine, which generates SQL tokens, and generate SQL for every routing unit.
+     *
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteEngine sqlRewriteEngine = createRewriteEngine();
+        for (Entry<RoutingUnit, Map<String, String>> entry : logicAndActualTables.entrySet()) {
+            blackhole.consume(sqlRewriteEngine.generateSQL(entry.getKey(), entry.getValue()));
+        }
+    }
+}
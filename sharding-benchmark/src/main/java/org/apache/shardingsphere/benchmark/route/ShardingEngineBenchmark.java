@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.api.hint.HintManager;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.ShardingStrategyType;
+import org.apache.shardingsphere.core.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.parse.SQLParseEngine;
+import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code PreparedQueryShardingEngine.shard}, which covers route, rewrite and SQL unit generation of a point query.
+ * 
+ * <p>
+ *     State is thread scoped because hint sharding values are held by thread local {@code HintManager}.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingEngineBenchmark {
+    
+    private static final String SQL = "SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+    
+    @Param({"STANDARD", "COMPLEX", "INLINE", "HINT"})
+    private ShardingStrategyType shardingStrategyType;
+    
+    @Param({"1", "64", "1024"})
+    private int shards;
+    
+    private PreparedQueryShardingEngine shardingEngine;
+    
+    private List<Object> parameters;
+    
+    private HintManager hintManager;
+    
+    /**
+     * Set up.
+     */
+    @Setup
+    public void setUp() {
+        DatabaseType databaseType = BenchmarkEnvironment.getDatabaseType("MySQL");
+        shardingEngine = new PreparedQueryShardingEngine(SQL, BenchmarkEnvironment.createShardingRule(shardingStrategyType, shards), 
+                new ShardingProperties(new Properties()), BenchmarkEnvironment.createMetaData(), databaseType, new SQLParseEngine(databaseType));
+        parameters = Arrays.<Object>asList(10, 1001);
+        if (ShardingStrategyType.HINT == shardingStrategyType) {
+            hintManager = HintManager.getInstance();
+            hintManager.addTableShardingValue(BenchmarkEnvironment.LOGIC_TABLE_NAME, 1001);
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown
+    public void tearDown() {
+        if (null != hintManager) {
+            hintManager.close();
+        }
+    }
+    
+    /**
+     * Shard.
+     *
+     * @return SQL route result
+     */
+    @Benchmark
+    public SQLRouteResult shard() {
+        return shardingEngine.shard(SQL, parameters);
+    }
+}
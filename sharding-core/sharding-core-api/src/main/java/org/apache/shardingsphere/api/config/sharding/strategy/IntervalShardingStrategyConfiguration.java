@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import lombok.Getter;
+
+/**
+ * Interval sharding strategy configuration.
+ * 
+ * <p>
+ * Sharding values are datetime, each interval from {@code datetimeLower} to {@code datetimeUpper} is routed to the target 
+ * whose name ends with the interval's start formatted by {@code shardingSuffixPattern}.
+ * Available interval units are {@code YEARS}, {@code MONTHS}, {@code WEEKS}, {@code DAYS}, {@code HOURS}, {@code MINUTES} and {@code SECONDS}.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@Getter
+public final class IntervalShardingStrategyConfiguration implements ShardingStrategyConfiguration {
+    
+    private final String shardingColumn;
+    
+    private final String datetimePattern;
+    
+    private final String datetimeLower;
+    
+    private final String datetimeUpper;
+    
+    private final String shardingSuffixPattern;
+    
+    private final int datetimeIntervalAmount;
+    
+    private final String datetimeIntervalUnit;
+    
+    public IntervalShardingStrategyConfiguration(final String shardingColumn, final String datetimePattern, final String datetimeLower, final String datetimeUpper, 
+                                                 final String shardingSuffixPattern, final int datetimeIntervalAmount, final String datetimeIntervalUnit) {
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingColumn), "ShardingColumn is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimePattern), "DatetimePattern is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeLower), "DatetimeLower is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeUpper), "DatetimeUpper is required.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(shardingSuffixPattern), "ShardingSuffixPattern is required.");
+        Preconditions.checkArgument(datetimeIntervalAmount > 0, "DatetimeIntervalAmount must be positive.");
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(datetimeIntervalUnit), "DatetimeIntervalUnit is required.");
+        this.shardingColumn = shardingColumn;
+        this.datetimePattern = datetimePattern;
+        this.datetimeLower = datetimeLower;
+        this.datetimeUpper = datetimeUpper;
+        this.shardingSuffixPattern = shardingSuffixPattern;
+        this.datetimeIntervalAmount = datetimeIntervalAmount;
+        this.datetimeIntervalUnit = datetimeIntervalUnit;
+    }
+}
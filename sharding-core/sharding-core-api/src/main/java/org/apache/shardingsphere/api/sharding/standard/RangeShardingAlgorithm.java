@@ -24,6 +24,11 @@ import java.util.Collection;
 /**
  * Range sharding algorithm.
  * 
+ * <p>
+ * Sharding value is a range for {@code BETWEEN AND}, {@code >}, {@code >=}, {@code <} and {@code <=} predicates.
+ * Range of compare predicates is unbounded on one side, check {@code Range.hasLowerBound()} and {@code Range.hasUpperBound()} before reading endpoints.
+ * </p>
+ * 
  * @author zhangliang
  * 
  * @param <T> class type of sharding value
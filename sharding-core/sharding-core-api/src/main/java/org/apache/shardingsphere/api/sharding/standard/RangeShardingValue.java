@@ -26,6 +26,8 @@ import org.apache.shardingsphere.api.sharding.ShardingValue;
 /**
  * Sharding value for range.
  * 
+ * <p>Value range may be unbounded on lower side or upper side.</p>
+ * 
  * @author zhangliang
  */
 @RequiredArgsConstructor
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.config.sharding.strategy;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class IntervalShardingStrategyConfigurationTest {
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithoutShardingColumn() {
+        new IntervalShardingStrategyConfiguration("", "yyyy-MM-dd", "2019-01-01", "2019-12-31", "yyyyMM", 1, "MONTHS");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithoutDatetimeUpper() {
+        new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd", "2019-01-01", "", "yyyyMM", 1, "MONTHS");
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertConstructorWithNonPositiveAmount() {
+        new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd", "2019-01-01", "2019-12-31", "yyyyMM", 0, "MONTHS");
+    }
+    
+    @Test
+    public void assertConstructorWithFullArguments() {
+        IntervalShardingStrategyConfiguration actual = new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd", "2019-01-01", "2019-12-31", "yyyyMM", 1, "MONTHS");
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getDatetimePattern(), is("yyyy-MM-dd"));
+        assertThat(actual.getDatetimeLower(), is("2019-01-01"));
+        assertThat(actual.getDatetimeUpper(), is("2019-12-31"));
+        assertThat(actual.getShardingSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getDatetimeIntervalAmount(), is(1));
+        assertThat(actual.getDatetimeIntervalUnit(), is("MONTHS"));
+    }
+}
@@ -37,4 +37,14 @@ public final class ShardingConstant {
      * </p>
      */
     public static final String LOGIC_SCHEMA_NAME = "logic_db";
+    
+    /**
+     * Default executor type.
+     * 
+     * <p>
+     * Executor with platform thread pool, which is available in all runtimes.
+     * Default: THREAD_POOL
+     * </p>
+     */
+    public static final String DEFAULT_EXECUTOR_TYPE = "THREAD_POOL";
 }
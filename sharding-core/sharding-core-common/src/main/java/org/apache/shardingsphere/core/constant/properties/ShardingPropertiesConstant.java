@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.constant.properties;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.ShardingConstant;
 
 /**
  * Sharding properties constant.
@@ -75,6 +76,18 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Type of executor which executes SQL and proxy commands.
+     * 
+     * <p>
+     * THREAD_POOL: platform thread pool.
+     * VIRTUAL_THREAD: virtual threads, it falls back to THREAD_POOL if JDK does not support virtual threads.
+     * Other types can be added by SPI.
+     * Default: THREAD_POOL
+     * </p>
+     */
+    EXECUTOR_TYPE("executor.type", ShardingConstant.DEFAULT_EXECUTOR_TYPE, String.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -120,7 +133,112 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max entries size of SQL parse cache.
+     * 
+     * <p>
+     * SQL parse result cache and SQL parse template cache will evict least recently used entries when size exceeded.
+     * Default: 65535
+     * </p>
+     */
+    PARSE_CACHE_MAXIMUM_SIZE("parse.cache.maximum.size", String.valueOf(65535), long.class),
+    
+    /**
+     * Expire seconds after last access of SQL parse cache entry.
+     * 
+     * <p>
+     * Default: 0, never expire.
+     * </p>
+     */
+    PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS("parse.cache.expire.after.access.seconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max rows size held in memory for each memory merged result.
+     * 
+     * <p>
+     * Rows exceeded are spilled to sorted temporary files and merged from disk.
+     * Default: 0, unlimited.
+     * </p>
+     */
+    MEMORY_MERGE_MAX_ROWS_SIZE("memory.merge.max.rows.size", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or disable approximate count distinct.
+     * 
+     * <p>
+     * If enabled, count distinct is estimated by HyperLogLog sketches with about 1.6% relative standard error, instead of exact deduplication in memory.
+     * It only works when all distinct aggregations are count distinct.
+     * Default: false
+     * </p>
+     */
+    APPROXIMATE_COUNT_DISTINCT_ENABLED("approximate.count.distinct.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max milliseconds to wait for results of shards executed asynchronously by query.
+     * 
+     * <p>
+     * Shards which are not finished in time are cancelled, and query is failed with timeout.
+     * Default: 0, unlimited.
+     * </p>
+     */
+    QUERY_EXECUTE_TIMEOUT_MILLISECONDS("query.execute.timeout.milliseconds", String.valueOf(0), long.class),
+    
+    /**
+     * Max concurrent executions of each data source in executor.
+     * 
+     * <p>
+     * If enabled, executions are queued by data source and dispatched to executor fairly,
+     * one slow data source cannot occupy all threads of executor.
+     * Default: 0, disabled.
+     * </p>
+     */
+    EXECUTOR_MAX_CONCURRENCY_SIZE_PER_DATASOURCE("executor.max.concurrency.size.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Max queued executions of each data source in executor.
+     * 
+     * <p>
+     * Executions exceeded are rejected, it only works when max concurrency size per data source is enabled.
+     * Default: 0, unlimited.
+     * </p>
+     */
+    EXECUTOR_MAX_QUEUE_SIZE_PER_DATASOURCE("executor.max.queue.size.per.datasource", String.valueOf(0), int.class),
+    
+    /**
+     * Weights of data sources in executor.
+     * 
+     * <p>
+     * Format is {@code data_source_name:weight} separated by comma, e.g. {@code ds_0:2,ds_1:1}.
+     * Data source with weight N can dispatch N executions in each round of scheduling,
+     * it only works when max concurrency size per data source is enabled.
+     * Default: empty, weight of each data source is 1.
+     * </p>
+     */
+    EXECUTOR_WEIGHTS_PER_DATASOURCE("executor.weights.per.datasource", "", String.class),
+    
+    /**
+     * Max rows size prefetched for each stream query result of memory strictly connection mode.
+     * 
+     * <p>
+     * If enabled, rows of each shard are read asynchronously into bounded buffer, merging consumes rows from memory while all shards are streaming.
+     * Connection strictly mode loads all rows into memory while executing, so prefetch is unnecessary for it.
+     * Default: 0, disabled.
+     * </p>
+     */
+    MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE("memory.strictly.prefetch.buffer.size", String.valueOf(0), int.class),
+    
+    /**
+     * Rows size prefetched as one batch for each stream query result of memory strictly connection mode.
+     * 
+     * <p>
+     * Larger depth reduces hand-off between prefetch thread and merging thread, smaller depth lowers latency of first row.
+     * It only works when prefetch buffer size is enabled.
+     * Default: 16
+     * </p>
+     */
+    MEMORY_STRICTLY_PREFETCH_DEPTH("memory.strictly.prefetch.depth", String.valueOf(16), int.class);
     
     private final String key;
     
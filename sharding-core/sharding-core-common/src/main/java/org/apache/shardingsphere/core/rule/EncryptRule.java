@@ -29,9 +29,11 @@ import org.apache.shardingsphere.api.config.encrypt.EncryptTableRuleConfiguratio
 import org.apache.shardingsphere.api.config.encrypt.EncryptorRuleConfiguration;
 import org.apache.shardingsphere.core.spi.algorithm.encrypt.ShardingEncryptorServiceLoader;
 import org.apache.shardingsphere.core.strategy.encrypt.EncryptTable;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorUtil;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -247,13 +249,15 @@ public final class EncryptRule implements BaseRule {
     public List<Object> getEncryptValues(final String logicTable, final String logicColumn, final List<Object> originalValues) {
         final Optional<ShardingEncryptor> shardingEncryptor = findShardingEncryptor(logicTable, logicColumn);
         Preconditions.checkArgument(shardingEncryptor.isPresent(), String.format("Can not find ShardingQueryAssistedEncryptor by %s.%s.", logicTable, logicColumn));
-        return Lists.transform(originalValues, new Function<Object, Object>() {
-            
-            @Override
-            public Object apply(final Object input) {
-                return String.valueOf(shardingEncryptor.get().encrypt(input.toString()));
-            }
-        });
+        List<Object> plaintexts = new ArrayList<>(originalValues.size());
+        for (Object each : originalValues) {
+            plaintexts.add(each.toString());
+        }
+        List<Object> result = new ArrayList<>(originalValues.size());
+        for (String each : ShardingEncryptorUtil.encrypt(shardingEncryptor.get(), plaintexts)) {
+            result.add(String.valueOf(each));
+        }
+        return result;
     }
     
     /**
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding encryptor utility.
+ * 
+ * <p>Encrypt or decrypt in batch if sharding encryptor is {@code ShardingBatchEncryptor}, otherwise value by value.</p>
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingEncryptorUtil {
+    
+    /**
+     * Encrypt values.
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param plaintexts plaintexts
+     * @return ciphertexts in same order with plaintexts
+     */
+    public static List<String> encrypt(final ShardingEncryptor shardingEncryptor, final List<Object> plaintexts) {
+        if (shardingEncryptor instanceof ShardingBatchEncryptor) {
+            return ((ShardingBatchEncryptor) shardingEncryptor).batchEncrypt(plaintexts);
+        }
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(shardingEncryptor.encrypt(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Decrypt values.
+     * 
+     * @param shardingEncryptor sharding encryptor
+     * @param ciphertexts ciphertexts
+     * @return plaintexts in same order with ciphertexts
+     */
+    public static List<Object> decrypt(final ShardingEncryptor shardingEncryptor, final List<String> ciphertexts) {
+        if (shardingEncryptor instanceof ShardingBatchEncryptor) {
+            return ((ShardingBatchEncryptor) shardingEncryptor).batchDecrypt(ciphertexts);
+        }
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        for (String each : ciphertexts) {
+            result.add(shardingEncryptor.decrypt(each));
+        }
+        return result;
+    }
+}
@@ -18,48 +18,95 @@
 package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
-import lombok.Getter;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
+import org.apache.shardingsphere.spi.encrypt.ShardingBatchEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>Secret key is derived once when properties are set, cipher is reused in each thread.</p>
+ * 
+ * <p>Unlike other encryptors, properties are copied in and out, so secret key cannot be stale by changing properties in place.
+ * Changing properties returned by {@link #getProperties()} or passed to {@link #setProperties(Properties)} does not affect this encryptor,
+ * call {@link #setProperties(Properties)} with changed properties instead.</p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
-public final class AESShardingEncryptor implements ShardingEncryptor {
+public final class AESShardingEncryptor implements ShardingBatchEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
     private Properties properties = new Properties();
     
+    private volatile SecretKeySpec secretKey;
+    
+    private final ThreadLocal<Cipher> ciphers = new ThreadLocal<Cipher>() {
+        
+        @Override
+        @SneakyThrows
+        protected Cipher initialValue() {
+            return Cipher.getInstance(getType());
+        }
+    };
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public Properties getProperties() {
+        return copyProperties(properties);
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        Properties copiedProperties = copyProperties(properties);
+        secretKey = null == copiedProperties.get(AES_KEY) ? null : createSecretKey(copiedProperties);
+        this.properties = copiedProperties;
+    }
+    
+    private Properties copyProperties(final Properties properties) {
+        Properties result = new Properties();
+        result.putAll(properties);
+        return result;
+    }
+    
     @Override
     public void init() {
+        secretKey = null == properties.get(AES_KEY) ? null : createSecretKey(properties);
     }
     
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        return encrypt(getCipher(Cipher.ENCRYPT_MODE), plaintext);
+    }
+    
+    @Override
+    @SneakyThrows
+    public List<String> batchEncrypt(final List<Object> plaintexts) {
+        Cipher cipher = getCipher(Cipher.ENCRYPT_MODE);
+        List<String> result = new ArrayList<>(plaintexts.size());
+        for (Object each : plaintexts) {
+            result.add(encrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    private String encrypt(final Cipher cipher, final Object plaintext) throws GeneralSecurityException {
+        byte[] result = cipher.doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -69,19 +116,50 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        return decrypt(getCipher(Cipher.DECRYPT_MODE), ciphertext);
+    }
+    
+    @Override
+    @SneakyThrows
+    public List<Object> batchDecrypt(final List<String> ciphertexts) {
+        List<Object> result = new ArrayList<>(ciphertexts.size());
+        Cipher cipher = null;
+        for (String each : ciphertexts) {
+            if (null == each) {
+                result.add(null);
+                continue;
+            }
+            if (null == cipher) {
+                cipher = getCipher(Cipher.DECRYPT_MODE);
+            }
+            result.add(decrypt(cipher, each));
+        }
+        return result;
+    }
+    
+    private Object decrypt(final Cipher cipher, final String ciphertext) throws GeneralSecurityException {
+        byte[] result = cipher.doFinal(Base64.decodeBase64(ciphertext));
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+        Cipher result = ciphers.get();
+        result.init(decryptMode, getSecretKey());
+        return result;
+    }
+    
+    private SecretKeySpec getSecretKey() {
+        SecretKeySpec result = secretKey;
+        if (null == result) {
+            result = createSecretKey(properties);
+            secretKey = result;
+        }
         return result;
     }
     
-    private byte[] createSecretKey() {
+    private SecretKeySpec createSecretKey(final Properties properties) {
+        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
-        return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
+        return new SecretKeySpec(Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16), getType());
     }
 }
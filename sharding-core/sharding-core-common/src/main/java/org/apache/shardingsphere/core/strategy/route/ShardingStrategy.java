@@ -43,4 +43,11 @@ public interface ShardingStrategy {
      * @return sharding results for data sources or tables's names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, Collection<RouteValue> shardingValues);
+    
+    /**
+     * Judge whether range sharding values of compare predicates can be evaluated.
+     *
+     * @return range sharding is supported or not
+     */
+    boolean isRangeShardingSupported();
 }
@@ -74,4 +74,9 @@ public final class ComplexShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isRangeShardingSupported() {
+        return false;
+    }
 }
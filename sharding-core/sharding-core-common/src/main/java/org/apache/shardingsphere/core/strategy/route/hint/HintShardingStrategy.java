@@ -57,4 +57,9 @@ public final class HintShardingStrategy implements ShardingStrategy {
         result.addAll(shardingResult);
         return result;
     }
+    
+    @Override
+    public boolean isRangeShardingSupported() {
+        return false;
+    }
 }
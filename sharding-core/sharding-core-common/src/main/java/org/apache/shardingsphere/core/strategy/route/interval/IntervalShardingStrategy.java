@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.interval;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interval sharding strategy.
+ * 
+ * <p>
+ * Interval boundaries are computed once from configuration, so precise sharding value is located by binary search, 
+ * and range sharding value is located by a slice of intervals.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class IntervalShardingStrategy implements ShardingStrategy {
+    
+    private static final Map<String, Integer> CALENDAR_FIELDS = new HashMap<>(7, 1);
+    
+    private final String shardingColumn;
+    
+    private final ThreadLocal<DateFormat> datetimeFormats;
+    
+    private final long[] boundaries;
+    
+    private final Multimap<String, Integer> suffixIndexes = ArrayListMultimap.create();
+    
+    private final Collection<Integer> suffixLengths = new TreeSet<>();
+    
+    private final ConcurrentMap<Collection<String>, String[]> intervalTargetNames = new MapMaker().weakKeys().makeMap();
+    
+    static {
+        CALENDAR_FIELDS.put("YEARS", Calendar.YEAR);
+        CALENDAR_FIELDS.put("MONTHS", Calendar.MONTH);
+        CALENDAR_FIELDS.put("WEEKS", Calendar.WEEK_OF_YEAR);
+        CALENDAR_FIELDS.put("DAYS", Calendar.DAY_OF_MONTH);
+        CALENDAR_FIELDS.put("HOURS", Calendar.HOUR_OF_DAY);
+        CALENDAR_FIELDS.put("MINUTES", Calendar.MINUTE);
+        CALENDAR_FIELDS.put("SECONDS", Calendar.SECOND);
+    }
+    
+    public IntervalShardingStrategy(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig) {
+        Integer calendarField = CALENDAR_FIELDS.get(intervalShardingStrategyConfig.getDatetimeIntervalUnit().toUpperCase());
+        Preconditions.checkArgument(null != calendarField, "Unsupported datetime interval unit `%s`.", intervalShardingStrategyConfig.getDatetimeIntervalUnit());
+        shardingColumn = intervalShardingStrategyConfig.getShardingColumn();
+        final String datetimePattern = intervalShardingStrategyConfig.getDatetimePattern();
+        datetimeFormats = new ThreadLocal<DateFormat>() {
+            
+            @Override
+            protected DateFormat initialValue() {
+                return new SimpleDateFormat(datetimePattern);
+            }
+        };
+        boundaries = createBoundaries(intervalShardingStrategyConfig, calendarField);
+    }
+    
+    private long[] createBoundaries(final IntervalShardingStrategyConfiguration intervalShardingStrategyConfig, final int calendarField) {
+        long lower = parseConfiguredDatetime(intervalShardingStrategyConfig.getDatetimeLower());
+        long upper = parseConfiguredDatetime(intervalShardingStrategyConfig.getDatetimeUpper());
+        Preconditions.checkArgument(lower <= upper, "DatetimeLower `%s` cannot be after datetimeUpper `%s`.", 
+                intervalShardingStrategyConfig.getDatetimeLower(), intervalShardingStrategyConfig.getDatetimeUpper());
+        DateFormat suffixFormat = new SimpleDateFormat(intervalShardingStrategyConfig.getShardingSuffixPattern());
+        List<Long> result = new ArrayList<>();
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(lower);
+        while (calendar.getTimeInMillis() <= upper) {
+            String suffix = suffixFormat.format(calendar.getTime());
+            suffixIndexes.put(suffix, result.size());
+            suffixLengths.add(suffix.length());
+            result.add(calendar.getTimeInMillis());
+            calendar.add(calendarField, intervalShardingStrategyConfig.getDatetimeIntervalAmount());
+        }
+        result.add(calendar.getTimeInMillis());
+        long[] boundaries = new long[result.size()];
+        for (int i = 0; i < boundaries.length; i++) {
+            boundaries[i] = result.get(i);
+        }
+        return boundaries;
+    }
+    
+    private long parseConfiguredDatetime(final String datetime) {
+        try {
+            return datetimeFormats.get().parse(datetime).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingConfigurationException(ex);
+        }
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
+        RouteValue shardingValue = shardingValues.iterator().next();
+        String[] targetNames = getIntervalTargetNames(availableTargetNames);
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        if (shardingValue instanceof ListRouteValue) {
+            for (Comparable<?> each : ((ListRouteValue<?>) shardingValue).getValues()) {
+                int index = findIntervalIndex(getTime(each));
+                if (index >= 0 && index < targetNames.length && null != targetNames[index]) {
+                    result.add(targetNames[index]);
+                }
+            }
+            return result;
+        }
+        Range<?> range = ((RangeRouteValue<?>) shardingValue).getValueRange();
+        int endIndex = range.hasUpperBound() ? getEndIndex(range) : targetNames.length - 1;
+        for (int i = range.hasLowerBound() ? Math.max(findIntervalIndex(getTime(range.lowerEndpoint())), 0) : 0; i <= endIndex; i++) {
+            if (null != targetNames[i]) {
+                result.add(targetNames[i]);
+            }
+        }
+        return result;
+    }
+    
+    private String[] getIntervalTargetNames(final Collection<String> availableTargetNames) {
+        String[] result = intervalTargetNames.get(availableTargetNames);
+        if (null == result) {
+            result = createIntervalTargetNames(availableTargetNames);
+            intervalTargetNames.put(availableTargetNames, result);
+        }
+        return result;
+    }
+    
+    private String[] createIntervalTargetNames(final Collection<String> availableTargetNames) {
+        String[] result = new String[boundaries.length - 1];
+        for (String each : availableTargetNames) {
+            for (int suffixLength : suffixLengths) {
+                if (each.length() < suffixLength) {
+                    break;
+                }
+                for (int index : suffixIndexes.get(each.substring(each.length() - suffixLength))) {
+                    if (null == result[index]) {
+                        result[index] = each;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+    
+    private int getEndIndex(final Range<?> range) {
+        long upper = getTime(range.upperEndpoint());
+        int result = Math.min(findIntervalIndex(upper), boundaries.length - 2);
+        return result >= 0 && BoundType.OPEN == range.upperBoundType() && boundaries[result] == upper ? result - 1 : result;
+    }
+    
+    private int findIntervalIndex(final long time) {
+        int result = Arrays.binarySearch(boundaries, time);
+        return result >= 0 ? result : -result - 2;
+    }
+    
+    private long getTime(final Comparable<?> shardingValue) {
+        if (shardingValue instanceof Date) {
+            return ((Date) shardingValue).getTime();
+        }
+        try {
+            return datetimeFormats.get().parse(shardingValue.toString()).getTime();
+        } catch (final ParseException ex) {
+            throw new ShardingException("Cannot parse sharding value `%s` of column `%s` as datetime.", shardingValue, shardingColumn);
+        }
+    }
+    
+    @Override
+    public boolean isRangeShardingSupported() {
+        return true;
+    }
+    
+    @Override
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        result.add(shardingColumn);
+        return result;
+    }
+}
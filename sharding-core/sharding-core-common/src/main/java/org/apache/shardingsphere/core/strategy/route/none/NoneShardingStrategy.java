@@ -38,4 +38,9 @@ public final class NoneShardingStrategy implements ShardingStrategy {
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final Collection<RouteValue> shardingValues) {
         return availableTargetNames;
     }
+    
+    @Override
+    public boolean isRangeShardingSupported() {
+        return false;
+    }
 }
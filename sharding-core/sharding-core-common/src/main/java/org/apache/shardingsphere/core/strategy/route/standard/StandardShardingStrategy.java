@@ -84,6 +84,11 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         return result;
     }
     
+    @Override
+    public boolean isRangeShardingSupported() {
+        return null != rangeShardingAlgorithm;
+    }
+    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Evaluate inline expression which only reference one variable with plain java,
+ * the arithmetic follows groovy number math to keep same result with groovy closure.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpression {
+    
+    private final String variableName;
+    
+    private final List<String> literals;
+    
+    private final List<Operand> operands;
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variableName variable name
+     * @param value value of variable
+     * @return evaluated result, absent if variable or type of value is unsupported to evaluate without groovy
+     */
+    public Optional<String> evaluate(final String variableName, final Object value) {
+        if (!this.variableName.equals(variableName)) {
+            return Optional.absent();
+        }
+        StringBuilder result = new StringBuilder();
+        try {
+            for (int i = 0; i < operands.size(); i++) {
+                result.append(literals.get(i)).append(operands.get(i).evaluate(value));
+            }
+        } catch (final UnsupportedOperationException ignored) {
+            return Optional.absent();
+        }
+        result.append(literals.get(operands.size()));
+        return Optional.of(result.toString());
+    }
+    
+    /**
+     * Operand of compiled inline expression.
+     */
+    interface Operand {
+        
+        /**
+         * Evaluate operand.
+         * 
+         * @param value value of variable
+         * @return evaluated result
+         * @throws UnsupportedOperationException type of value is unsupported
+         */
+        Object evaluate(Object value);
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.util.CompiledInlineExpression.Operand;
+import org.codehaus.groovy.runtime.typehandling.NumberMath;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inline expression compiler.
+ * 
+ * <p>
+ * Only literal text and placeholders composed of the variable, integer literals, {@code + - * / %}, parentheses,
+ * {@code hashCode()}, {@code abs()}, {@code intValue()}, {@code longValue()}, {@code toString()}, {@code intdiv()}, {@code mod()} and {@code Math.abs()} are compiled,
+ * other inline expressions should be evaluated by groovy.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+final class InlineExpressionCompiler {
+    
+    private final String inlineExpression;
+    
+    private final String variableName;
+    
+    private List<String> tokens;
+    
+    private int position;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @return compiled inline expression, absent if inline expression is unsupported to compile
+     */
+    Optional<CompiledInlineExpression> compile() {
+        List<String> literals = new ArrayList<>();
+        List<Operand> operands = new ArrayList<>();
+        int start = 0;
+        while (true) {
+            int placeholderStart = inlineExpression.indexOf("${", start);
+            String literal = inlineExpression.substring(start, -1 == placeholderStart ? inlineExpression.length() : placeholderStart);
+            if (!isPlainLiteral(literal)) {
+                return Optional.absent();
+            }
+            literals.add(literal);
+            if (-1 == placeholderStart) {
+                break;
+            }
+            int placeholderStop = inlineExpression.indexOf('}', placeholderStart);
+            if (-1 == placeholderStop) {
+                return Optional.absent();
+            }
+            Optional<Operand> operand = compileOperand(inlineExpression.substring(placeholderStart + 2, placeholderStop));
+            if (!operand.isPresent()) {
+                return Optional.absent();
+            }
+            operands.add(operand.get());
+            start = placeholderStop + 1;
+        }
+        return Optional.of(new CompiledInlineExpression(variableName, literals, operands));
+    }
+    
+    private boolean isPlainLiteral(final String literal) {
+        return !literal.contains("$") && !literal.contains("\"") && !literal.contains("\\");
+    }
+    
+    private Optional<Operand> compileOperand(final String expression) {
+        try {
+            tokens = tokenize(expression);
+            position = 0;
+            Operand result = parseAdditive();
+            return position == tokens.size() ? Optional.of(result) : Optional.<Operand>absent();
+        } catch (final IllegalArgumentException ignored) {
+            return Optional.absent();
+        }
+    }
+    
+    private List<String> tokenize(final String expression) {
+        List<String> result = new ArrayList<>();
+        int index = 0;
+        while (index < expression.length()) {
+            char each = expression.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+            } else if (Character.isDigit(each)) {
+                int stop = index;
+                while (stop < expression.length() && Character.isDigit(expression.charAt(stop))) {
+                    stop++;
+                }
+                if (stop < expression.length() && ('.' == expression.charAt(stop) || Character.isLetter(expression.charAt(stop)))) {
+                    throw new IllegalArgumentException("Unsupported number literal.");
+                }
+                result.add(expression.substring(index, stop));
+                index = stop;
+            } else if (Character.isLetter(each) || '_' == each) {
+                int stop = index;
+                while (stop < expression.length() && (Character.isLetterOrDigit(expression.charAt(stop)) || '_' == expression.charAt(stop))) {
+                    stop++;
+                }
+                result.add(expression.substring(index, stop));
+                index = stop;
+            } else if (-1 != "+-*/%().,".indexOf(each)) {
+                result.add(String.valueOf(each));
+                index++;
+            } else {
+                throw new IllegalArgumentException(String.format("Unsupported character `%s`.", each));
+            }
+        }
+        return result;
+    }
+    
+    private Operand parseAdditive() {
+        Operand result = parseMultiplicative();
+        while (isNextToken("+") || isNextToken("-")) {
+            result = new BinaryOperand(nextToken().charAt(0), result, parseMultiplicative());
+        }
+        return result;
+    }
+    
+    private Operand parseMultiplicative() {
+        Operand result = parseUnary();
+        while (isNextToken("*") || isNextToken("/") || isNextToken("%")) {
+            result = new BinaryOperand(nextToken().charAt(0), result, parseUnary());
+        }
+        return result;
+    }
+    
+    private Operand parseUnary() {
+        if (isNextToken("-")) {
+            nextToken();
+            return new MethodOperand("unaryMinus", parseUnary(), null);
+        }
+        Operand result = parsePrimary();
+        while (isNextToken(".")) {
+            nextToken();
+            String methodName = nextToken();
+            acceptToken("(");
+            if (isNextToken(")")) {
+                nextToken();
+                result = new MethodOperand(methodName, result, null);
+            } else {
+                Operand argument = parseAdditive();
+                acceptToken(")");
+                result = new MethodOperand(methodName, result, argument);
+            }
+            ((MethodOperand) result).checkMethod();
+        }
+        return result;
+    }
+    
+    private Operand parsePrimary() {
+        String token = nextToken();
+        if ("(".equals(token)) {
+            Operand result = parseAdditive();
+            acceptToken(")");
+            return result;
+        }
+        if (Character.isDigit(token.charAt(0))) {
+            return new ConstantOperand(createNumber(token));
+        }
+        if (variableName.equals(token)) {
+            return new VariableOperand();
+        }
+        if ("Math".equals(token)) {
+            acceptToken(".");
+            acceptToken("abs");
+            acceptToken("(");
+            Operand result = parseAdditive();
+            acceptToken(")");
+            return new MethodOperand("Math.abs", result, null);
+        }
+        throw new IllegalArgumentException(String.format("Unsupported token `%s`.", token));
+    }
+    
+    private Number createNumber(final String literal) {
+        BigInteger result = new BigInteger(literal);
+        if (result.bitLength() < Integer.SIZE) {
+            return result.intValue();
+        }
+        if (result.bitLength() < Long.SIZE) {
+            return result.longValue();
+        }
+        return result;
+    }
+    
+    private boolean isNextToken(final String token) {
+        return position < tokens.size() && token.equals(tokens.get(position));
+    }
+    
+    private String nextToken() {
+        if (position >= tokens.size()) {
+            throw new IllegalArgumentException("Unexpected end of expression.");
+        }
+        return tokens.get(position++);
+    }
+    
+    private void acceptToken(final String token) {
+        if (!token.equals(nextToken())) {
+            throw new IllegalArgumentException(String.format("Expected token `%s`.", token));
+        }
+    }
+    
+    private static Number toNumber(final Object value) {
+        if (value instanceof Number) {
+            return (Number) value;
+        }
+        throw new UnsupportedOperationException(String.format("Unsupported type `%s`.", null == value ? null : value.getClass().getName()));
+    }
+    
+    private static final class VariableOperand implements Operand {
+        
+        @Override
+        public Object evaluate(final Object value) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantOperand implements Operand {
+        
+        private final Object constant;
+        
+        @Override
+        public Object evaluate(final Object value) {
+            return constant;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryOperand implements Operand {
+        
+        private final char operator;
+        
+        private final Operand left;
+        
+        private final Operand right;
+        
+        @Override
+        public Object evaluate(final Object value) {
+            Object leftValue = left.evaluate(value);
+            Object rightValue = right.evaluate(value);
+            switch (operator) {
+                case '+':
+                    return plus(leftValue, rightValue);
+                case '-':
+                    return NumberMath.subtract(toNumber(leftValue), toNumber(rightValue));
+                case '*':
+                    return NumberMath.multiply(toNumber(leftValue), toNumber(rightValue));
+                case '/':
+                    return NumberMath.divide(toNumber(leftValue), toNumber(rightValue));
+                case '%':
+                    return NumberMath.mod(toNumber(leftValue), toNumber(rightValue));
+                default:
+                    throw new UnsupportedOperationException(String.format("Unsupported operator `%s`.", operator));
+            }
+        }
+        
+        private Object plus(final Object leftValue, final Object rightValue) {
+            if (leftValue instanceof Number && rightValue instanceof Number) {
+                return NumberMath.add((Number) leftValue, (Number) rightValue);
+            }
+            if ((leftValue instanceof String || leftValue instanceof Number) && (rightValue instanceof String || rightValue instanceof Number)) {
+                return leftValue.toString() + rightValue.toString();
+            }
+            throw new UnsupportedOperationException("Unsupported plus operation.");
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class MethodOperand implements Operand {
+        
+        private final String methodName;
+        
+        private final Operand target;
+        
+        private final Operand argument;
+        
+        private void checkMethod() {
+            boolean withArgument = null != argument;
+            if (withArgument != ("intdiv".equals(methodName) || "mod".equals(methodName))) {
+                throw new IllegalArgumentException(String.format("Unsupported method `%s`.", methodName));
+            }
+            if (!withArgument && !"hashCode".equals(methodName) && !"abs".equals(methodName)
+                    && !"intValue".equals(methodName) && !"longValue".equals(methodName) && !"toString".equals(methodName)) {
+                throw new IllegalArgumentException(String.format("Unsupported method `%s`.", methodName));
+            }
+        }
+        
+        @Override
+        public Object evaluate(final Object value) {
+            Object targetValue = target.evaluate(value);
+            switch (methodName) {
+                case "hashCode":
+                    return toObject(targetValue).hashCode();
+                case "toString":
+                    return toObject(targetValue).toString();
+                case "abs":
+                    return NumberMath.abs(toNumber(targetValue));
+                case "unaryMinus":
+                    return NumberMath.unaryMinus(toNumber(targetValue));
+                case "intValue":
+                    return toNumber(targetValue).intValue();
+                case "longValue":
+                    return toNumber(targetValue).longValue();
+                case "intdiv":
+                    return NumberMath.intdiv(toNumber(targetValue), toNumber(argument.evaluate(value)));
+                case "mod":
+                    return NumberMath.mod(toNumber(targetValue), toNumber(argument.evaluate(value)));
+                case "Math.abs":
+                    return mathAbs(targetValue);
+                default:
+                    throw new UnsupportedOperationException(String.format("Unsupported method `%s`.", methodName));
+            }
+        }
+        
+        private Object toObject(final Object targetValue) {
+            if (null == targetValue) {
+                throw new UnsupportedOperationException("Unsupported null value.");
+            }
+            return targetValue;
+        }
+        
+        private Object mathAbs(final Object targetValue) {
+            if (targetValue instanceof Integer || targetValue instanceof Short || targetValue instanceof Byte) {
+                return Math.abs(((Number) targetValue).intValue());
+            }
+            if (targetValue instanceof Long) {
+                return Math.abs((Long) targetValue);
+            }
+            throw new UnsupportedOperationException("Unsupported Math.abs operation.");
+        }
+    }
+}
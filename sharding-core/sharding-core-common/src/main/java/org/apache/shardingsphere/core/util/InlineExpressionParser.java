@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -83,6 +84,16 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile inline expression which only reference one variable.
+     * 
+     * @param variableName variable name
+     * @return compiled inline expression, absent if inline expression should be evaluated by closure
+     */
+    public Optional<CompiledInlineExpression> compile(final String variableName) {
+        return new InlineExpressionCompiler(handlePlaceHolder(inlineExpression), variableName).compile();
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
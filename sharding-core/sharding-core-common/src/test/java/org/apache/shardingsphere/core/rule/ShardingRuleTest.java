@@ -26,6 +26,7 @@ import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrate
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.config.ShardingConfigurationException;
 import org.apache.shardingsphere.core.fixture.PreciseShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.fixture.RangeShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenerator;
 import org.apache.shardingsphere.core.strategy.keygen.fixture.IncrementShardingKeyGenerator;
 import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
@@ -97,6 +98,17 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findTableRuleByActualTable("Sub_Table_1").get().getLogicTable(), is("sub_logic_table"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNames() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("TABLE_0"), CoreMatchers.<Collection<String>>is(Collections.singletonList("logic_table")));
+        assertTrue(createMaximumShardingRule().getLogicTableNames("table_3").isEmpty());
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -268,6 +280,42 @@ public final class ShardingRuleTest {
         assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn("column", "other_Table"));
     }
     
+    @Test
+    public void assertIsRangeShardingColumnWithRangeShardingAlgorithm() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithAllStrategies();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(
+                new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture(), new RangeShardingAlgorithmFixture()));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        assertTrue(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isRangeShardingColumn("column", "logic_Table"));
+    }
+    
+    @Test
+    public void assertIsNotRangeShardingColumnWithoutRangeShardingAlgorithm() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isRangeShardingColumn("column", "logic_Table"));
+    }
+    
+    @Test
+    public void assertIsNotRangeShardingColumnWithInlineShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithAllStrategies();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("column", "ds_${column % 2}"));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isRangeShardingColumn("column", "logic_Table"));
+    }
+    
+    @Test
+    public void assertIsNotRangeShardingColumnForNotShardingColumn() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        TableRuleConfiguration tableRuleConfig = createTableRuleConfigWithAllStrategies();
+        tableRuleConfig.setDatabaseShardingStrategyConfig(
+                new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture(), new RangeShardingAlgorithmFixture()));
+        shardingRuleConfig.getTableRuleConfigs().add(tableRuleConfig);
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isRangeShardingColumn("other_column", "logic_Table"));
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.encrypt;
+
+import org.apache.shardingsphere.core.strategy.encrypt.impl.AESShardingEncryptor;
+import org.apache.shardingsphere.core.strategy.encrypt.impl.MD5ShardingEncryptor;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ShardingEncryptorUtilTest {
+    
+    @Test
+    public void assertEncryptWithBatchEncryptor() {
+        AESShardingEncryptor shardingEncryptor = new AESShardingEncryptor();
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "test");
+        shardingEncryptor.setProperties(properties);
+        assertThat(ShardingEncryptorUtil.encrypt(shardingEncryptor, Arrays.<Object>asList("test", 1)), is(Arrays.asList(shardingEncryptor.encrypt("test"), shardingEncryptor.encrypt(1))));
+        assertThat(ShardingEncryptorUtil.decrypt(shardingEncryptor, Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==")), is(Arrays.<Object>asList("test")));
+    }
+    
+    @Test
+    public void assertEncryptWithoutBatchEncryptor() {
+        MD5ShardingEncryptor shardingEncryptor = new MD5ShardingEncryptor();
+        assertThat(ShardingEncryptorUtil.encrypt(shardingEncryptor, Arrays.<Object>asList("test", 1)), is(Arrays.asList("098f6bcd4621d373cade4e832627b4f6", "c4ca4238a0b923820dcc509a6f75849b")));
+        assertThat(ShardingEncryptorUtil.decrypt(shardingEncryptor, Arrays.asList("test")), is(Arrays.<Object>asList("test")));
+    }
+}
@@ -20,9 +20,12 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -59,6 +62,44 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertEncodeAfterInit() {
+        encryptor.init();
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertBatchEncode() {
+        assertThat(encryptor.batchEncrypt(Arrays.<Object>asList("test", "test")), is(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", "dSpPiyENQGDUXMKFMJPGWA==")));
+    }
+    
+    @Test
+    public void assertBatchDecode() {
+        assertThat(encryptor.batchDecrypt(Arrays.asList("dSpPiyENQGDUXMKFMJPGWA==", null)), is(Arrays.<Object>asList("test", null)));
+    }
+    
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        encryptor.init();
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.batchEncrypt(Collections.<Object>singletonList("test")).get(0), is(encryptor.encrypt("test")));
+    }
+    
+    @Test
+    public void assertEncodeAfterPropertiesChangedInPlace() {
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "test");
+        encryptor.setProperties(properties);
+        properties.setProperty("aes.key.value", "other");
+        encryptor.getProperties().setProperty("aes.key.value", "other");
+        assertThat(encryptor.getProperties().get("aes.key.value").toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
     @Test
     public void assertDecodeWithNull() {
         assertNull(encryptor.decrypt(null));
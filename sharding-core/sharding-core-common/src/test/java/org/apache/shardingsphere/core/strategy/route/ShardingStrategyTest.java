@@ -21,11 +21,15 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
+import org.apache.shardingsphere.core.strategy.route.inline.InlineShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.interval.IntervalShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
@@ -38,7 +42,9 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ShardingStrategyTest {
     
@@ -58,6 +64,77 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1")));
     }
     
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertDoShardingForRangeSingleKeyWithoutRangeShardingAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture()));
+        strategy.doSharding(targets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("column", "logicTable", Range.greaterThan(1))));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertDoShardingForRangeSingleKeyWithInlineStrategy() {
+        InlineShardingStrategy strategy = new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "${column % 3 + 1}"));
+        strategy.doSharding(targets, Collections.<RouteValue>singletonList(new RangeRouteValue<>("column", "logicTable", Range.atMost(1))));
+    }
+    
+    @Test
+    public void assertIsRangeShardingSupportedWithRangeShardingAlgorithm() {
+        assertTrue(new StandardShardingStrategy(
+                new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture(), new RangeShardingAlgorithmFixture())).isRangeShardingSupported());
+    }
+    
+    @Test
+    public void assertIsRangeShardingSupportedWithoutRangeShardingAlgorithm() {
+        assertFalse(new StandardShardingStrategy(new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture())).isRangeShardingSupported());
+    }
+    
+    @Test
+    public void assertIsRangeShardingSupportedWithInlineStrategy() {
+        assertFalse(new InlineShardingStrategy(new InlineShardingStrategyConfiguration("column", "${column % 3 + 1}")).isRangeShardingSupported());
+    }
+    
+    @Test
+    public void assertIsRangeShardingSupportedWithComplexStrategy() {
+        assertFalse(new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column1, column2", new ComplexKeysShardingAlgorithmFixture())).isRangeShardingSupported());
+    }
+    
+    @Test
+    public void assertIsRangeShardingSupportedWithIntervalStrategy() {
+        assertTrue(createIntervalShardingStrategy().isRangeShardingSupported());
+    }
+    
+    @Test
+    public void assertDoShardingForListSingleKeyWithIntervalStrategy() {
+        IntervalShardingStrategy strategy = createIntervalShardingStrategy();
+        assertThat(strategy.doSharding(createIntervalTargets(), Collections.<RouteValue>singletonList(
+                new ListRouteValue<>("create_time", "t_order", Lists.newArrayList("2019-01-31 23:59:59", "2019-03-01 00:00:00", "2018-12-31 00:00:00")))), 
+                is((Collection<String>) Sets.newHashSet("t_order_201901", "t_order_201903")));
+    }
+    
+    @Test
+    public void assertDoShardingForRangeSingleKeyWithIntervalStrategy() {
+        IntervalShardingStrategy strategy = createIntervalShardingStrategy();
+        assertThat(strategy.doSharding(createIntervalTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.closedOpen("2019-02-15 00:00:00", "2019-04-01 00:00:00")))), 
+                is((Collection<String>) Sets.newHashSet("t_order_201902", "t_order_201903")));
+        assertThat(strategy.doSharding(createIntervalTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.atLeast("2019-04-01 00:00:00")))), 
+                is((Collection<String>) Sets.newHashSet("t_order_201904")));
+        assertThat(strategy.doSharding(createIntervalTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.lessThan("2019-02-01 00:00:00")))), 
+                is((Collection<String>) Sets.newHashSet("t_order_201901")));
+        assertThat(strategy.doSharding(createIntervalTargets(), Collections.<RouteValue>singletonList(
+                new RangeRouteValue<>("create_time", "t_order", Range.atLeast("2020-01-01 00:00:00")))).isEmpty(), is(true));
+    }
+    
+    private IntervalShardingStrategy createIntervalShardingStrategy() {
+        return new IntervalShardingStrategy(
+                new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "2019-01-01 00:00:00", "2019-04-30 23:59:59", "yyyyMM", 1, "MONTHS"));
+    }
+    
+    private Collection<String> createIntervalTargets() {
+        return Sets.newHashSet("t_order_201901", "t_order_201902", "t_order_201903", "t_order_201904");
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column1, column2", new ComplexKeysShardingAlgorithmFixture()));
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    private static final Object[] VALUES = {0, 7, -7, Integer.MAX_VALUE, 123456789012L, -123456789012L, new BigDecimal("12.5"), "order_1", "", (short) 3};
+    
+    @Test
+    public void assertEvaluateSameAsClosure() {
+        for (String each : Arrays.asList("ds_${id % 4}", "t_order_${id.hashCode() % 16}", "t_order_${Math.abs(id.hashCode()) % 16}", "t_${id}",
+                "t_${(id / 10) % 2}", "t_${id.intdiv(10) % 2}", "t_${id.abs() % 3}_${id - 1 * 2}", "t_${-id % 5}", "t_${id.mod(4)}", "t_${id.longValue() % 3}",
+                "t_${id.intValue() % 3}", "t_${id + 1}", "t_${id.toString()}", "${id % 4}", "t_$->{id % 4}_x")) {
+            assertEvaluateSameAsClosure(each);
+        }
+    }
+    
+    private void assertEvaluateSameAsClosure(final String inlineExpression) {
+        String expression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+        Optional<CompiledInlineExpression> compiledExpression = new InlineExpressionParser(expression).compile("id");
+        assertTrue(inlineExpression, compiledExpression.isPresent());
+        Closure<?> closure = new InlineExpressionParser(expression).evaluateClosure();
+        for (Object each : VALUES) {
+            Optional<String> actual = compiledExpression.get().evaluate("id", each);
+            if (actual.isPresent()) {
+                assertThat(inlineExpression + " with " + each, actual.get(), is(evaluateClosure(closure, each)));
+            }
+        }
+    }
+    
+    private String evaluateClosure(final Closure<?> closure, final Object value) {
+        Closure<?> result = closure.rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        result.setProperty("id", value);
+        return result.call().toString();
+    }
+    
+    @Test
+    public void assertEvaluateIntegerModulo() {
+        CompiledInlineExpression compiledExpression = new InlineExpressionParser("ds_${id % 4}").compile("id").get();
+        assertThat(compiledExpression.evaluate("id", 10).get(), is("ds_2"));
+        assertThat(compiledExpression.evaluate("id", 11L).get(), is("ds_3"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression compiledExpression = new InlineExpressionParser("ds_${id % 4}").compile("id").get();
+        assertFalse(compiledExpression.evaluate("id", "10").isPresent());
+        assertFalse(compiledExpression.evaluate("id", new Date()).isPresent());
+        assertFalse(compiledExpression.evaluate("ID", 10).isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        for (String each : Arrays.asList("t_${[0, 1]}", "t_${id > 1 ? 1 : 0}", "t_${other % 2}", "t_${id.substring(1)}", "t_${id % 4L}", "t_$id", "t_${id % 4", "t_${'x'}", "t_${id.hashCode(1)}")) {
+            assertFalse(each, new InlineExpressionParser(each).compile("id").isPresent());
+        }
+    }
+}
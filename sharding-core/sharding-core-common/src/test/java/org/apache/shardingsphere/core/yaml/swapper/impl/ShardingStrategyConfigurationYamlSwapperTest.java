@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.yaml.swapper.impl;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.HintShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.IntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.sharding.complex.ComplexKeysShardingAlgorithm;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.core.yaml.config.sharding.YamlShardingStrategyC
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlHintShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlInlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlIntervalShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlNoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.yaml.config.sharding.strategy.YamlStandardShardingStrategyConfiguration;
 import org.junit.Test;
@@ -73,6 +75,21 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         assertNull(actual.getNone());
     }
     
+    @Test
+    public void assertSwapToYamlWithInterval() {
+        YamlShardingStrategyConfiguration actual = shardingStrategyConfigurationYamlSwapper.swap(
+                new IntervalShardingStrategyConfiguration("create_time", "yyyy-MM-dd HH:mm:ss", "2019-01-01 00:00:00", "2019-12-31 23:59:59", "yyyyMM", 1, "MONTHS"));
+        assertThat(actual.getInterval().getShardingColumn(), is("create_time"));
+        assertThat(actual.getInterval().getDatetimePattern(), is("yyyy-MM-dd HH:mm:ss"));
+        assertThat(actual.getInterval().getDatetimeLower(), is("2019-01-01 00:00:00"));
+        assertThat(actual.getInterval().getDatetimeUpper(), is("2019-12-31 23:59:59"));
+        assertThat(actual.getInterval().getShardingSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getInterval().getDatetimeIntervalAmount(), is(1));
+        assertThat(actual.getInterval().getDatetimeIntervalUnit(), is("MONTHS"));
+        assertNull(actual.getStandard());
+        assertNull(actual.getInline());
+    }
+    
     @Test
     public void assertSwapToYamlWithComplex() {
         ComplexKeysShardingAlgorithm complexKeysShardingAlgorithm = mock(ComplexKeysShardingAlgorithm.class);
@@ -150,6 +167,24 @@ public final class ShardingStrategyConfigurationYamlSwapperTest {
         return result;
     }
     
+    @Test
+    public void assertSwapToObjectWithInterval() {
+        YamlIntervalShardingStrategyConfiguration yamlIntervalShardingStrategyConfiguration = new YamlIntervalShardingStrategyConfiguration();
+        yamlIntervalShardingStrategyConfiguration.setShardingColumn("create_time");
+        yamlIntervalShardingStrategyConfiguration.setDatetimePattern("yyyy-MM-dd HH:mm:ss");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeLower("2019-01-01 00:00:00");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeUpper("2019-12-31 23:59:59");
+        yamlIntervalShardingStrategyConfiguration.setShardingSuffixPattern("yyyyMM");
+        yamlIntervalShardingStrategyConfiguration.setDatetimeIntervalUnit("MONTHS");
+        YamlShardingStrategyConfiguration yamlConfiguration = new YamlShardingStrategyConfiguration();
+        yamlConfiguration.setInterval(yamlIntervalShardingStrategyConfiguration);
+        IntervalShardingStrategyConfiguration actual = (IntervalShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(yamlConfiguration);
+        assertThat(actual.getShardingColumn(), is("create_time"));
+        assertThat(actual.getShardingSuffixPattern(), is("yyyyMM"));
+        assertThat(actual.getDatetimeIntervalAmount(), is(1));
+        assertThat(actual.getDatetimeIntervalUnit(), is("MONTHS"));
+    }
+    
     @Test
     public void assertSwapToObjectWithComplex() {
         ComplexShardingStrategyConfiguration actual = (ComplexShardingStrategyConfiguration) shardingStrategyConfigurationYamlSwapper.swap(createComplexShardingStrategyConfiguration());
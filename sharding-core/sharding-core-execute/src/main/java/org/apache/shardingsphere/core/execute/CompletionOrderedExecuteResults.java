@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Execute results in completion order of groups.
+ * 
+ * <p>
+ * Results of synchronous group are available at once, results of asynchronous groups are fetched in completion order when consumer reaches them,
+ * so finished groups can be consumed while slow groups are still executing.
+ * Executions of unfinished groups and fetched but unconsumed results are cancelled if execute failure, timeout, or rest results are no longer needed.
+ * </p>
+ * 
+ * @author zhangliang
+ * 
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+public final class CompletionOrderedExecuteResults<I, O> {
+    
+    private final LinkedList<O> fetchedResults = new LinkedList<>();
+    
+    private final LinkedList<I> fetchedInputs = new LinkedList<>();
+    
+    private final Collection<O> discardedResults = new LinkedList<>();
+    
+    private final Map<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> asyncGroups;
+    
+    private final Iterator<ListenableFuture<Collection<O>>> completionOrderedFutures;
+    
+    private final ShardingGroupCancelCallback<I> cancelCallback;
+    
+    private final long timeoutMilliseconds;
+    
+    private final long deadlineNanos;
+    
+    private boolean cancelled;
+    
+    public CompletionOrderedExecuteResults(final Collection<O> syncResults) {
+        this(Collections.<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>>emptyMap(), null, 0L, 0L);
+        fetch(Collections.<I>emptyList(), syncResults);
+    }
+    
+    public CompletionOrderedExecuteResults(final Map<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> asyncGroups, 
+                                           final ShardingGroupCancelCallback<I> cancelCallback, final long timeoutMilliseconds, final long deadlineNanos) {
+        this.asyncGroups = asyncGroups;
+        completionOrderedFutures = Futures.inCompletionOrder(asyncGroups.keySet()).iterator();
+        this.cancelCallback = cancelCallback;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        this.deadlineNanos = deadlineNanos;
+    }
+    
+    synchronized void addSyncResults(final ShardingExecuteGroup<I> syncGroup, final Collection<O> syncResults) {
+        fetch(syncGroup.getInputs(), syncResults);
+    }
+    
+    private void fetch(final Collection<I> inputs, final Collection<O> results) {
+        fetchedResults.addAll(results);
+        fetchedInputs.addAll(inputs.size() == results.size() ? inputs : Collections.<I>nCopies(results.size(), null));
+    }
+    
+    /**
+     * Judge whether has next result, wait for next finished group if necessary.
+     * 
+     * @return has next result or not
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public synchronized boolean hasNext() throws SQLException {
+        while (fetchedResults.isEmpty() && !cancelled && completionOrderedFutures.hasNext()) {
+            Collection<O> groupResult = getGroupResult(completionOrderedFutures.next());
+            fetch(findInputs(groupResult), groupResult);
+        }
+        return !fetchedResults.isEmpty();
+    }
+    
+    /**
+     * Get next result, wait for next finished group if necessary.
+     * 
+     * @return next result
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public synchronized O next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        fetchedInputs.removeFirst();
+        return fetchedResults.removeFirst();
+    }
+    
+    private Collection<O> getGroupResult(final ListenableFuture<Collection<O>> future) throws SQLException {
+        try {
+            return 0 >= timeoutMilliseconds ? future.get() : future.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ex) {
+            cancel();
+            throw new SQLTimeoutException(String.format("Execute timeout, not all shards are finished in %s milliseconds.", timeoutMilliseconds), ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new ShardingException(ex);
+        } catch (final ExecutionException ex) {
+            cancel();
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ShardingException(ex);
+        } catch (final CancellationException ex) {
+            return Collections.emptyList();
+        }
+    }
+    
+    private Collection<I> findInputs(final Collection<O> groupResult) {
+        for (Entry<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> entry : asyncGroups.entrySet()) {
+            if (isResultOf(entry.getKey(), groupResult)) {
+                return entry.getValue().getInputs();
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private boolean isResultOf(final ListenableFuture<Collection<O>> future, final Collection<O> groupResult) {
+        if (!future.isDone() || future.isCancelled()) {
+            return false;
+        }
+        try {
+            return groupResult == Uninterruptibles.getUninterruptibly(future);
+        } catch (final ExecutionException ex) {
+            return false;
+        }
+    }
+    
+    /**
+     * Cancel executions of unfinished groups and fetched but unconsumed results, and discard rest results.
+     * 
+     * @return any execution is cancelled or not
+     */
+    public synchronized boolean cancel() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        Collection<I> unconsumedInputs = new LinkedList<>();
+        for (I each : fetchedInputs) {
+            if (null != each) {
+                unconsumedInputs.add(each);
+            }
+        }
+        discardedResults.addAll(fetchedResults);
+        fetchedResults.clear();
+        fetchedInputs.clear();
+        boolean result = false;
+        if (!unconsumedInputs.isEmpty()) {
+            cancelCallback.cancel(unconsumedInputs);
+            result = true;
+        }
+        for (Entry<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> entry : asyncGroups.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                entry.getKey().cancel(false);
+                cancelCallback.cancel(entry.getValue().getInputs());
+                result = true;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Close execute results, discard rest results without cancelling executions.
+     * 
+     * @return fetched but unconsumed results and results discarded by cancel, which should be closed by caller
+     */
+    public synchronized Collection<O> close() {
+        cancelled = true;
+        discardedResults.addAll(fetchedResults);
+        fetchedResults.clear();
+        fetchedInputs.clear();
+        Collection<O> result = new LinkedList<>(discardedResults);
+        discardedResults.clear();
+        return result;
+    }
+}
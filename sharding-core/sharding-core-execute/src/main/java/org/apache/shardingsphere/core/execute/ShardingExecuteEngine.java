@@ -17,20 +17,32 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
+import org.apache.shardingsphere.core.constant.ShardingConstant;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.execute.bulkhead.DataSourceBulkhead;
+import org.apache.shardingsphere.core.execute.bulkhead.DataSourceBulkheadScheduler;
+import org.apache.shardingsphere.core.execute.spi.ExecutorServiceFactoryServiceLoader;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Sharding execute engine.
@@ -41,11 +53,94 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private final ShardingExecutorService shardingExecutorService;
     
+    private final ExecutorService prefetchExecutorService;
+    
+    private final Semaphore prefetchPermits;
+    
     private ListeningExecutorService executorService;
     
+    private DataSourceBulkheadScheduler bulkheadScheduler;
+    
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
+        this(ShardingConstant.DEFAULT_EXECUTOR_TYPE, executorSize, 0, 0, "");
+    }
+    
+    public ShardingExecuteEngine(final String executorType, final int executorSize, 
+                                 final int maxConcurrencySizePerDataSource, final int maxQueueSizePerDataSource, final String weightsPerDataSource) {
+        shardingExecutorService = new ShardingExecutorService(executorType, executorSize, maxConcurrencySizePerDataSource, maxQueueSizePerDataSource, weightsPerDataSource);
         executorService = shardingExecutorService.getExecutorService();
+        bulkheadScheduler = shardingExecutorService.getBulkheadScheduler();
+        prefetchExecutorService = new ExecutorServiceFactoryServiceLoader().newAvailableService(executorType).newExecutorService(executorSize, "Prefetch-%d");
+        prefetchPermits = 0 == executorSize ? null : new Semaphore(executorSize);
+    }
+    
+    /**
+     * Get bulkheads of data sources.
+     * 
+     * @return bulkheads of data sources, empty if bulkhead is disabled
+     */
+    public Collection<DataSourceBulkhead> getBulkheads() {
+        return null == bulkheadScheduler ? Collections.<DataSourceBulkhead>emptyList() : bulkheadScheduler.getBulkheads();
+    }
+    
+    /**
+     * Remove bulkheads of logic schema.
+     * 
+     * @param schemaName schema name
+     */
+    public void removeBulkheads(final String schemaName) {
+        if (null != bulkheadScheduler) {
+            bulkheadScheduler.removeBulkheads(schemaName);
+        }
+    }
+    
+    /**
+     * Remove bulkheads of data sources no longer belong to logic schema.
+     * 
+     * @param schemaName schema name
+     * @param dataSourceNames data source names of logic schema
+     */
+    public void retainBulkheads(final String schemaName, final Collection<String> dataSourceNames) {
+        if (null != bulkheadScheduler) {
+            bulkheadScheduler.retainBulkheads(schemaName, dataSourceNames);
+        }
+    }
+    
+    /**
+     * Submit task for prefetching rows of stream query result.
+     * 
+     * <p>
+     * Prefetch threads may wait for rows being consumed, so they are isolated from threads of execution, and limited by executor size too.
+     * Task is not queued if all prefetch threads are busy, because queued task may never start while merging waits for its rows.
+     * </p>
+     * 
+     * @param task prefetch task
+     * @return future of prefetch task, absent if all prefetch threads are busy
+     */
+    public Optional<Future<?>> submitPrefetch(final Runnable task) {
+        if (null != prefetchPermits && !prefetchPermits.tryAcquire()) {
+            return Optional.absent();
+        }
+        FutureTask<Void> result = new FutureTask<Void>(task, null) {
+            
+            @Override
+            protected void done() {
+                releasePrefetchPermit();
+            }
+        };
+        try {
+            prefetchExecutorService.execute(result);
+            return Optional.<Future<?>>of(result);
+        } catch (final RejectedExecutionException ex) {
+            releasePrefetchPermit();
+            return Optional.absent();
+        }
+    }
+    
+    private void releasePrefetchPermit() {
+        if (null != prefetchPermits) {
+            prefetchPermits.release();
+        }
     }
     
     /**
@@ -83,6 +178,37 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute for group, and fetch results of asynchronous groups in completion order.
+     * 
+     * <p>
+     * Execution returns once synchronous group is finished, results of asynchronous groups are fetched when they are consumed,
+     * so slow group does not block consuming results of other finished groups.
+     * Executions of unfinished groups are cancelled by cancel callback if execute failure or timeout.
+     * </p>
+     *
+     * @param inputGroups input groups
+     * @param firstCallback first sharding execute callback
+     * @param callback sharding execute callback
+     * @param cancelCallback sharding group cancel callback
+     * @param serial whether using multi thread execute or not
+     * @param timeoutMilliseconds max milliseconds to wait for results of asynchronous groups, 0 means unlimited
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute results in completion order of groups
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> CompletionOrderedExecuteResults<I, O> groupExecuteInCompletionOrder(final Collection<ShardingExecuteGroup<I>> inputGroups, 
+                                                                                      final ShardingGroupExecuteCallback<I, O> firstCallback, final ShardingGroupExecuteCallback<I, O> callback, 
+                                                                                      final ShardingGroupCancelCallback<I> cancelCallback, final boolean serial, 
+                                                                                      final long timeoutMilliseconds) throws SQLException {
+        if (inputGroups.isEmpty()) {
+            return new CompletionOrderedExecuteResults<>(Collections.<O>emptyList());
+        }
+        return serial ? new CompletionOrderedExecuteResults<I, O>(serialExecute(inputGroups, firstCallback, callback))
+                : completionOrderedParallelExecute(inputGroups, firstCallback, callback, cancelCallback, timeoutMilliseconds);
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> firstCallback,
                                          final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
         Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
@@ -102,6 +228,26 @@ public final class ShardingExecuteEngine implements AutoCloseable {
         return getGroupResults(syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
+    private <I, O> CompletionOrderedExecuteResults<I, O> completionOrderedParallelExecute(final Collection<ShardingExecuteGroup<I>> inputGroups, 
+                                                                                          final ShardingGroupExecuteCallback<I, O> firstCallback, final ShardingGroupExecuteCallback<I, O> callback, 
+                                                                                          final ShardingGroupCancelCallback<I> cancelCallback, final long timeoutMilliseconds) throws SQLException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds);
+        Iterator<ShardingExecuteGroup<I>> inputGroupsIterator = inputGroups.iterator();
+        ShardingExecuteGroup<I> firstInputs = inputGroupsIterator.next();
+        Map<ListenableFuture<Collection<O>>, ShardingExecuteGroup<I>> asyncGroups = new LinkedHashMap<>();
+        for (ShardingExecuteGroup<I> each : Lists.newArrayList(inputGroupsIterator)) {
+            asyncGroups.put(asyncGroupExecute(each, callback), each);
+        }
+        CompletionOrderedExecuteResults<I, O> result = new CompletionOrderedExecuteResults<>(asyncGroups, cancelCallback, timeoutMilliseconds, deadlineNanos);
+        try {
+            result.addSyncResults(firstInputs, syncGroupExecute(firstInputs, null == firstCallback ? callback : firstCallback));
+        } catch (final SQLException | RuntimeException ex) {
+            result.cancel();
+            throw ex;
+        }
+        return result;
+    }
+    
     private <I, O> Collection<ListenableFuture<Collection<O>>> asyncGroupExecute(final List<ShardingExecuteGroup<I>> inputGroups, final ShardingGroupExecuteCallback<I, O> callback) {
         Collection<ListenableFuture<Collection<O>>> result = new LinkedList<>();
         for (ShardingExecuteGroup<I> each : inputGroups) {
@@ -112,13 +258,14 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncGroupExecute(final ShardingExecuteGroup<I> inputGroup, final ShardingGroupExecuteCallback<I, O> callback) {
         final Map<String, Object> dataMap = ShardingExecuteDataMap.getDataMap();
-        return executorService.submit(new Callable<Collection<O>>() {
+        Callable<Collection<O>> task = new Callable<Collection<O>>() {
             
             @Override
             public Collection<O> call() throws SQLException {
                 return callback.execute(inputGroup.getInputs(), false, dataMap);
             }
-        });
+        };
+        return null == bulkheadScheduler || null == inputGroup.getDataSourceName() ? executorService.submit(task) : bulkheadScheduler.submit(inputGroup.getSchemaName(), inputGroup.getDataSourceName(), task);
     }
     
     private <I, O> Collection<O> syncGroupExecute(final ShardingExecuteGroup<I> executeGroup, final ShardingGroupExecuteCallback<I, O> callback) throws SQLException {
@@ -147,5 +294,6 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     @Override
     public void close() {
         shardingExecutorService.close();
+        prefetchExecutorService.shutdownNow();
     }
 }
@@ -24,6 +24,11 @@ import java.util.List;
 
 /**
  * Sharding execute group.
+ * 
+ * <p>
+ * Schema name and data source name are used to execute group in bulkhead of data source, data source name is null if inputs are not bound to one data source.
+ * Schema name is null if execute engine is not shared by logic schemas.
+ * </p>
  *
  * @author zhangliang
  * @param <T> type of inputs value
@@ -32,5 +37,17 @@ import java.util.List;
 @Getter
 public final class ShardingExecuteGroup<T> {
     
+    private final String schemaName;
+    
+    private final String dataSourceName;
+    
     private final List<T> inputs;
+    
+    public ShardingExecuteGroup(final List<T> inputs) {
+        this(null, inputs);
+    }
+    
+    public ShardingExecuteGroup(final String dataSourceName, final List<T> inputs) {
+        this(null, dataSourceName, inputs);
+    }
 }
@@ -17,13 +17,20 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.ShardingConstant;
+import org.apache.shardingsphere.core.execute.bulkhead.DataSourceBulkheadScheduler;
+import org.apache.shardingsphere.core.execute.spi.ExecutorServiceFactoryServiceLoader;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -41,18 +48,40 @@ public final class ShardingExecutorService {
     
     private ListeningExecutorService executorService;
     
+    private DataSourceBulkheadScheduler bulkheadScheduler;
+    
     public ShardingExecutorService(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(ShardingConstant.DEFAULT_EXECUTOR_TYPE, executorSize, nameFormat);
+    }
+    
+    public ShardingExecutorService(final String executorType, final int executorSize, final String nameFormat) {
+        executorService = MoreExecutors.listeningDecorator(new ExecutorServiceFactoryServiceLoader().newAvailableService(executorType).newExecutorService(executorSize, nameFormat));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory shardingThreadFactory = ShardingThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
+    public ShardingExecutorService(final String executorType, final int executorSize, 
+                                   final int maxConcurrencySizePerDataSource, final int maxQueueSizePerDataSource, final String weightsPerDataSource) {
+        this(executorType, executorSize, DEFAULT_NAME_FORMAT);
+        if (0 < maxConcurrencySizePerDataSource) {
+            bulkheadScheduler = new DataSourceBulkheadScheduler(executorService, executorSize, maxConcurrencySizePerDataSource, maxQueueSizePerDataSource, parseWeights(weightsPerDataSource));
+        }
+    }
+    
+    private Map<String, Integer> parseWeights(final String weightsPerDataSource) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        if (null == weightsPerDataSource || weightsPerDataSource.trim().isEmpty()) {
+            return result;
+        }
+        for (Entry<String, String> entry : Splitter.on(',').trimResults().omitEmptyStrings().withKeyValueSeparator(':').split(weightsPerDataSource).entrySet()) {
+            int weight = Integer.parseInt(entry.getValue().trim());
+            Preconditions.checkArgument(weight > 0, "Weight of data source `%s` must be positive.", entry.getKey().trim());
+            result.put(entry.getKey().trim(), weight);
+        }
+        return result;
     }
     
     /**
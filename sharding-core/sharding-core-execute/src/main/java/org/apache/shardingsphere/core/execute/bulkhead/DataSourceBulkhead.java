@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.bulkhead;
+
+import com.google.common.util.concurrent.ListenableFutureTask;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Bulkhead of data source, which limits concurrent executions and queued executions for one data source.
+ * 
+ * <p>State is changed under lock of {@code DataSourceBulkheadScheduler}, metrics can be read from any thread.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter
+public final class DataSourceBulkhead {
+    
+    private final String schemaName;
+    
+    private final String dataSourceName;
+    
+    private final int weight;
+    
+    private final int maxConcurrencySize;
+    
+    private final int maxQueueSize;
+    
+    @Getter(AccessLevel.NONE)
+    private final Queue<PendingTask> pendingTasks = new LinkedList<>();
+    
+    private volatile int queueDepth;
+    
+    private volatile int runningCount;
+    
+    private volatile long executedCount;
+    
+    private volatile long rejectedCount;
+    
+    private volatile long totalWaitNanos;
+    
+    private volatile long maxWaitNanos;
+    
+    /**
+     * Get average nanoseconds waited in queue by executions.
+     * 
+     * @return average wait nanoseconds
+     */
+    public long getAverageWaitNanos() {
+        long executedCount = this.executedCount;
+        return 0 == executedCount ? 0L : totalWaitNanos / executedCount;
+    }
+    
+    boolean offer(final ListenableFutureTask<?> task) {
+        if (0 < maxQueueSize && pendingTasks.size() >= maxQueueSize) {
+            rejectedCount++;
+            return false;
+        }
+        pendingTasks.offer(new PendingTask(task, System.nanoTime()));
+        queueDepth = pendingTasks.size();
+        return true;
+    }
+    
+    boolean isDispatchable() {
+        return !pendingTasks.isEmpty() && runningCount < maxConcurrencySize;
+    }
+    
+    ListenableFutureTask<?> poll() {
+        PendingTask result = pendingTasks.poll();
+        queueDepth = pendingTasks.size();
+        runningCount++;
+        long waitNanos = System.nanoTime() - result.getEnqueueNanos();
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+        executedCount++;
+        return result.getTask();
+    }
+    
+    void release() {
+        runningCount--;
+    }
+    
+    Collection<ListenableFutureTask<?>> pollPendingTasks() {
+        Collection<ListenableFutureTask<?>> result = new LinkedList<>();
+        for (PendingTask each : pendingTasks) {
+            result.add(each.getTask());
+        }
+        pendingTasks.clear();
+        queueDepth = 0;
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PendingTask {
+        
+        private final ListenableFutureTask<?> task;
+        
+        private final long enqueueNanos;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.bulkhead;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Data source bulkhead scheduler.
+ * 
+ * <p>
+ * Executions are queued by data source of logic schema, and dispatched to shared executor by weighted round robin across data sources.
+ * Data source with weight N can dispatch N executions in each round of scheduling, weight of data source not configured is 1.
+ * Slow data source only occupies threads up to its own concurrency limit, executions of other data sources are not queued behind it.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class DataSourceBulkheadScheduler {
+    
+    private final Executor executor;
+    
+    private final int maxConcurrencySize;
+    
+    private final int maxConcurrencySizePerDataSource;
+    
+    private final int maxQueueSizePerDataSource;
+    
+    private final Map<String, Integer> weightsPerDataSource;
+    
+    private final Map<BulkheadKey, DataSourceBulkhead> bulkheads = new LinkedHashMap<>();
+    
+    private final List<DataSourceBulkhead> bulkheadRing = new ArrayList<>();
+    
+    private int cursor;
+    
+    private int cursorCredits;
+    
+    private int runningCount;
+    
+    /**
+     * Submit task of data source.
+     * 
+     * <p>Data sources with same name in different logic schemas have separate bulkheads.</p>
+     * 
+     * @param schemaName schema name, null if execute engine is not shared by logic schemas
+     * @param dataSourceName data source name
+     * @param task task
+     * @param <T> type of task result
+     * @return future of task result, failed with {@code RejectedExecutionException} if queue of data source is full
+     */
+    public <T> ListenableFuture<T> submit(final String schemaName, final String dataSourceName, final Callable<T> task) {
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        synchronized (this) {
+            if (!getBulkhead(schemaName, dataSourceName).offer(result)) {
+                return Futures.immediateFailedFuture(new RejectedExecutionException(String.format("Execute queue of data source `%s` in schema `%s` is full.", dataSourceName, schemaName)));
+            }
+        }
+        dispatch();
+        return result;
+    }
+    
+    /**
+     * Get bulkheads of data sources.
+     * 
+     * @return bulkheads of data sources
+     */
+    public synchronized Collection<DataSourceBulkhead> getBulkheads() {
+        return new ArrayList<>(bulkheadRing);
+    }
+    
+    /**
+     * Remove bulkheads of logic schema.
+     * 
+     * <p>Queued executions of removed bulkheads are cancelled.</p>
+     * 
+     * @param schemaName schema name
+     */
+    public void removeBulkheads(final String schemaName) {
+        retainBulkheads(schemaName, Collections.<String>emptyList());
+    }
+    
+    /**
+     * Remove bulkheads of data sources no longer belong to logic schema.
+     * 
+     * <p>Queued executions of removed bulkheads are cancelled.</p>
+     * 
+     * @param schemaName schema name
+     * @param dataSourceNames data source names of logic schema
+     */
+    public void retainBulkheads(final String schemaName, final Collection<String> dataSourceNames) {
+        Collection<ListenableFutureTask<?>> cancelledTasks = new LinkedList<>();
+        synchronized (this) {
+            Iterator<Entry<BulkheadKey, DataSourceBulkhead>> iterator = bulkheads.entrySet().iterator();
+            while (iterator.hasNext()) {
+                DataSourceBulkhead each = iterator.next().getValue();
+                if (Objects.equals(schemaName, each.getSchemaName()) && !dataSourceNames.contains(each.getDataSourceName())) {
+                    iterator.remove();
+                    bulkheadRing.remove(each);
+                    cancelledTasks.addAll(each.pollPendingTasks());
+                }
+            }
+            if (cursor >= bulkheadRing.size()) {
+                cursor = 0;
+                cursorCredits = 0;
+            }
+        }
+        for (ListenableFutureTask<?> each : cancelledTasks) {
+            each.cancel(false);
+        }
+    }
+    
+    private DataSourceBulkhead getBulkhead(final String schemaName, final String dataSourceName) {
+        BulkheadKey key = new BulkheadKey(schemaName, dataSourceName);
+        DataSourceBulkhead result = bulkheads.get(key);
+        if (null == result) {
+            result = new DataSourceBulkhead(schemaName, dataSourceName, getWeight(dataSourceName), maxConcurrencySizePerDataSource, maxQueueSizePerDataSource);
+            bulkheads.put(key, result);
+            bulkheadRing.add(result);
+        }
+        return result;
+    }
+    
+    private int getWeight(final String dataSourceName) {
+        Integer result = weightsPerDataSource.get(dataSourceName);
+        return null == result ? 1 : result;
+    }
+    
+    private void dispatch() {
+        while (true) {
+            final DataSourceBulkhead bulkhead;
+            final ListenableFutureTask<?> task;
+            synchronized (this) {
+                if (0 < maxConcurrencySize && runningCount >= maxConcurrencySize) {
+                    return;
+                }
+                bulkhead = nextBulkhead();
+                if (null == bulkhead) {
+                    return;
+                }
+                task = bulkhead.poll();
+                runningCount++;
+            }
+            execute(bulkhead, task);
+        }
+    }
+    
+    private DataSourceBulkhead nextBulkhead() {
+        for (int i = 0; i <= bulkheadRing.size() && !bulkheadRing.isEmpty(); i++) {
+            DataSourceBulkhead result = bulkheadRing.get(cursor);
+            if (cursorCredits < result.getWeight() && result.isDispatchable()) {
+                cursorCredits++;
+                return result;
+            }
+            cursor = (cursor + 1) % bulkheadRing.size();
+            cursorCredits = 0;
+        }
+        return null;
+    }
+    
+    private void execute(final DataSourceBulkhead bulkhead, final ListenableFutureTask<?> task) {
+        try {
+            executor.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    try {
+                        task.run();
+                    } finally {
+                        release(bulkhead);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            task.cancel(false);
+            synchronized (this) {
+                runningCount--;
+                bulkhead.release();
+            }
+        }
+    }
+    
+    private void release(final DataSourceBulkhead bulkhead) {
+        synchronized (this) {
+            runningCount--;
+            bulkhead.release();
+        }
+        dispatch();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class BulkheadKey {
+        
+        private final String schemaName;
+        
+        private final String dataSourceName;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.executor;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.core.execute.spi.ExecutorServiceFactory;
+
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Executor service factory for virtual threads.
+ * 
+ * <p>
+ * Virtual threads are only available on JDK 21 or later, they are created by reflection to keep compatible with lower JDK.
+ * Blocking JDBC call unmounts virtual thread from carrier thread, so fan-out width is not limited by count of platform threads.
+ * Executor size 0 means one new virtual thread per task, otherwise virtual threads are pooled by executor size.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+@Setter
+public final class VirtualThreadExecutorServiceFactory implements ExecutorServiceFactory {
+    
+    private Properties properties = new Properties();
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_THREAD";
+    }
+    
+    @Override
+    public boolean isAvailable() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ex) {
+            return false;
+        }
+    }
+    
+    @Override
+    public ExecutorService newExecutorService(final int executorSize, final String nameFormat) {
+        ThreadFactory virtualThreadFactory = createVirtualThreadFactory(nameFormat);
+        return 0 == executorSize ? newThreadPerTaskExecutor(virtualThreadFactory) : Executors.newFixedThreadPool(executorSize, virtualThreadFactory);
+    }
+    
+    @SneakyThrows
+    private ThreadFactory createVirtualThreadFactory(final String nameFormat) {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        String namePrefix = ShardingThreadFactoryBuilder.NAME_FORMAT_PREFIX + nameFormat.replace("%d", "");
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    
+    @SneakyThrows
+    private ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        Method method = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        return (ExecutorService) method.invoke(null, threadFactory);
+    }
+}
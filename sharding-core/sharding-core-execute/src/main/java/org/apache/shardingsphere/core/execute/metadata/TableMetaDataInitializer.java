@@ -49,9 +49,14 @@ public final class TableMetaDataInitializer {
     
     public TableMetaDataInitializer(final DataSourceMetas dataSourceMetas, final ShardingExecuteEngine executeEngine,
                                     final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isCheckingMetaData) {
+        this(dataSourceMetas, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData, null);
+    }
+    
+    public TableMetaDataInitializer(final DataSourceMetas dataSourceMetas, final ShardingExecuteEngine executeEngine, final TableMetaDataConnectionManager connectionManager, 
+                                    final int maxConnectionsSizePerQuery, final boolean isCheckingMetaData, final String schemaName) {
         this.dataSourceMetas = dataSourceMetas;
         this.connectionManager = connectionManager;
-        tableMetaDataLoader = new TableMetaDataLoader(dataSourceMetas, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData);
+        tableMetaDataLoader = new TableMetaDataLoader(dataSourceMetas, executeEngine, connectionManager, maxConnectionsSizePerQuery, isCheckingMetaData, schemaName);
     }
     
     /**
@@ -71,6 +71,8 @@ public final class TableMetaDataLoader {
     
     private final boolean isCheckingMetaData;
     
+    private final String schemaName;
+    
     /**
      * Load table meta data.
      *
@@ -123,15 +125,15 @@ public final class TableMetaDataLoader {
     private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final Map<String, List<DataNode>> dataNodeGroups) {
         Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
         for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
-            result.addAll(getDataNodeExecuteGroups(entry.getValue()));
+            result.addAll(getDataNodeExecuteGroups(entry.getKey(), entry.getValue()));
         }
         return result;
     }
     
-    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final List<DataNode> dataNodes) {
+    private Collection<ShardingExecuteGroup<DataNode>> getDataNodeExecuteGroups(final String dataSourceName, final List<DataNode> dataNodes) {
         Collection<ShardingExecuteGroup<DataNode>> result = new LinkedList<>();
         for (List<DataNode> each : Lists.partition(dataNodes, Math.max(dataNodes.size() / maxConnectionsSizePerQuery, 1))) {
-            result.add(new ShardingExecuteGroup<>(each));
+            result.add(new ShardingExecuteGroup<>(schemaName, dataSourceName, each));
         }
         return result;
     }
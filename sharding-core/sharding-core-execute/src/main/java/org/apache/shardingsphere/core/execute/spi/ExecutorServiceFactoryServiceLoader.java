@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.spi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.ShardingConstant;
+import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
+import org.apache.shardingsphere.core.spi.algorithm.TypeBasedSPIServiceLoader;
+
+import java.util.Properties;
+
+/**
+ * Executor service factory service loader.
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class ExecutorServiceFactoryServiceLoader extends TypeBasedSPIServiceLoader<ExecutorServiceFactory> {
+    
+    static {
+        NewInstanceServiceLoader.register(ExecutorServiceFactory.class);
+    }
+    
+    public ExecutorServiceFactoryServiceLoader() {
+        super(ExecutorServiceFactory.class);
+    }
+    
+    /**
+     * Create available executor service factory.
+     * 
+     * @param type type of executor service factory
+     * @return executor service factory of type, or thread pool executor service factory if type is unavailable in current runtime
+     */
+    public ExecutorServiceFactory newAvailableService(final String type) {
+        ExecutorServiceFactory result = newService(type, new Properties());
+        if (result.isAvailable()) {
+            return result;
+        }
+        log.warn("Executor type `{}` is unavailable in current runtime, use `{}` instead.", type, ShardingConstant.DEFAULT_EXECUTOR_TYPE);
+        return newService(ShardingConstant.DEFAULT_EXECUTOR_TYPE, new Properties());
+    }
+}
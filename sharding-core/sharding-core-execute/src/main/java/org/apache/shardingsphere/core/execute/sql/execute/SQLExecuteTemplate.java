@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.core.execute.sql.execute;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.CompletionOrderedExecuteResults;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
@@ -76,4 +77,29 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute group, and fetch results of asynchronous groups in completion order.
+     * 
+     * <p>Statements of unfinished groups are cancelled if execute failure or timeout.</p>
+     *
+     * @param sqlExecuteGroups SQL execute groups
+     * @param firstCallback first SQL execute callback
+     * @param callback SQL execute callback
+     * @param timeoutMilliseconds max milliseconds to wait for results of asynchronous groups, 0 means unlimited
+     * @param <T> class type of return value
+     * @return execute results in completion order of groups
+     * @throws SQLException SQL exception
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletionOrderedExecuteResults<StatementExecuteUnit, T> executeGroupInCompletionOrder(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
+                                                                                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback, 
+                                                                                                     final long timeoutMilliseconds) throws SQLException {
+        try {
+            return executeEngine.groupExecuteInCompletionOrder((Collection) sqlExecuteGroups, firstCallback, callback, new SQLExecuteCancelCallback(), serial, timeoutMilliseconds);
+        } catch (final SQLException ex) {
+            ExecutorExceptionHandler.handleException(ex);
+            return new CompletionOrderedExecuteResults<>(Collections.<T>emptyList());
+        }
+    }
 }
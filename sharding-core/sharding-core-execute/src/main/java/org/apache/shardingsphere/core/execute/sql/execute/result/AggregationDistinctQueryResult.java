@@ -17,44 +17,46 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Iterators;
-import com.google.common.collect.Lists;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Aggregation distinct query result.
+ * 
+ * <p>Rows are distinct by all columns, because distinct aggregation is rewritten to distinct row with other select items such as group by columns.</p>
+ * 
+ * <p>If count distinct is approximate, rows are not deduplicated and distinct values are returned for count distinct columns to be estimated.</p>
  *
  * @author panjuan
  */
 public final class AggregationDistinctQueryResult extends DistinctQueryResult {
     
     private final AggregationDistinctQueryMetaData metaData;
+    
+    private final boolean approximateCountDistinct;
         
-    private AggregationDistinctQueryResult(final QueryResultMetaData queryResultMetaData, final Iterator<QueryRow> resultData, final AggregationDistinctQueryMetaData distinctQueryMetaData) {
-        super(queryResultMetaData, resultData);
-        metaData = distinctQueryMetaData;
+    private AggregationDistinctQueryResult(final AggregationDistinctQueryResult parent, final QueryResult queryResult) {
+        super(parent, queryResult);
+        metaData = parent.metaData;
+        approximateCountDistinct = parent.approximateCountDistinct;
     }
     
     public AggregationDistinctQueryResult(final Collection<QueryResult> queryResults, final List<AggregationDistinctSelectItem> aggregationDistinctSelectItems) throws SQLException {
-        super(queryResults, Lists.transform(aggregationDistinctSelectItems, new Function<AggregationDistinctSelectItem, String>() {
+        this(queryResults, aggregationDistinctSelectItems, false);
+    }
     
-            @Override
-            public String apply(final AggregationDistinctSelectItem input) {
-                return input.getDistinctColumnLabel();
-            }
-        }));
+    public AggregationDistinctQueryResult(final Collection<QueryResult> queryResults,
+                                          final List<AggregationDistinctSelectItem> aggregationDistinctSelectItems, final boolean approximateCountDistinct) throws SQLException {
+        super(queryResults, Collections.<String>emptyList(), !approximateCountDistinct);
+        this.approximateCountDistinct = approximateCountDistinct;
         metaData = new AggregationDistinctQueryMetaData(aggregationDistinctSelectItems, getQueryResultMetaData());
     }
     
@@ -65,20 +67,16 @@ public final class AggregationDistinctQueryResult extends DistinctQueryResult {
      */
     @Override
     public List<DistinctQueryResult> divide() {
-        return Lists.newArrayList(Iterators.transform(getResultData(), new Function<QueryRow, DistinctQueryResult>() {
-    
-            @Override
-            public DistinctQueryResult apply(final QueryRow input) {
-                Set<QueryRow> resultData = new LinkedHashSet<>();
-                resultData.add(input);
-                return new AggregationDistinctQueryResult(getQueryResultMetaData(), resultData.iterator(), metaData);
-            }
-        }));
+        List<DistinctQueryResult> result = new ArrayList<>(getQueryResults().size());
+        for (QueryResult each : getQueryResults()) {
+            result.add(new AggregationDistinctQueryResult(this, each));
+        }
+        return result;
     }
     
     private Object getValue(final int columnIndex) {
         if (metaData.isAggregationDistinctColumnIndex(columnIndex)) {
-            return AggregationType.COUNT == metaData.getAggregationType(columnIndex) ? 1 : super.getValue(columnIndex, Object.class);
+            return AggregationType.COUNT == metaData.getAggregationType(columnIndex) && !approximateCountDistinct ? 1 : super.getValue(columnIndex, Object.class);
         }
         if (metaData.isDerivedCountColumnIndex(columnIndex)) {
             return 1;
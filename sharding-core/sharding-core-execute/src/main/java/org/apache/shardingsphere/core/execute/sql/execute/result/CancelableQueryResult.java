@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+/**
+ * Query result which can cancel its statement before exhausted and release its result set when closed.
+ *
+ * @author zhangliang
+ */
+public interface CancelableQueryResult extends QueryResult {
+    
+    /**
+     * Cancel statement of query result if query result is not exhausted.
+     * 
+     * <p>Query result has no more data after cancelled.</p>
+     *
+     * @return statement is cancelled or not
+     */
+    boolean cancel();
+    
+    /**
+     * Close query result.
+     * 
+     * <p>Result set is not accessed by query result any more after closed, so it can be closed safely.</p>
+     */
+    void close();
+}
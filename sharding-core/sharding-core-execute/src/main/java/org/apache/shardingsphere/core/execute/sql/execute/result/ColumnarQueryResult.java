@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
+
+import java.sql.SQLException;
+
+/**
+ * Query result which keeps values by columns and can read primitive values without boxing.
+ *
+ * @author zhangliang
+ */
+public interface ColumnarQueryResult extends QueryResult {
+    
+    /**
+     * Get value type of column.
+     *
+     * @param columnIndex column index
+     * @return value type of column, {@code OBJECT} if value need to be decrypted
+     * @throws SQLException SQL exception
+     */
+    ColumnValueType getColumnValueType(int columnIndex) throws SQLException;
+    
+    /**
+     * Judge value of current row is null or not.
+     *
+     * @param columnIndex column index
+     * @return value is null or not
+     */
+    boolean isNull(int columnIndex);
+    
+    /**
+     * Get long value of current row without boxing.
+     *
+     * @param columnIndex column index of {@code LONG} value type
+     * @return long value
+     */
+    long getLong(int columnIndex);
+    
+    /**
+     * Get double value of current row without boxing.
+     *
+     * @param columnIndex column index of {@code DOUBLE} value type
+     * @return double value
+     */
+    double getDouble(int columnIndex);
+}
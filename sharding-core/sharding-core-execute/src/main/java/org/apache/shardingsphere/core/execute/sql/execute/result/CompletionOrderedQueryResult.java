@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import com.google.common.base.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.CompletionOrderedExecuteResults;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Query result which is fetched from execute results in completion order.
+ * 
+ * <p>
+ * Query result is bound to next finished execute result when it is accessed first time, so query results should be accessed in order of list.
+ * Cancelling query result before it is bound cancels all unfinished executions, because rest execute results are no longer needed.
+ * Closing or cancelling query result before it is bound closes all fetched but unconsumed execute results too.
+ * Primitive values are read without boxing if bound query result is columnar.
+ * </p>
+ *
+ * @author zhangliang
+ * 
+ * @param <T> type of execute result
+ */
+@RequiredArgsConstructor
+public final class CompletionOrderedQueryResult<T> implements CancelableQueryResult, ColumnarQueryResult {
+    
+    private final CompletionOrderedExecuteResults<?, T> executeResults;
+    
+    private final Function<T, QueryResult> queryResultFunction;
+    
+    private QueryResult queryResult;
+    
+    private boolean cancelled;
+    
+    private QueryResult getQueryResult() throws SQLException {
+        if (null == queryResult) {
+            if (cancelled || !executeResults.hasNext()) {
+                throw new SQLException("Query result is cancelled.");
+            }
+            queryResult = queryResultFunction.apply(executeResults.next());
+        }
+        return queryResult;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == queryResult && (cancelled || !executeResults.hasNext())) {
+            return false;
+        }
+        return getQueryResult().next();
+    }
+    
+    @Override
+    public boolean cancel() {
+        if (null != queryResult) {
+            return queryResult instanceof CancelableQueryResult && ((CancelableQueryResult) queryResult).cancel();
+        }
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        boolean result = executeResults.cancel();
+        closeUnconsumedQueryResults();
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        if (null != queryResult) {
+            if (queryResult instanceof CancelableQueryResult) {
+                ((CancelableQueryResult) queryResult).close();
+            }
+            return;
+        }
+        cancelled = true;
+        closeUnconsumedQueryResults();
+    }
+    
+    private void closeUnconsumedQueryResults() {
+        for (T each : executeResults.close()) {
+            QueryResult unconsumedQueryResult = queryResultFunction.apply(each);
+            if (unconsumedQueryResult instanceof CancelableQueryResult) {
+                ((CancelableQueryResult) unconsumedQueryResult).close();
+            }
+        }
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return getQueryResult().getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return getQueryResult().getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getQueryResult().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        return getQueryResult().getValue(columnLabel, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getQueryResult().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getQueryResult().getCalendarValue(columnLabel, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getQueryResult().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) throws SQLException {
+        return getQueryResult().getInputStream(columnLabel, type);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getQueryResult().wasNull();
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return getQueryResult().isCaseSensitive(columnIndex);
+    }
+    
+    @SneakyThrows
+    @Override
+    public QueryResultMetaData getQueryResultMetaData() {
+        return getQueryResult().getQueryResultMetaData();
+    }
+    
+    @Override
+    public ColumnValueType getColumnValueType(final int columnIndex) throws SQLException {
+        QueryResult boundQueryResult = getQueryResult();
+        return boundQueryResult instanceof ColumnarQueryResult ? ((ColumnarQueryResult) boundQueryResult).getColumnValueType(columnIndex) : ColumnValueType.OBJECT;
+    }
+    
+    @Override
+    public boolean isNull(final int columnIndex) {
+        return ((ColumnarQueryResult) queryResult).isNull(columnIndex);
+    }
+    
+    @Override
+    public long getLong(final int columnIndex) {
+        return ((ColumnarQueryResult) queryResult).getLong(columnIndex);
+    }
+    
+    @Override
+    public double getDouble(final int columnIndex) {
+        return ((ColumnarQueryResult) queryResult).getDouble(columnIndex);
+    }
+}
@@ -17,12 +17,9 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
-import com.google.common.base.Function;
-import com.google.common.collect.Iterators;
-import com.google.common.collect.Lists;
+import com.google.common.collect.AbstractIterator;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 
@@ -34,76 +31,133 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Distinct query result.
+ * 
+ * <p>
+ * Rows are read from query results in streaming, and skipped if values of distinct columns have been read already.
+ * Only values of distinct columns are kept for judging duplication, which are shared with divided child query results.
+ * </p>
  *
  * @author panjuan
  * @author yangyi
  * @author sunbufu
  */
-@RequiredArgsConstructor
 @Getter(AccessLevel.PROTECTED)
 public class DistinctQueryResult implements QueryResult {
     
     @Getter
     private final QueryResultMetaData queryResultMetaData;
     
+    private final Collection<QueryResult> queryResults;
+    
+    private final List<Integer> distinctColumnIndexes;
+    
+    private final Set<List<Object>> distinctValues;
+    
+    private final boolean deduplicated;
+    
     private final Iterator<QueryRow> resultData;
     
     private QueryRow currentRow;
     
     public DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) throws SQLException {
+        this(queryResults, distinctColumnLabels, true);
+    }
+    
+    protected DistinctQueryResult(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels, final boolean deduplicated) throws SQLException {
         QueryResult firstQueryResult = queryResults.iterator().next();
         this.queryResultMetaData = firstQueryResult.getQueryResultMetaData();
-        resultData = getResultData(queryResults, distinctColumnLabels);
+        this.queryResults = queryResults;
+        distinctColumnIndexes = getDistinctColumnIndexes(distinctColumnLabels);
+        distinctValues = new HashSet<>();
+        this.deduplicated = deduplicated;
+        resultData = getResultData(queryResults);
+    }
+    
+    protected DistinctQueryResult(final DistinctQueryResult parent, final QueryResult queryResult) {
+        queryResultMetaData = parent.queryResultMetaData;
+        queryResults = Collections.singletonList(queryResult);
+        distinctColumnIndexes = parent.distinctColumnIndexes;
+        distinctValues = parent.distinctValues;
+        deduplicated = parent.deduplicated;
+        resultData = getResultData(queryResults);
+    }
+    
+    private List<Integer> getDistinctColumnIndexes(final List<String> distinctColumnLabels) {
+        List<Integer> result = new ArrayList<>(distinctColumnLabels.size());
+        for (String each : distinctColumnLabels) {
+            Integer columnIndex = getColumnIndex(each);
+            if (null == columnIndex) {
+                return Collections.emptyList();
+            }
+            result.add(columnIndex);
+        }
+        return result;
     }
     
-    private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults, final List<String> distinctColumnLabels) throws SQLException {
-        Set<QueryRow> result = new LinkedHashSet<>();
-        List<Integer> distinctColumnIndexes = Lists.transform(distinctColumnLabels, new Function<String, Integer>() {
+    private Iterator<QueryRow> getResultData(final Collection<QueryResult> queryResults) {
+        final Iterator<QueryResult> queryResultIterator = queryResults.iterator();
+        return new AbstractIterator<QueryRow>() {
+            
+            private QueryResult queryResult = queryResultIterator.hasNext() ? queryResultIterator.next() : null;
             
             @Override
-            public Integer apply(final String input) {
-                return getColumnIndex(input);
+            @SneakyThrows
+            protected QueryRow computeNext() {
+                while (null != queryResult) {
+                    if (!queryResult.next()) {
+                        queryResult = queryResultIterator.hasNext() ? queryResultIterator.next() : null;
+                        continue;
+                    }
+                    List<Object> rowData = getRowData(queryResult);
+                    if (!deduplicated || distinctValues.add(getDistinctValues(rowData))) {
+                        return new QueryRow(rowData, distinctColumnIndexes);
+                    }
+                }
+                return endOfData();
             }
-        });
-        for (QueryResult each : queryResults) {
-            fill(result, each, distinctColumnIndexes);
+        };
+    }
+    
+    private List<Object> getRowData(final QueryResult queryResult) throws SQLException {
+        List<Object> result = new ArrayList<>(queryResult.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
+            result.add(queryResult.getValue(columnIndex, Object.class));
         }
-        return result.iterator();
+        return result;
     }
     
-    private void fill(final Set<QueryRow> resultData, final QueryResult queryResult, final List<Integer> distinctColumnIndexes) throws SQLException {
-        while (queryResult.next()) {
-            List<Object> rowData = new ArrayList<>(queryResult.getColumnCount());
-            for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
-                rowData.add(queryResult.getValue(columnIndex, Object.class));
-            }
-            resultData.add(new QueryRow(rowData, distinctColumnIndexes));
+    private List<Object> getDistinctValues(final List<Object> rowData) {
+        if (distinctColumnIndexes.isEmpty()) {
+            return rowData;
         }
+        List<Object> result = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            result.add(rowData.get(each - 1));
+        }
+        return result;
     }
     
     /**
      * Divide one distinct query result to multiple child ones.
+     * 
+     * <p>Each child streams one of query results and shares distinct values with others, so order of rows in query result is kept.</p>
      *
      * @return multiple child distinct query results
      */
     public List<DistinctQueryResult> divide() {
-        return Lists.newArrayList(Iterators.transform(resultData, new Function<QueryRow, DistinctQueryResult>() {
-            
-            @Override
-            public DistinctQueryResult apply(final QueryRow row) {
-                Set<QueryRow> resultData = new LinkedHashSet<>();
-                resultData.add(row);
-
-                return new DistinctQueryResult(queryResultMetaData, resultData.iterator());
-            }
-        }));
+        List<DistinctQueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            result.add(new DistinctQueryResult(this, each));
+        }
+        return result;
     }
     
     @Override
@@ -17,151 +17,138 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
-import com.google.common.base.Optional;
 import lombok.Getter;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnarResultData;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
-import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
+ * 
+ * <p>Values are kept by columns, primitive values can be read without boxing.</p>
  *
  * @author zhangliang
  * @author panjuan
  * @author yangyi
  */
-public final class MemoryQueryResult implements QueryResult {
+public final class MemoryQueryResult implements ColumnarQueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final ColumnarResultData resultData;
     
-    private QueryRow currentRow;
+    private int currentRowIndex = -1;
 
     @Getter
     private final QueryResultMetaData queryResultMetaData;
     
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        resultData = new ColumnarResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule, properties);
     }
     
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        resultData = new ColumnarResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule, properties);
     }
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        resultData = getResultData(resultSet);
+        resultData = new ColumnarResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData());
     }
-        
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
-            }
-            result.add(new QueryRow(rowData));
-        }
-        return result.iterator();
-    }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+        if (currentRowIndex < resultData.getRowsCount()) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return isOnRow();
+    }
+    
+    private boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < resultData.getRowsCount();
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        return resultData.getValue(currentRowIndex, columnIndex);
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        return decrypt(columnIndex, currentRow.getValue(columnIndex));
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, getCurrentValue(columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
-        return decrypt(columnLabel, currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        int columnIndex = queryResultMetaData.getColumnIndex(columnLabel);
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, getCurrentValue(columnIndex));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(columnIndex);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel));
+        return getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getValue(columnIndex));
+        return QueryResultUtil.getInputStream(getCurrentValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        return QueryResultUtil.getInputStream(getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel)));
     }
     
-    @SneakyThrows
-    private InputStream getInputStream(final Object value) {
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-        objectOutputStream.writeObject(value);
-        objectOutputStream.flush();
-        objectOutputStream.close();
-        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    @Override
+    public boolean wasNull() {
+        return !isOnRow();
     }
     
     @Override
-    public boolean wasNull() {
-        return null == currentRow;
+    public ColumnValueType getColumnValueType(final int columnIndex) throws SQLException {
+        if (queryResultMetaData.isDecryptRequired() && queryResultMetaData.getShardingEncryptor(columnIndex).isPresent()) {
+            return ColumnValueType.OBJECT;
+        }
+        return resultData.getColumnBuffer(columnIndex).getValueType();
     }
     
     @Override
-    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
-        return queryResultMetaData.isCaseSensitive(columnIndex);
+    public boolean isNull(final int columnIndex) {
+        return resultData.getColumnBuffer(columnIndex).isNull(currentRowIndex);
     }
     
     @Override
-    public int getColumnCount() throws SQLException {
-        return queryResultMetaData.getColumnCount();
+    public long getLong(final int columnIndex) {
+        return resultData.getColumnBuffer(columnIndex).getLong(currentRowIndex);
     }
     
     @Override
-    public String getColumnLabel(final int columnIndex) throws SQLException {
-        return queryResultMetaData.getColumnLabel(columnIndex);
+    public double getDouble(final int columnIndex) {
+        return resultData.getColumnBuffer(columnIndex).getDouble(currentRowIndex);
     }
     
-    private Object decrypt(final String columnLabel, final Object value) throws SQLException {
-        return decrypt(queryResultMetaData.getColumnIndex(columnLabel), value);
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return queryResultMetaData.isCaseSensitive(columnIndex);
     }
     
-    private Object decrypt(final int columnIndex, final Object value) throws SQLException {
-        Optional<ShardingEncryptor> shardingEncryptor = queryResultMetaData.getShardingEncryptor(columnIndex);
-        return queryResultMetaData.isQueryWithCipherColumn() && shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResultMetaData.getColumnCount();
     }
     
-    private String getCiphertext(final Object value) {
-        return null == value ? null : value.toString();
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResultMetaData.getColumnLabel(columnIndex);
     }
 }
@@ -0,0 +1,365 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.rule.EncryptRule;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Query result for stream loading with asynchronous prefetch.
+ * 
+ * <p>
+ * Rows are read from result set by prefetch thread and decoded into bounded buffer batch by batch, merging thread consumes rows from buffer.
+ * Prefetch thread waits while buffer is full, until rows are consumed, query result is cancelled or closed.
+ * If all prefetch threads are busy, rows are read from result set by merging thread batch by batch instead.
+ * Result set is owned by prefetch thread until prefetch is finished, cancel and close wait for prefetch thread without interrupting it,
+ * so result set and statement can be closed safely afterwards. Other threads can only read result set while it is locked, e.g. its metadata.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Slf4j
+public final class PrefetchStreamQueryResult implements CancelableQueryResult {
+    
+    private static final long WAIT_MILLISECONDS = 100L;
+    
+    private static final long TERMINATE_TIMEOUT_MILLISECONDS = 10000L;
+    
+    private static final PrefetchBatch END_BATCH = new PrefetchBatch(Collections.<Object[]>emptyList(), null);
+    
+    @Getter
+    private final QueryResultMetaData queryResultMetaData;
+    
+    private final ResultSet resultSet;
+    
+    private final Statement statement;
+    
+    private final int[] columnTypes;
+    
+    private final int depth;
+    
+    private final BlockingQueue<PrefetchBatch> buffer;
+    
+    private final AtomicBoolean prefetchStarted = new AtomicBoolean();
+    
+    private final Future<?> prefetchFuture;
+    
+    private volatile boolean terminated;
+    
+    private volatile boolean resultSetExhausted;
+    
+    private volatile boolean prefetchFinished;
+    
+    private boolean exhausted;
+    
+    private List<Object[]> currentRows = Collections.emptyList();
+    
+    private int currentRowIndex;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public PrefetchStreamQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingProperties properties, final ShardingExecuteEngine executeEngine) throws SQLException {
+        this(resultSet, new QueryResultMetaData(resultSet.getMetaData(), shardingRule, properties), properties, executeEngine);
+    }
+    
+    public PrefetchStreamQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final ShardingProperties properties, final ShardingExecuteEngine executeEngine) throws SQLException {
+        this(resultSet, new QueryResultMetaData(resultSet.getMetaData(), encryptRule, properties), properties, executeEngine);
+    }
+    
+    public PrefetchStreamQueryResult(final ResultSet resultSet, final ShardingProperties properties, final ShardingExecuteEngine executeEngine) throws SQLException {
+        this(resultSet, new QueryResultMetaData(resultSet.getMetaData()), properties, executeEngine);
+    }
+    
+    private PrefetchStreamQueryResult(
+            final ResultSet resultSet, final QueryResultMetaData queryResultMetaData, final ShardingProperties properties, final ShardingExecuteEngine executeEngine) throws SQLException {
+        this.resultSet = resultSet;
+        statement = resultSet.getStatement();
+        this.queryResultMetaData = queryResultMetaData;
+        columnTypes = getColumnTypes(resultSet.getMetaData());
+        int bufferSize = properties.<Integer>getValue(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE);
+        depth = Math.max(1, properties.<Integer>getValue(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_DEPTH));
+        buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize / depth));
+        prefetchFuture = executeEngine.submitPrefetch(new Runnable() {
+            
+            @Override
+            public void run() {
+                if (prefetchStarted.compareAndSet(false, true)) {
+                    prefetch();
+                }
+            }
+        }).orNull();
+    }
+    
+    private int[] getColumnTypes(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        int[] result = new int[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = resultSetMetaData.getColumnType(i + 1);
+        }
+        return result;
+    }
+    
+    private void prefetch() {
+        try {
+            while (!terminated) {
+                List<Object[]> rows = fetchRows();
+                if (!rows.isEmpty() && !publish(new PrefetchBatch(rows, null))) {
+                    return;
+                }
+                if (resultSetExhausted) {
+                    publish(END_BATCH);
+                    return;
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            publish(new PrefetchBatch(Collections.<Object[]>emptyList(), ex instanceof SQLException ? (SQLException) ex : new SQLException(ex)));
+        } finally {
+            prefetchFinished = true;
+        }
+    }
+    
+    private List<Object[]> fetchRows() throws SQLException {
+        List<Object[]> result = new ArrayList<>(depth);
+        synchronized (resultSet) {
+            while (result.size() < depth && resultSet.next()) {
+                result.add(fetchRow());
+            }
+        }
+        if (result.size() < depth) {
+            resultSetExhausted = true;
+        }
+        return result;
+    }
+    
+    private Object[] fetchRow() throws SQLException {
+        Object[] result = new Object[columnTypes.length];
+        for (int i = 0; i < columnTypes.length; i++) {
+            result[i] = QueryResultUtil.getValue(resultSet, i + 1, columnTypes[i]);
+        }
+        return result;
+    }
+    
+    private boolean publish(final PrefetchBatch batch) {
+        try {
+            while (!terminated) {
+                if (buffer.offer(batch, WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (exhausted || terminated) {
+            return false;
+        }
+        currentRowIndex++;
+        if (currentRowIndex < currentRows.size()) {
+            currentRow = currentRows.get(currentRowIndex);
+            return true;
+        }
+        PrefetchBatch batch = null == prefetchFuture ? fetchBatch() : take();
+        if (null != batch.getCause()) {
+            exhausted = true;
+            throw batch.getCause();
+        }
+        if (batch.getRows().isEmpty()) {
+            exhausted = true;
+            return false;
+        }
+        currentRows = batch.getRows();
+        currentRowIndex = 0;
+        currentRow = currentRows.get(0);
+        return true;
+    }
+    
+    private PrefetchBatch fetchBatch() throws SQLException {
+        if (resultSetExhausted) {
+            return END_BATCH;
+        }
+        List<Object[]> rows = fetchRows();
+        return rows.isEmpty() ? END_BATCH : new PrefetchBatch(rows, null);
+    }
+    
+    private PrefetchBatch take() throws SQLException {
+        try {
+            while (true) {
+                PrefetchBatch result = buffer.poll(WAIT_MILLISECONDS, TimeUnit.MILLISECONDS);
+                if (null != result) {
+                    return result;
+                }
+                if (prefetchFinished && buffer.isEmpty()) {
+                    throw new SQLException("Prefetch of stream query result is terminated.");
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        }
+    }
+    
+    @Override
+    public boolean cancel() {
+        if (exhausted || terminated) {
+            return false;
+        }
+        boolean cancelRequired = !resultSetExhausted;
+        terminated = true;
+        buffer.clear();
+        boolean result = cancelRequired && cancelStatement();
+        awaitPrefetchTerminated();
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        terminated = true;
+        buffer.clear();
+        awaitPrefetchTerminated();
+    }
+    
+    private void awaitPrefetchTerminated() {
+        if (null == prefetchFuture) {
+            return;
+        }
+        if (prefetchStarted.compareAndSet(false, true)) {
+            prefetchFuture.cancel(false);
+            return;
+        }
+        try {
+            prefetchFuture.get(TERMINATE_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            log.warn("Prefetch of stream query result failure.", ex);
+        } catch (final TimeoutException ex) {
+            log.warn("Prefetch of stream query result is not terminated in {} milliseconds.", TERMINATE_TIMEOUT_MILLISECONDS);
+        } finally {
+            buffer.clear();
+        }
+    }
+    
+    private boolean cancelStatement() {
+        if (null == statement) {
+            return false;
+        }
+        try {
+            statement.cancel();
+        } catch (final SQLException ex) {
+            log.warn("Cancel statement failure.", ex);
+            return false;
+        }
+        return true;
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
+        int columnIndex = queryResultMetaData.getColumnIndex(columnLabel);
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(columnIndex);
+    }
+    
+    @Override
+    public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
+        return getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel));
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        return QueryResultUtil.getInputStream(getCurrentValue(columnIndex));
+    }
+    
+    @Override
+    public InputStream getInputStream(final String columnLabel, final String type) {
+        return QueryResultUtil.getInputStream(getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel)));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return queryResultMetaData.isCaseSensitive(columnIndex);
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return queryResultMetaData.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return queryResultMetaData.getColumnLabel(columnIndex);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PrefetchBatch {
+        
+        private final List<Object[]> rows;
+        
+        private final SQLException cause;
+    }
+}
@@ -33,6 +33,8 @@ import java.util.TreeMap;
 
 /**
  * Query result meta data.
+ * 
+ * <p>Sharding encryptor of each column is resolved once when it is first required, and never resolved if there is no encrypt table.</p>
  *
  * @author panjuan
  * @author yangyi
@@ -50,12 +52,22 @@ public final class QueryResultMetaData {
     @Getter
     private final boolean queryWithCipherColumn;
     
+    private final boolean encryptTableExisted;
+    
+    private final Optional<ShardingEncryptor>[] shardingEncryptors;
+    
+    @Getter
+    private final boolean decryptRequired;
+    
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final ShardingRule shardingRule, final ShardingProperties properties) throws SQLException {
         this.resultSetMetaData = resultSetMetaData;
         this.shardingRule = shardingRule;
         this.encryptRule = shardingRule.getEncryptRule();
         columnLabelAndIndexes = getColumnLabelAndIndexMap();
         queryWithCipherColumn = properties.getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN);
+        encryptTableExisted = isEncryptTableExisted();
+        shardingEncryptors = createShardingEncryptors();
+        decryptRequired = queryWithCipherColumn && encryptTableExisted;
     }
     
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData, final EncryptRule encryptRule, final ShardingProperties properties) throws SQLException {
@@ -64,6 +76,9 @@ public final class QueryResultMetaData {
         this.encryptRule = encryptRule;
         columnLabelAndIndexes = getColumnLabelAndIndexMap();
         queryWithCipherColumn = properties.getValue(ShardingPropertiesConstant.QUERY_WITH_CIPHER_COLUMN);
+        encryptTableExisted = isEncryptTableExisted();
+        shardingEncryptors = createShardingEncryptors();
+        decryptRequired = queryWithCipherColumn && encryptTableExisted;
     }
     
     public QueryResultMetaData(final ResultSetMetaData resultSetMetaData) throws SQLException {
@@ -72,6 +87,9 @@ public final class QueryResultMetaData {
         this.encryptRule = new EncryptRule();
         columnLabelAndIndexes = getColumnLabelAndIndexMap();
         queryWithCipherColumn = false;
+        encryptTableExisted = false;
+        shardingEncryptors = createShardingEncryptors();
+        decryptRequired = false;
     }
     
     private Map<String, Integer> getColumnLabelAndIndexMap() throws SQLException {
@@ -82,6 +100,15 @@ public final class QueryResultMetaData {
         return result;
     }
     
+    private boolean isEncryptTableExisted() {
+        return null != encryptRule && !encryptRule.getEncryptTableNames().isEmpty();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Optional<ShardingEncryptor>[] createShardingEncryptors() throws SQLException {
+        return new Optional[resultSetMetaData.getColumnCount()];
+    }
+    
     /**
      * Get column count.
      * 
@@ -114,6 +141,28 @@ public final class QueryResultMetaData {
         return resultSetMetaData.getColumnName(columnIndex);
     }
     
+    /**
+     * Get column type.
+     * 
+     * @param columnIndex column index
+     * @return column type of {@code java.sql.Types}
+     * @throws SQLException SQL exception
+     */
+    public int getColumnType(final int columnIndex) throws SQLException {
+        return resultSetMetaData.getColumnType(columnIndex);
+    }
+    
+    /**
+     * Get scale.
+     * 
+     * @param columnIndex column index
+     * @return number of digits to right of the decimal point
+     * @throws SQLException SQL exception
+     */
+    public int getScale(final int columnIndex) throws SQLException {
+        return resultSetMetaData.getScale(columnIndex);
+    }
+    
     /**
      * Get column index.
      * 
@@ -143,8 +192,16 @@ public final class QueryResultMetaData {
      * @throws SQLException SQL exception
      */
     public Optional<ShardingEncryptor> getShardingEncryptor(final int columnIndex) throws SQLException {
-        String logicTable = getTableName(columnIndex);
-        return encryptRule.findShardingEncryptor(logicTable, getLogicColumn(logicTable, columnIndex));
+        if (!encryptTableExisted) {
+            return Optional.absent();
+        }
+        Optional<ShardingEncryptor> result = shardingEncryptors[columnIndex - 1];
+        if (null == result) {
+            String logicTable = getTableName(columnIndex);
+            result = encryptRule.findShardingEncryptor(logicTable, getLogicColumn(logicTable, columnIndex));
+            shardingEncryptors[columnIndex - 1] = result;
+        }
+        return result;
     }
     
     private String getTableName(final int columnIndex) throws SQLException {
@@ -17,9 +17,16 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
+import com.google.common.base.Optional;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -42,13 +49,59 @@ public final class QueryResultUtil {
      * @throws SQLException SQL exception
      */
     public static Object getValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        Object result = getValueByColumnType(resultSet, columnIndex);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        return getValue(resultSet, columnIndex, metaData.getColumnType(columnIndex));
+    }
+    
+    /**
+     * Get value with known column type.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index of value
+     * @param columnType column type from {@code java.sql.Types}
+     * @return {@code null} if the column is SQL {@code NULL}, otherwise the value of column
+     * @throws SQLException SQL exception
+     */
+    public static Object getValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        Object result = getValueByColumnType(resultSet, columnIndex, columnType);
         return resultSet.wasNull() ? null : result;
     }
     
-    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    /**
+     * Decrypt value if sharding encryptor is configured for column.
+     *
+     * @param queryResultMetaData query result meta data
+     * @param columnIndex column index of value
+     * @param value value to be decrypted
+     * @return decrypted value, or original value if decrypt is not required
+     * @throws SQLException SQL exception
+     */
+    public static Object decrypt(final QueryResultMetaData queryResultMetaData, final int columnIndex, final Object value) throws SQLException {
+        if (!queryResultMetaData.isDecryptRequired()) {
+            return value;
+        }
+        Optional<ShardingEncryptor> shardingEncryptor = queryResultMetaData.getShardingEncryptor(columnIndex);
+        return shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(null == value ? null : value.toString()) : value;
+    }
+    
+    /**
+     * Get serialized input stream of value.
+     *
+     * @param value value to be serialized
+     * @return input stream of serialized value
+     */
+    @SneakyThrows
+    public static InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
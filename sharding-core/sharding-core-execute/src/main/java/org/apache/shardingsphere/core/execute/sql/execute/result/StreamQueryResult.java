@@ -17,35 +17,42 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute.result;
 
-import com.google.common.base.Optional;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
-import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import java.io.InputStream;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 
 /**
  * Query result for stream loading.
+ * 
+ * <p>Statement can be cancelled if rest data is no longer needed, to avoid database streaming and client draining rest data.</p>
  *
  * @author zhangliang
  * @author panjuan
  * @author yangyi
  */
-public final class StreamQueryResult implements QueryResult {
+@Slf4j
+public final class StreamQueryResult implements CancelableQueryResult {
 
     @Getter
     private final QueryResultMetaData queryResultMetaData;
     
     private final ResultSet resultSet;
     
+    private volatile boolean exhausted;
+    
+    private volatile boolean cancelled;
+    
     public StreamQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingProperties properties) throws SQLException {
         this.resultSet = resultSet;
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule, properties);
@@ -63,17 +70,45 @@ public final class StreamQueryResult implements QueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (exhausted || cancelled) {
+            return false;
+        }
+        exhausted = !resultSet.next();
+        return !exhausted;
+    }
+    
+    @Override
+    public boolean cancel() {
+        if (exhausted || cancelled) {
+            return false;
+        }
+        cancelled = true;
+        try {
+            Statement statement = resultSet.getStatement();
+            if (null == statement) {
+                return false;
+            }
+            statement.cancel();
+        } catch (final SQLException ex) {
+            log.warn("Cancel statement failure.", ex);
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        return decrypt(columnIndex, QueryResultUtil.getValue(resultSet, columnIndex));
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, QueryResultUtil.getValue(resultSet, columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
-        return decrypt(columnLabel, QueryResultUtil.getValue(resultSet, queryResultMetaData.getColumnIndex(columnLabel)));
+        int columnIndex = queryResultMetaData.getColumnIndex(columnLabel);
+        return QueryResultUtil.decrypt(queryResultMetaData, columnIndex, QueryResultUtil.getValue(resultSet, columnIndex));
     }
     
     @Override
@@ -153,17 +188,4 @@ public final class StreamQueryResult implements QueryResult {
     public String getColumnLabel(final int columnIndex) throws SQLException {
         return queryResultMetaData.getColumnLabel(columnIndex);
     }
-    
-    private Object decrypt(final String columnLabel, final Object value) throws SQLException {
-        return decrypt(queryResultMetaData.getColumnIndex(columnLabel), value);
-    }
-    
-    private Object decrypt(final int columnIndex, final Object value) throws SQLException {
-        Optional<ShardingEncryptor> shardingEncryptor = queryResultMetaData.getShardingEncryptor(columnIndex);
-        return queryResultMetaData.isQueryWithCipherColumn() && shardingEncryptor.isPresent() ? shardingEncryptor.get().decrypt(getCiphertext(value)) : value;
-    }
-    
-    private String getCiphertext(final Object value) {
-        return null == value ? null : value.toString();
-    }
 }
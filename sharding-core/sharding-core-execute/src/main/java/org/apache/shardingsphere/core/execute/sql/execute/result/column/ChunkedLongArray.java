@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Long array which grows by fixed size chunks without copying.
+ *
+ * @author zhangliang
+ */
+final class ChunkedLongArray {
+    
+    private static final int CHUNK_SHIFT = 10;
+    
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    private final List<long[]> chunks = new ArrayList<>();
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Add value.
+     * 
+     * @param value value
+     */
+    void add(final long value) {
+        if (0 == (size & CHUNK_MASK)) {
+            chunks.add(new long[CHUNK_SIZE]);
+        }
+        chunks.get(size >>> CHUNK_SHIFT)[size & CHUNK_MASK] = value;
+        size++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param index index of value
+     * @return value
+     */
+    long get(final int index) {
+        return chunks.get(index >>> CHUNK_SHIFT)[index & CHUNK_MASK];
+    }
+}
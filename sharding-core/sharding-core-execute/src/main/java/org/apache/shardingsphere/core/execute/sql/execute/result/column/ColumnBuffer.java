@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Buffer of column values for all rows.
+ * 
+ * <p>Null values are marked in bitmap, and default values are kept in buffer for them.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public abstract class ColumnBuffer {
+    
+    @Getter
+    private final ColumnValueType valueType;
+    
+    private final BitSet nullValues = new BitSet();
+    
+    private int rowsCount;
+    
+    /**
+     * Add value of current row in result set.
+     * 
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    public final void add(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        addValue(resultSet, columnIndex);
+        if (resultSet.wasNull()) {
+            nullValues.set(rowsCount);
+        }
+        rowsCount++;
+    }
+    
+    protected abstract void addValue(ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    /**
+     * Judge whether value is null.
+     * 
+     * @param rowIndex row index
+     * @return value is null or not
+     */
+    public final boolean isNull(final int rowIndex) {
+        return nullValues.get(rowIndex);
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index
+     * @return value, null if value is null
+     */
+    public final Object getValue(final int rowIndex) {
+        return isNull(rowIndex) ? null : getNonNullValue(rowIndex);
+    }
+    
+    protected abstract Object getNonNullValue(int rowIndex);
+    
+    /**
+     * Get long value without boxing.
+     * 
+     * @param rowIndex row index
+     * @return long value
+     */
+    public long getLong(final int rowIndex) {
+        throw new UnsupportedOperationException(String.format("Cannot get long value from %s column.", valueType));
+    }
+    
+    /**
+     * Get double value without boxing.
+     * 
+     * @param rowIndex row index
+     * @return double value
+     */
+    public double getDouble(final int rowIndex) {
+        throw new UnsupportedOperationException(String.format("Cannot get double value from %s column.", valueType));
+    }
+}
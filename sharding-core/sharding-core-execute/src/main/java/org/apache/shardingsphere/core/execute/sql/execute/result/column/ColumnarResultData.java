@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import lombok.Getter;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Result data which keeps all rows of result set by columns.
+ * 
+ * <p>Integral, floating point and date values are kept in primitive arrays, string values are kept in shared character chunks.</p>
+ *
+ * @author zhangliang
+ */
+public final class ColumnarResultData {
+    
+    private final ColumnBuffer[] columnBuffers;
+    
+    @Getter
+    private int rowsCount;
+    
+    public ColumnarResultData(final ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        columnBuffers = new ColumnBuffer[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnBuffers[i] = createColumnBuffer(metaData.getColumnType(i + 1));
+        }
+        while (resultSet.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                columnBuffers[i].add(resultSet, i + 1);
+            }
+            rowsCount++;
+        }
+    }
+    
+    private ColumnBuffer createColumnBuffer(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongColumnBuffer(columnType);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnBuffer();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringColumnBuffer();
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return new DateColumnBuffer(columnType);
+            default:
+                return new ObjectColumnBuffer(columnType);
+        }
+    }
+    
+    /**
+     * Get column buffer.
+     * 
+     * @param columnIndex column index
+     * @return column buffer
+     */
+    public ColumnBuffer getColumnBuffer(final int columnIndex) {
+        return columnBuffers[columnIndex - 1];
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index
+     * @param columnIndex column index
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columnBuffers[columnIndex - 1].getValue(rowIndex);
+    }
+}
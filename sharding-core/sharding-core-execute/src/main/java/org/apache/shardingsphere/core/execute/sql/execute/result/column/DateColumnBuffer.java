@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Column buffer for date, time and timestamp values.
+ * 
+ * <p>Values are kept as milliseconds, and nanoseconds are kept for timestamp values too.</p>
+ *
+ * @author zhangliang
+ */
+public final class DateColumnBuffer extends ColumnBuffer {
+    
+    private final int columnType;
+    
+    private final ChunkedLongArray times = new ChunkedLongArray();
+    
+    private final ChunkedLongArray nanos;
+    
+    public DateColumnBuffer(final int columnType) {
+        super(ColumnValueType.DATE);
+        this.columnType = columnType;
+        nanos = Types.TIMESTAMP == columnType ? new ChunkedLongArray() : null;
+    }
+    
+    @Override
+    protected void addValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        switch (columnType) {
+            case Types.DATE:
+                Date date = resultSet.getDate(columnIndex);
+                times.add(null == date ? 0L : date.getTime());
+                break;
+            case Types.TIME:
+                Time time = resultSet.getTime(columnIndex);
+                times.add(null == time ? 0L : time.getTime());
+                break;
+            default:
+                Timestamp timestamp = resultSet.getTimestamp(columnIndex);
+                times.add(null == timestamp ? 0L : timestamp.getTime());
+                nanos.add(null == timestamp ? 0L : timestamp.getNanos());
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        switch (columnType) {
+            case Types.DATE:
+                return new Date(times.get(rowIndex));
+            case Types.TIME:
+                return new Time(times.get(rowIndex));
+            default:
+                Timestamp result = new Timestamp(times.get(rowIndex));
+                result.setNanos((int) nanos.get(rowIndex));
+                return result;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Column buffer for floating point values.
+ *
+ * @author zhangliang
+ */
+public final class DoubleColumnBuffer extends ColumnBuffer {
+    
+    private final ChunkedLongArray values = new ChunkedLongArray();
+    
+    public DoubleColumnBuffer() {
+        super(ColumnValueType.DOUBLE);
+    }
+    
+    @Override
+    protected void addValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        values.add(Double.doubleToRawLongBits(resultSet.getDouble(columnIndex)));
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return getDouble(rowIndex);
+    }
+    
+    @Override
+    public double getDouble(final int rowIndex) {
+        return Double.longBitsToDouble(values.get(rowIndex));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Column buffer for integral values.
+ * 
+ * <p>Values are kept as long, and boxed to type of column when got as object.</p>
+ *
+ * @author zhangliang
+ */
+public final class LongColumnBuffer extends ColumnBuffer {
+    
+    private final int columnType;
+    
+    private final ChunkedLongArray values = new ChunkedLongArray();
+    
+    public LongColumnBuffer(final int columnType) {
+        super(ColumnValueType.LONG);
+        this.columnType = columnType;
+    }
+    
+    @Override
+    protected void addValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        switch (columnType) {
+            case Types.TINYINT:
+                values.add(resultSet.getByte(columnIndex));
+                break;
+            case Types.SMALLINT:
+                values.add(resultSet.getShort(columnIndex));
+                break;
+            case Types.INTEGER:
+                values.add(resultSet.getInt(columnIndex));
+                break;
+            default:
+                values.add(resultSet.getLong(columnIndex));
+        }
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        long result = values.get(rowIndex);
+        switch (columnType) {
+            case Types.TINYINT:
+                return (byte) result;
+            case Types.SMALLINT:
+                return (short) result;
+            case Types.INTEGER:
+                return (int) result;
+            default:
+                return result;
+        }
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return values.get(rowIndex);
+    }
+}
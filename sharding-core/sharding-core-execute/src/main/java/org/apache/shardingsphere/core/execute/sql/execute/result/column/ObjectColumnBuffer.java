@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultUtil;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column buffer for values which cannot be kept as primitive or characters.
+ *
+ * @author zhangliang
+ */
+public final class ObjectColumnBuffer extends ColumnBuffer {
+    
+    private final int columnType;
+    
+    private final List<Object> values = new ArrayList<>();
+    
+    public ObjectColumnBuffer(final int columnType) {
+        super(ColumnValueType.OBJECT);
+        this.columnType = columnType;
+    }
+    
+    @Override
+    protected void addValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        values.add(QueryResultUtil.getValue(resultSet, columnIndex, columnType));
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        return values.get(rowIndex);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column buffer for string values.
+ * 
+ * <p>Characters of all values are kept in shared chunks, value which is longer than chunk size has a chunk of its own.</p>
+ *
+ * @author zhangliang
+ */
+public final class StringColumnBuffer extends ColumnBuffer {
+    
+    private static final int CHUNK_SIZE = 8192;
+    
+    private final List<char[]> chunks = new ArrayList<>();
+    
+    private final ChunkedLongArray positions = new ChunkedLongArray();
+    
+    private final ChunkedLongArray lengths = new ChunkedLongArray();
+    
+    private int chunkOffset;
+    
+    public StringColumnBuffer() {
+        super(ColumnValueType.STRING);
+    }
+    
+    @Override
+    protected void addValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        String value = resultSet.getString(columnIndex);
+        if (null == value) {
+            positions.add(0L);
+            lengths.add(0L);
+            return;
+        }
+        int length = value.length();
+        if (chunks.isEmpty() || chunkOffset + length > chunks.get(chunks.size() - 1).length) {
+            chunks.add(new char[Math.max(CHUNK_SIZE, length)]);
+            chunkOffset = 0;
+        }
+        value.getChars(0, length, chunks.get(chunks.size() - 1), chunkOffset);
+        positions.add((long) (chunks.size() - 1) << Integer.SIZE | chunkOffset);
+        lengths.add(length);
+        chunkOffset += length;
+    }
+    
+    @Override
+    protected Object getNonNullValue(final int rowIndex) {
+        long position = positions.get(rowIndex);
+        return new String(chunks.get((int) (position >>> Integer.SIZE)), (int) position, (int) lengths.get(rowIndex));
+    }
+}
@@ -47,6 +47,12 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final String schemaName;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null);
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -100,7 +106,7 @@ public final class SQLExecutePrepareTemplate {
         for (SQLUnit each : sqlUnitGroup) {
             result.add(callback.createStatementExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode));
         }
-        return new ShardingExecuteGroup<>(result);
+        return new ShardingExecuteGroup<>(schemaName, dataSourceName, result);
     }
 }
 
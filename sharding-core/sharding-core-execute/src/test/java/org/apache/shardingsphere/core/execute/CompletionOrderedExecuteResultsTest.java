@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class CompletionOrderedExecuteResultsTest {
+    
+    @Test
+    public void assertNextInCompletionOrder() throws SQLException {
+        SettableFuture<Collection<String>> slowFuture = SettableFuture.create();
+        SettableFuture<Collection<String>> fastFuture = SettableFuture.create();
+        Map<ListenableFuture<Collection<String>>, ShardingExecuteGroup<String>> asyncGroups = new LinkedHashMap<>();
+        asyncGroups.put(slowFuture, new ShardingExecuteGroup<>(Collections.singletonList("slow_input")));
+        asyncGroups.put(fastFuture, new ShardingExecuteGroup<>(Collections.singletonList("fast_input")));
+        CompletionOrderedExecuteResults<String, String> actual = new CompletionOrderedExecuteResults<>(asyncGroups, mockCancelCallback(), 0L, 0L);
+        fastFuture.set(Collections.singletonList("fast_result"));
+        assertThat(actual.next(), is("fast_result"));
+        slowFuture.set(Collections.singletonList("slow_result"));
+        assertThat(actual.next(), is("slow_result"));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCancelWithFetchedResults() throws SQLException {
+        ShardingExecuteGroup<String> syncGroup = new ShardingExecuteGroup<>(Arrays.asList("consumed_input", "unconsumed_input"));
+        SettableFuture<Collection<String>> unfinishedFuture = SettableFuture.create();
+        ShardingExecuteGroup<String> unfinishedGroup = new ShardingExecuteGroup<>(Collections.singletonList("unfinished_input"));
+        Map<ListenableFuture<Collection<String>>, ShardingExecuteGroup<String>> asyncGroups = new LinkedHashMap<>();
+        asyncGroups.put(unfinishedFuture, unfinishedGroup);
+        ShardingGroupCancelCallback<String> cancelCallback = mockCancelCallback();
+        CompletionOrderedExecuteResults<String, String> actual = new CompletionOrderedExecuteResults<>(asyncGroups, cancelCallback, 0L, 0L);
+        actual.addSyncResults(syncGroup, Arrays.asList("consumed_result", "unconsumed_result"));
+        assertThat(actual.next(), is("consumed_result"));
+        assertTrue(actual.cancel());
+        verify(cancelCallback).cancel(Collections.singletonList("unconsumed_input"));
+        verify(cancelCallback).cancel(unfinishedGroup.getInputs());
+        assertTrue(unfinishedFuture.isCancelled());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertHasNextWhenInterrupted() throws SQLException {
+        Map<ListenableFuture<Collection<String>>, ShardingExecuteGroup<String>> asyncGroups = new LinkedHashMap<>();
+        asyncGroups.put(SettableFuture.<Collection<String>>create(), new ShardingExecuteGroup<>(Collections.singletonList("unfinished_input")));
+        CompletionOrderedExecuteResults<String, String> actual = new CompletionOrderedExecuteResults<>(asyncGroups, mockCancelCallback(), 0L, 0L);
+        Thread.currentThread().interrupt();
+        try {
+            actual.hasNext();
+            fail("Expected ShardingException.");
+        } catch (final ShardingException ex) {
+            assertTrue(Thread.interrupted());
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingGroupCancelCallback<String> mockCancelCallback() {
+        return mock(ShardingGroupCancelCallback.class);
+    }
+}
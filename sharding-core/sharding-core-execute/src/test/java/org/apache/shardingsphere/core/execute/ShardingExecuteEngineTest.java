@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Optional;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import org.junit.After;
 import org.junit.Before;
@@ -25,15 +27,24 @@ import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ShardingExecuteEngineTest {
@@ -94,6 +105,24 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithBulkhead() throws SQLException, InterruptedException {
+        ShardingExecuteEngine shardingExecuteEngine = new ShardingExecuteEngine("THREAD_POOL", 10, 1, 0, "");
+        try {
+            Collection<ShardingExecuteGroup<StatementExecuteUnit>> inputGroups = new LinkedList<>();
+            for (int i = 0; i < 3; i++) {
+                inputGroups.add(new ShardingExecuteGroup<>("ds_" + i % 2, mockInputGroups(1, 1).iterator().next().getInputs()));
+            }
+            CountDownLatch latch = new CountDownLatch(3);
+            List<String> actual = shardingExecuteEngine.groupExecute(inputGroups, new MockGroupExecuteCallback(latch));
+            latch.await();
+            assertThat(actual.size(), is(3));
+            assertThat(shardingExecuteEngine.getBulkheads().size(), is(2));
+        } finally {
+            shardingExecuteEngine.close();
+        }
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
@@ -102,6 +131,184 @@ public class ShardingExecuteEngineTest {
         assertThat(actual.size(), is(0));
     }
     
+    @Test
+    public void assertParallelExecuteInCompletionOrder() throws SQLException {
+        final CountDownLatch firstGroupStartedLatch = new CountDownLatch(1);
+        final CountDownLatch lastGroupConsumedLatch = new CountDownLatch(1);
+        ShardingGroupExecuteCallback<StatementExecuteUnit, String> callback = new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) 
+                    throws SQLException {
+                if (isTrunkThread) {
+                    firstGroupStartedLatch.countDown();
+                }
+                if (2 == inputs.size()) {
+                    awaitQuietly(lastGroupConsumedLatch);
+                }
+                if (3 == inputs.size()) {
+                    awaitQuietly(firstGroupStartedLatch);
+                }
+                return Arrays.asList("group_" + inputs.size());
+            }
+        };
+        CompletionOrderedExecuteResults<StatementExecuteUnit, String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(
+                createInputGroups(1, 2, 3), null, callback, mockCancelCallback(), false, 0L);
+        try {
+            assertThat(actual.next(), is("group_1"));
+            assertThat(actual.next(), is("group_3"));
+        } finally {
+            lastGroupConsumedLatch.countDown();
+        }
+        assertThat(actual.next(), is("group_2"));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertParallelExecuteInCompletionOrderBeforeSlowGroupFinished() throws SQLException {
+        final CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        ShardingGroupExecuteCallback<StatementExecuteUnit, String> callback = new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                if (3 == inputs.size()) {
+                    awaitQuietly(slowGroupLatch);
+                }
+                return Arrays.asList("group_" + inputs.size());
+            }
+        };
+        CompletionOrderedExecuteResults<StatementExecuteUnit, String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(
+                createInputGroups(1, 2, 3), null, callback, mockCancelCallback(), false, 0L);
+        assertThat(actual.next(), is("group_1"));
+        assertThat(actual.next(), is("group_2"));
+        slowGroupLatch.countDown();
+        assertThat(actual.next(), is("group_3"));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertParallelExecuteInCompletionOrderWithTimeout() throws SQLException {
+        final CountDownLatch neverReleasedLatch = new CountDownLatch(1);
+        ShardingGroupExecuteCallback<StatementExecuteUnit, String> callback = new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+                if (!isTrunkThread) {
+                    awaitQuietly(neverReleasedLatch);
+                }
+                return Arrays.asList("group_" + inputs.size());
+            }
+        };
+        ShardingGroupCancelCallback<StatementExecuteUnit> cancelCallback = mockCancelCallback();
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> inputGroups = createInputGroups(1, 2);
+        CompletionOrderedExecuteResults<StatementExecuteUnit, String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(inputGroups, null, callback, cancelCallback, false, 50L);
+        try {
+            assertThat(actual.next(), is("group_1"));
+            actual.next();
+            fail("Expected SQLTimeoutException.");
+        } catch (final SQLTimeoutException ignored) {
+        } finally {
+            neverReleasedLatch.countDown();
+        }
+        verify(cancelCallback).cancel(Lists.newArrayList(inputGroups).get(1).getInputs());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertParallelExecuteInCompletionOrderWithFailure() {
+        final CountDownLatch neverReleasedLatch = new CountDownLatch(1);
+        final SQLException expected = new SQLException("failed");
+        ShardingGroupExecuteCallback<StatementExecuteUnit, String> callback = new ShardingGroupExecuteCallback<StatementExecuteUnit, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<StatementExecuteUnit> inputs, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) 
+                    throws SQLException {
+                if (2 == inputs.size()) {
+                    throw expected;
+                }
+                if (3 == inputs.size()) {
+                    awaitQuietly(neverReleasedLatch);
+                }
+                return Arrays.asList("group_" + inputs.size());
+            }
+        };
+        ShardingGroupCancelCallback<StatementExecuteUnit> cancelCallback = mockCancelCallback();
+        List<ShardingExecuteGroup<StatementExecuteUnit>> inputGroups = Lists.newArrayList(createInputGroups(1, 2, 3));
+        try {
+            CompletionOrderedExecuteResults<StatementExecuteUnit, String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(inputGroups, null, callback, cancelCallback, false, 0L);
+            actual.next();
+            actual.next();
+            fail("Expected SQLException.");
+        } catch (final SQLException ex) {
+            assertThat(ex, is(expected));
+        } finally {
+            neverReleasedLatch.countDown();
+        }
+        verify(cancelCallback).cancel(inputGroups.get(2).getInputs());
+        verify(cancelCallback, never()).cancel(inputGroups.get(1).getInputs());
+    }
+    
+    @Test
+    public void assertSerialExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        CompletionOrderedExecuteResults<StatementExecuteUnit, String> actual = shardingExecuteEngine.groupExecuteInCompletionOrder(
+                inputGroups, firstCallback, callback, mockCancelCallback(), true, 0L);
+        latch.await();
+        assertThat(toList(actual).size(), is(4));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingGroupCancelCallback<StatementExecuteUnit> mockCancelCallback() {
+        return mock(ShardingGroupCancelCallback.class);
+    }
+    
+    private List<String> toList(final CompletionOrderedExecuteResults<StatementExecuteUnit, String> executeResults) throws SQLException {
+        List<String> result = new LinkedList<>();
+        while (executeResults.hasNext()) {
+            result.add(executeResults.next());
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertSubmitPrefetchWhenAllPrefetchThreadsBusy() throws InterruptedException, ExecutionException {
+        ShardingExecuteEngine shardingExecuteEngine = new ShardingExecuteEngine(1);
+        try {
+            final CountDownLatch releaseLatch = new CountDownLatch(1);
+            Optional<Future<?>> actual = shardingExecuteEngine.submitPrefetch(new Runnable() {
+                
+                @Override
+                public void run() {
+                    awaitQuietly(releaseLatch);
+                }
+            });
+            assertTrue(actual.isPresent());
+            assertFalse(shardingExecuteEngine.submitPrefetch(mock(Runnable.class)).isPresent());
+            releaseLatch.countDown();
+            actual.get().get();
+            Optional<Future<?>> next = shardingExecuteEngine.submitPrefetch(mock(Runnable.class));
+            assertTrue(next.isPresent());
+            next.get().get();
+        } finally {
+            shardingExecuteEngine.close();
+        }
+    }
+    
+    private Collection<ShardingExecuteGroup<StatementExecuteUnit>> createInputGroups(final int... unitSizes) {
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> result = new LinkedList<>();
+        for (int each : unitSizes) {
+            result.addAll(mockInputGroups(1, each));
+        }
+        return result;
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     @RequiredArgsConstructor
     private final class MockGroupExecuteCallback implements ShardingExecuteCallback<StatementExecuteUnit, String>, ShardingGroupExecuteCallback<StatementExecuteUnit, String> {
     
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.bulkhead;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class DataSourceBulkheadSchedulerTest {
+    
+    private final List<Runnable> dispatchedTasks = new LinkedList<>();
+    
+    private final List<String> executedDataSourceNames = new LinkedList<>();
+    
+    private final Executor executor = new Executor() {
+        
+        @Override
+        public void execute(final Runnable command) {
+            dispatchedTasks.add(command);
+        }
+    };
+    
+    @Test
+    public void assertSubmitWithinConcurrencySizeOfDataSource() throws InterruptedException, ExecutionException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 0, 1, 0, Collections.<String, Integer>emptyMap());
+        ListenableFuture<String> future1 = scheduler.submit(null, "ds_0", createTask("ds_0"));
+        ListenableFuture<String> future2 = scheduler.submit(null, "ds_0", createTask("ds_0"));
+        ListenableFuture<String> future3 = scheduler.submit(null, "ds_1", createTask("ds_1"));
+        assertThat(dispatchedTasks.size(), is(2));
+        DataSourceBulkhead bulkhead = scheduler.getBulkheads().iterator().next();
+        assertThat(bulkhead.getDataSourceName(), is("ds_0"));
+        assertThat(bulkhead.getRunningCount(), is(1));
+        assertThat(bulkhead.getQueueDepth(), is(1));
+        runNextTask();
+        assertThat(future1.get(), is("ds_0"));
+        assertFalse(future2.isDone());
+        assertThat(dispatchedTasks.size(), is(2));
+        runNextTask();
+        runNextTask();
+        assertThat(future2.get(), is("ds_0"));
+        assertThat(future3.get(), is("ds_1"));
+        assertThat(bulkhead.getRunningCount(), is(0));
+        assertThat(bulkhead.getQueueDepth(), is(0));
+        assertThat(bulkhead.getExecutedCount(), is(2L));
+    }
+    
+    @Test
+    public void assertSubmitWhenQueueOfDataSourceIsFull() throws InterruptedException {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 0, 1, 1, Collections.<String, Integer>emptyMap());
+        scheduler.submit(null, "ds_0", createTask("ds_0"));
+        scheduler.submit(null, "ds_0", createTask("ds_0"));
+        ListenableFuture<String> actual = scheduler.submit(null, "ds_0", createTask("ds_0"));
+        assertTrue(actual.isDone());
+        try {
+            actual.get();
+            fail("Expected rejection.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(RejectedExecutionException.class));
+        }
+        assertThat(scheduler.getBulkheads().iterator().next().getRejectedCount(), is(1L));
+    }
+    
+    @Test
+    public void assertSubmitWithRoundRobin() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 1, 10, 0, Collections.<String, Integer>emptyMap());
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(null, "ds_0", createTask("ds_0"));
+        }
+        for (int i = 0; i < 2; i++) {
+            scheduler.submit(null, "ds_1", createTask("ds_1"));
+        }
+        assertThat(dispatchedTasks.size(), is(1));
+        while (!dispatchedTasks.isEmpty()) {
+            runNextTask();
+        }
+        assertThat(executedDataSourceNames, is(Arrays.asList("ds_0", "ds_1", "ds_0", "ds_1", "ds_0")));
+    }
+    
+    @Test
+    public void assertSubmitWithWeightedRoundRobin() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 1, 10, 0, Collections.singletonMap("ds_0", 3));
+        for (int i = 0; i < 3; i++) {
+            scheduler.submit(null, "ds_0", createTask("ds_0"));
+        }
+        for (int i = 0; i < 2; i++) {
+            scheduler.submit(null, "ds_1", createTask("ds_1"));
+        }
+        while (!dispatchedTasks.isEmpty()) {
+            runNextTask();
+        }
+        assertThat(executedDataSourceNames, is(Arrays.asList("ds_0", "ds_0", "ds_0", "ds_1", "ds_1")));
+        Iterator<DataSourceBulkhead> bulkheads = scheduler.getBulkheads().iterator();
+        assertThat(bulkheads.next().getWeight(), is(3));
+        assertThat(bulkheads.next().getWeight(), is(1));
+    }
+    
+    @Test
+    public void assertRemoveBulkheads() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 0, 1, 0, Collections.<String, Integer>emptyMap());
+        scheduler.submit("schema_0", "ds_0", createTask("ds_0"));
+        ListenableFuture<String> queued = scheduler.submit("schema_0", "ds_0", createTask("ds_0"));
+        scheduler.submit("schema_1", "ds_0", createTask("ds_0"));
+        scheduler.removeBulkheads("schema_0");
+        assertTrue(queued.isCancelled());
+        Iterator<DataSourceBulkhead> bulkheads = scheduler.getBulkheads().iterator();
+        assertThat(bulkheads.next().getSchemaName(), is("schema_1"));
+        assertFalse(bulkheads.hasNext());
+        while (!dispatchedTasks.isEmpty()) {
+            runNextTask();
+        }
+        assertThat(executedDataSourceNames, is(Arrays.asList("ds_0", "ds_0")));
+    }
+    
+    @Test
+    public void assertRetainBulkheads() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 0, 1, 0, Collections.<String, Integer>emptyMap());
+        scheduler.submit("schema_0", "ds_0", createTask("ds_0"));
+        scheduler.submit("schema_0", "ds_1", createTask("ds_1"));
+        scheduler.submit("schema_1", "ds_1", createTask("ds_1"));
+        scheduler.retainBulkheads("schema_0", Collections.singletonList("ds_0"));
+        Iterator<DataSourceBulkhead> bulkheads = scheduler.getBulkheads().iterator();
+        DataSourceBulkhead bulkhead0 = bulkheads.next();
+        assertThat(bulkhead0.getSchemaName(), is("schema_0"));
+        assertThat(bulkhead0.getDataSourceName(), is("ds_0"));
+        DataSourceBulkhead bulkhead1 = bulkheads.next();
+        assertThat(bulkhead1.getSchemaName(), is("schema_1"));
+        assertThat(bulkhead1.getDataSourceName(), is("ds_1"));
+        assertFalse(bulkheads.hasNext());
+    }
+    
+    @Test
+    public void assertSubmitWithSameDataSourceNameOfDifferentSchemas() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(executor, 0, 1, 0, Collections.<String, Integer>emptyMap());
+        scheduler.submit("schema_0", "ds_0", createTask("ds_0"));
+        scheduler.submit("schema_1", "ds_0", createTask("ds_0"));
+        assertThat(dispatchedTasks.size(), is(2));
+        Iterator<DataSourceBulkhead> bulkheads = scheduler.getBulkheads().iterator();
+        DataSourceBulkhead bulkhead0 = bulkheads.next();
+        assertThat(bulkhead0.getSchemaName(), is("schema_0"));
+        assertThat(bulkhead0.getRunningCount(), is(1));
+        DataSourceBulkhead bulkhead1 = bulkheads.next();
+        assertThat(bulkhead1.getSchemaName(), is("schema_1"));
+        assertThat(bulkhead1.getDataSourceName(), is("ds_0"));
+        assertThat(bulkhead1.getRunningCount(), is(1));
+        assertFalse(bulkheads.hasNext());
+    }
+    
+    @Test
+    public void assertSubmitWhenExecutorRejected() {
+        DataSourceBulkheadScheduler scheduler = new DataSourceBulkheadScheduler(new Executor() {
+            
+            @Override
+            public void execute(final Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }, 0, 1, 0, Collections.<String, Integer>emptyMap());
+        assertTrue(scheduler.submit(null, "ds_0", createTask("ds_0")).isCancelled());
+        Iterator<DataSourceBulkhead> bulkheads = scheduler.getBulkheads().iterator();
+        assertThat(bulkheads.next().getRunningCount(), is(0));
+    }
+    
+    private Callable<String> createTask(final String dataSourceName) {
+        return new Callable<String>() {
+            
+            @Override
+            public String call() {
+                executedDataSourceNames.add(dataSourceName);
+                return dataSourceName;
+            }
+        };
+    }
+    
+    private void runNextTask() {
+        dispatchedTasks.remove(0).run();
+    }
+}
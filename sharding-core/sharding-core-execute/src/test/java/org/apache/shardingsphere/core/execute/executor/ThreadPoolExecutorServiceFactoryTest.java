@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.executor;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ThreadPoolExecutorServiceFactoryTest {
+    
+    @Test
+    public void assertNewFixedExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorService actual = new ThreadPoolExecutorServiceFactory().newExecutorService(2, "Test-%d");
+        try {
+            assertThat(((ThreadPoolExecutor) actual).getMaximumPoolSize(), is(2));
+            assertTrue(actual.submit(new Callable<String>() {
+                
+                @Override
+                public String call() {
+                    return Thread.currentThread().getName();
+                }
+            }).get().startsWith("ShardingSphere-Test-"));
+        } finally {
+            actual.shutdown();
+        }
+    }
+    
+    @Test
+    public void assertNewUnlimitedExecutorService() {
+        ExecutorService actual = new ThreadPoolExecutorServiceFactory().newExecutorService(0, "Test-%d");
+        try {
+            assertThat(((ThreadPoolExecutor) actual).getMaximumPoolSize(), is(Integer.MAX_VALUE));
+        } finally {
+            actual.shutdown();
+        }
+    }
+}
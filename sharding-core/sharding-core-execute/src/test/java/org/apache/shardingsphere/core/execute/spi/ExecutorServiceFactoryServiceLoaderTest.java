@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.spi;
+
+import org.apache.shardingsphere.core.config.ShardingConfigurationException;
+import org.apache.shardingsphere.core.execute.executor.ThreadPoolExecutorServiceFactory;
+import org.apache.shardingsphere.core.execute.executor.VirtualThreadExecutorServiceFactory;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorServiceFactoryServiceLoaderTest {
+    
+    @Test
+    public void assertNewAvailableServiceForThreadPool() {
+        assertThat(new ExecutorServiceFactoryServiceLoader().newAvailableService("THREAD_POOL"), instanceOf(ThreadPoolExecutorServiceFactory.class));
+    }
+    
+    @Test
+    public void assertNewAvailableServiceForVirtualThread() {
+        String expectedType = new VirtualThreadExecutorServiceFactory().isAvailable() ? "VIRTUAL_THREAD" : "THREAD_POOL";
+        assertThat(new ExecutorServiceFactoryServiceLoader().newAvailableService("VIRTUAL_THREAD").getType(), is(expectedType));
+    }
+    
+    @Test(expected = ShardingConfigurationException.class)
+    public void assertNewAvailableServiceForInvalidType() {
+        new ExecutorServiceFactoryServiceLoader().newAvailableService("INVALID");
+    }
+}
@@ -34,6 +34,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
@@ -102,8 +103,16 @@ public final class AggregationDistinctQueryResultTest {
     @Test
     public void assertDivide() throws SQLException {
         List<DistinctQueryResult> actual = aggregationDistinctQueryResult.divide();
-        assertThat(actual.size(), is(2));
+        assertThat(actual.size(), is(4));
         assertThat(actual.iterator().next().getColumnCount(), is((Object) 5));
+        assertTrue(actual.get(0).next());
+        assertThat(actual.get(0).getValue(1, Object.class), is((Object) 10));
+        assertFalse(actual.get(0).next());
+        assertFalse(actual.get(1).next());
+        assertTrue(actual.get(2).next());
+        assertThat(actual.get(2).getValue(1, Object.class), is((Object) 20));
+        assertFalse(actual.get(2).next());
+        assertFalse(actual.get(3).next());
     }
     
     @Test
@@ -116,6 +125,14 @@ public final class AggregationDistinctQueryResultTest {
         assertThat(aggregationDistinctQueryResult.getValue(5, Object.class), is((Object) 10));
     }
     
+    @Test
+    public void assertGetValueByColumnIndexWithApproximateCountDistinct() throws SQLException {
+        AggregationDistinctQueryResult actual = new AggregationDistinctQueryResult(getQueryResults(), getAggregationDistinctSelectItems(), true);
+        actual.next();
+        assertThat(actual.getValue(2, Object.class), is((Object) 10));
+        assertThat(actual.getValue(4, Object.class), is((Object) 1));
+    }
+    
     @Test
     public void assertGetValueByColumnLabel() {
         aggregationDistinctQueryResult.next();
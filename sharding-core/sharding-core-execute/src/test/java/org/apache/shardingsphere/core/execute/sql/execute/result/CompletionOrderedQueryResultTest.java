@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import com.google.common.base.Functions;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.apache.shardingsphere.core.execute.CompletionOrderedExecuteResults;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.ShardingGroupCancelCallback;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class CompletionOrderedQueryResultTest {
+    
+    @Test
+    public void assertBindInOrderOfAccess() throws SQLException {
+        QueryResult firstQueryResult = mock(QueryResult.class);
+        when(firstQueryResult.getColumnCount()).thenReturn(2);
+        QueryResult secondQueryResult = mock(QueryResult.class);
+        when(secondQueryResult.next()).thenReturn(true);
+        CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults = new CompletionOrderedExecuteResults<>(Arrays.asList(firstQueryResult, secondQueryResult));
+        QueryResult first = createQueryResult(executeResults);
+        QueryResult second = createQueryResult(executeResults);
+        assertThat(second.getColumnCount(), is(2));
+        assertTrue(first.next());
+        assertThat(second.getColumnCount(), is(2));
+        verify(firstQueryResult, never()).next();
+        verify(secondQueryResult, never()).getColumnCount();
+    }
+    
+    @Test
+    public void assertNextWithoutExecuteResult() throws SQLException {
+        assertFalse(createQueryResult(new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(Collections.<QueryResult>emptyList())).next());
+    }
+    
+    @Test
+    public void assertCancelBeforeBound() throws SQLException {
+        ShardingExecuteGroup<StatementExecuteUnit> unfinishedGroup = new ShardingExecuteGroup<>(Collections.singletonList(mock(StatementExecuteUnit.class)));
+        Map<ListenableFuture<Collection<QueryResult>>, ShardingExecuteGroup<StatementExecuteUnit>> asyncGroups = new LinkedHashMap<>();
+        SettableFuture<Collection<QueryResult>> unfinishedFuture = SettableFuture.create();
+        asyncGroups.put(unfinishedFuture, unfinishedGroup);
+        ShardingGroupCancelCallback<StatementExecuteUnit> cancelCallback = mockCancelCallback();
+        CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults = new CompletionOrderedExecuteResults<>(asyncGroups, cancelCallback, 0L, 0L);
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(executeResults);
+        assertTrue(actual.cancel());
+        assertTrue(unfinishedFuture.isCancelled());
+        verify(cancelCallback).cancel(unfinishedGroup.getInputs());
+        assertFalse(actual.next());
+        assertFalse(actual.cancel());
+    }
+    
+    @Test
+    public void assertCancelAfterBound() throws SQLException {
+        CancelableQueryResult queryResult = mock(CancelableQueryResult.class);
+        when(queryResult.cancel()).thenReturn(true);
+        ShardingGroupCancelCallback<StatementExecuteUnit> cancelCallback = mockCancelCallback();
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(Collections.<QueryResult>singletonList(queryResult)));
+        actual.next();
+        assertTrue(actual.cancel());
+        verify(queryResult).cancel();
+    }
+    
+    @Test
+    public void assertCloseBeforeBound() throws SQLException {
+        CancelableQueryResult firstQueryResult = mock(CancelableQueryResult.class);
+        CancelableQueryResult secondQueryResult = mock(CancelableQueryResult.class);
+        CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults = new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(
+                Arrays.<QueryResult>asList(firstQueryResult, secondQueryResult));
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(executeResults);
+        actual.close();
+        verify(firstQueryResult).close();
+        verify(secondQueryResult).close();
+        verify(firstQueryResult, never()).cancel();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseAfterBound() throws SQLException {
+        CancelableQueryResult firstQueryResult = mock(CancelableQueryResult.class);
+        CancelableQueryResult secondQueryResult = mock(CancelableQueryResult.class);
+        CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults = new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(
+                Arrays.<QueryResult>asList(firstQueryResult, secondQueryResult));
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(executeResults);
+        actual.next();
+        actual.close();
+        verify(firstQueryResult).close();
+        verify(secondQueryResult, never()).close();
+    }
+    
+    @Test
+    public void assertGetPrimitiveValueWithColumnarQueryResult() throws SQLException {
+        ColumnarQueryResult queryResult = mock(ColumnarQueryResult.class);
+        when(queryResult.getColumnValueType(1)).thenReturn(ColumnValueType.LONG);
+        when(queryResult.getLong(1)).thenReturn(10L);
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(Collections.<QueryResult>singletonList(queryResult)));
+        assertThat(actual.getColumnValueType(1), is(ColumnValueType.LONG));
+        assertFalse(actual.isNull(1));
+        assertThat(actual.getLong(1), is(10L));
+    }
+    
+    @Test
+    public void assertGetColumnValueTypeWithoutColumnarQueryResult() throws SQLException {
+        CompletionOrderedQueryResult<QueryResult> actual = createQueryResult(
+                new CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult>(Collections.singletonList(mock(QueryResult.class))));
+        assertThat(actual.getColumnValueType(1), is(ColumnValueType.OBJECT));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingGroupCancelCallback<StatementExecuteUnit> mockCancelCallback() {
+        return mock(ShardingGroupCancelCallback.class);
+    }
+    
+    private CompletionOrderedQueryResult<QueryResult> createQueryResult(final CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults) {
+        return new CompletionOrderedQueryResult<>(executeResults, Functions.<QueryResult>identity());
+    }
+}
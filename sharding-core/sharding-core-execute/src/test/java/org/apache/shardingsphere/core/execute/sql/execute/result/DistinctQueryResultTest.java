@@ -81,8 +81,32 @@ public final class DistinctQueryResultTest {
     @Test
     public void assertDivide() throws SQLException {
         List<DistinctQueryResult> actual = distinctQueryResult.divide();
-        assertThat(actual.size(), is(2));
+        assertThat(actual.size(), is(4));
         assertThat(actual.iterator().next().getColumnCount(), is((Object) 1));
+        assertTrue(actual.get(0).next());
+        assertThat(actual.get(0).getValue(1, Object.class), is((Object) 10));
+        assertFalse(actual.get(0).next());
+        assertFalse(actual.get(1).next());
+        assertTrue(actual.get(2).next());
+        assertThat(actual.get(2).getValue(1, Object.class), is((Object) 20));
+        assertFalse(actual.get(2).next());
+        assertFalse(actual.get(3).next());
+    }
+    
+    @Test
+    public void assertNextWithDuplicatedDistinctValues() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.next()).thenReturn(true, true, true, false);
+        when(queryResult.getColumnCount()).thenReturn(2);
+        when(queryResult.getValue(1, Object.class)).thenReturn(10, 10, 20);
+        when(queryResult.getValue(2, Object.class)).thenReturn(1, 2, 3);
+        doReturn(queryResultMetaData).when(queryResult).getQueryResultMetaData();
+        DistinctQueryResult actual = new DistinctQueryResult(Collections.singletonList(queryResult), Collections.singletonList("order_id"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class), is((Object) 3));
+        assertFalse(actual.next());
     }
     
     @Test
@@ -191,10 +215,12 @@ public final class DistinctQueryResultTest {
         when(queryResult.getColumnCount()).thenThrow(SQLException.class);
         when(queryResult.getColumnLabel(1)).thenReturn("order_id");
         when(queryResult.getValue(1, Object.class)).thenReturn(10);
+        doReturn(queryResultMetaData).when(queryResult).getQueryResultMetaData();
         Collection<QueryResult> queryResults = new LinkedList<>();
         queryResults.add(queryResult);
         List<String> distinctColumnLabels = Collections.singletonList("order_id");
         distinctQueryResult = new DistinctQueryResult(queryResults, distinctColumnLabels);
+        distinctQueryResult.next();
     }
     
     @Test(expected = SQLException.class)
@@ -204,9 +230,11 @@ public final class DistinctQueryResultTest {
         when(queryResult.getColumnCount()).thenReturn(1);
         when(queryResult.getColumnLabel(1)).thenReturn("order_id");
         when(queryResult.getValue(1, Object.class)).thenReturn(10);
+        doReturn(queryResultMetaData).when(queryResult).getQueryResultMetaData();
         Collection<QueryResult> queryResults = new LinkedList<>();
         queryResults.add(queryResult);
         List<String> distinctColumnLabels = Collections.singletonList("order_id");
         distinctQueryResult = new DistinctQueryResult(queryResults, distinctColumnLabels);
+        distinctQueryResult.next();
     }
 }
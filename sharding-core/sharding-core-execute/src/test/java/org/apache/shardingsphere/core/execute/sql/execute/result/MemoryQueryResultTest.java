@@ -20,6 +20,7 @@ package org.apache.shardingsphere.core.execute.sql.execute.result;
 import com.google.common.base.Optional;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -38,6 +39,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -88,6 +90,7 @@ public final class MemoryQueryResultTest {
     
     private EncryptRule getEncryptRule() {
         EncryptRule result = mock(EncryptRule.class);
+        when(result.getEncryptTableNames()).thenReturn(Collections.singletonList("order"));
         when(result.findShardingEncryptor("order", "order_id")).thenReturn(Optional.fromNullable(shardingEncryptor));
         when(result.isCipherColumn("order", "order_id")).thenReturn(false);
         return result;
@@ -125,7 +128,7 @@ public final class MemoryQueryResultTest {
     @Test(expected = Exception.class)
     public void assertGetValueWithException() throws SQLException {
         ResultSet resultSet = getResultSetWithException();
-        MemoryQueryResult queryResult = new MemoryQueryResult(resultSet);
+        MemoryQueryResult queryResult = new MemoryQueryResult(resultSet, getEncryptRule(), new ShardingProperties(new Properties()));
         queryResult.next();
         queryResult.getValue("order_id", Integer.class);
     }
@@ -202,6 +205,21 @@ public final class MemoryQueryResultTest {
         assertTrue(queryResult.wasNull());
     }
     
+    @Test
+    public void assertGetLong() throws SQLException {
+        MemoryQueryResult queryResult = new MemoryQueryResult(getResultSet());
+        queryResult.next();
+        assertThat(queryResult.getColumnValueType(1), is(ColumnValueType.LONG));
+        assertFalse(queryResult.isNull(1));
+        assertThat(queryResult.getLong(1), is(1L));
+    }
+    
+    @Test
+    public void assertGetColumnValueTypeWithShardingRule() throws SQLException {
+        MemoryQueryResult queryResult = new MemoryQueryResult(getResultSet(), getShardingRule(), new ShardingProperties(new Properties()));
+        assertThat(queryResult.getColumnValueType(1), is(ColumnValueType.OBJECT));
+    }
+    
     @Test
     public void assertIsCaseSensitive() throws SQLException {
         MemoryQueryResult queryResult = new MemoryQueryResult(getResultSet());
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.hamcrest.core.Is;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchStreamQueryResultTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(1);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        assertQueryResult(new PrefetchStreamQueryResult(getResultSet(), getProperties(), executeEngine));
+    }
+    
+    private void assertQueryResult(final PrefetchStreamQueryResult queryResult) throws SQLException {
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Integer.class), Is.<Object>is(1));
+        assertFalse(queryResult.wasNull());
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue("order_id", Integer.class), Is.<Object>is(2));
+        assertTrue(queryResult.next());
+        assertThat(queryResult.getValue(1, Integer.class), Is.<Object>is(3));
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithException() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException());
+        PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getProperties(), executeEngine);
+        assertTrue(queryResult.next());
+        queryResult.next();
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true);
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getProperties(), executeEngine);
+        assertTrue(queryResult.next());
+        assertTrue(queryResult.cancel());
+        verify(statement).cancel();
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.cancel());
+    }
+    
+    @Test
+    public void assertCancelAfterResultSetExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getProperties(), executeEngine);
+        assertTrue(queryResult.next());
+        assertTrue(queryResult.next());
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.cancel());
+        verify(statement, never()).cancel();
+        assertFalse(queryResult.next());
+    }
+    
+    @Test
+    public void assertNextWhenAllPrefetchThreadsBusy() throws SQLException {
+        ResultSet busyResultSet = getResultSet();
+        when(busyResultSet.next()).thenReturn(true);
+        PrefetchStreamQueryResult busyQueryResult = new PrefetchStreamQueryResult(busyResultSet, getProperties(), executeEngine);
+        try {
+            assertQueryResult(new PrefetchStreamQueryResult(getResultSet(), getProperties(), executeEngine));
+        } finally {
+            busyQueryResult.cancel();
+        }
+    }
+    
+    @Test
+    public void assertCancelWhenAllPrefetchThreadsBusy() throws SQLException {
+        ResultSet busyResultSet = getResultSet();
+        when(busyResultSet.next()).thenReturn(true);
+        PrefetchStreamQueryResult busyQueryResult = new PrefetchStreamQueryResult(busyResultSet, getProperties(), executeEngine);
+        try {
+            ResultSet resultSet = getResultSet();
+            Statement statement = mock(Statement.class);
+            when(resultSet.getStatement()).thenReturn(statement);
+            PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getProperties(), executeEngine);
+            assertTrue(queryResult.next());
+            assertTrue(queryResult.cancel());
+            verify(statement).cancel();
+            assertFalse(queryResult.next());
+        } finally {
+            busyQueryResult.cancel();
+        }
+    }
+    
+    @Test
+    public void assertCloseWaitsForPrefetchWithoutInterrupt() throws SQLException, InterruptedException {
+        final CountDownLatch fetchingLatch = new CountDownLatch(1);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicBoolean fetching = new AtomicBoolean();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                fetching.set(true);
+                fetchingLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (final InterruptedException ex) {
+                    interrupted.set(true);
+                }
+                fetching.set(false);
+                return true;
+            }
+        });
+        PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getProperties(), executeEngine);
+        assertTrue(fetchingLatch.await(1L, TimeUnit.SECONDS));
+        releaseLater(releaseLatch);
+        queryResult.close();
+        assertFalse(fetching.get());
+        assertFalse(interrupted.get());
+        assertFalse(queryResult.next());
+    }
+    
+    private void releaseLater(final CountDownLatch releaseLatch) {
+        new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200L);
+                } catch (final InterruptedException ignored) {
+                }
+                releaseLatch.countDown();
+            }
+        }).start();
+    }
+    
+    @Test
+    public void assertCloseWhenAllPrefetchThreadsBusy() throws SQLException {
+        ResultSet busyResultSet = getResultSet();
+        when(busyResultSet.next()).thenReturn(true);
+        PrefetchStreamQueryResult busyQueryResult = new PrefetchStreamQueryResult(busyResultSet, getProperties(), executeEngine);
+        try {
+            PrefetchStreamQueryResult queryResult = new PrefetchStreamQueryResult(getResultSet(), getProperties(), executeEngine);
+            assertTrue(queryResult.next());
+            queryResult.close();
+            assertFalse(queryResult.next());
+        } finally {
+            busyQueryResult.close();
+        }
+    }
+    
+    private ResultSet getResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getInt(1)).thenReturn(1, 2, 3);
+        ResultSetMetaData metaData = getResultSetMetaData();
+        when(result.getMetaData()).thenReturn(metaData);
+        return result;
+    }
+    
+    private ResultSetMetaData getResultSetMetaData() throws SQLException {
+        ResultSetMetaData result = mock(ResultSetMetaData.class);
+        when(result.getColumnCount()).thenReturn(1);
+        when(result.getColumnLabel(1)).thenReturn("order_id");
+        when(result.getColumnName(1)).thenReturn("order_id");
+        when(result.getTableName(1)).thenReturn("order");
+        when(result.getColumnType(1)).thenReturn(Types.INTEGER);
+        return result;
+    }
+    
+    private ShardingProperties getProperties() {
+        Properties result = new Properties();
+        result.setProperty(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE.getKey(), "4");
+        result.setProperty(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_DEPTH.getKey(), "2");
+        return new ShardingProperties(result);
+    }
+}
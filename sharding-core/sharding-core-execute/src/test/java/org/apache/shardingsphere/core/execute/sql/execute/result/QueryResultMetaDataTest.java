@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 import java.util.Properties;
 
@@ -38,6 +39,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class QueryResultMetaDataTest {
@@ -58,6 +61,7 @@ public final class QueryResultMetaDataTest {
         shardingEncryptor = mock(ShardingEncryptor.class);
         ShardingRule result = mock(ShardingRule.class);
         EncryptRule encryptRule = mock(EncryptRule.class);
+        when(encryptRule.getEncryptTableNames()).thenReturn(Collections.singletonList("table"));
         when(encryptRule.findShardingEncryptor(anyString(), anyString())).thenReturn(Optional.of(shardingEncryptor));
         when(result.getEncryptRule()).thenReturn(encryptRule);
         when(result.getLogicTableNames(anyString())).thenReturn(Collections.<String>emptyList());
@@ -72,6 +76,8 @@ public final class QueryResultMetaDataTest {
         when(result.getColumnLabel(anyInt())).thenReturn("label");
         when(result.getTableName(anyInt())).thenReturn("table");
         when(result.isCaseSensitive(anyInt())).thenReturn(false);
+        when(result.getColumnType(anyInt())).thenReturn(Types.DECIMAL);
+        when(result.getScale(anyInt())).thenReturn(2);
         return result;
     }
     
@@ -90,6 +96,16 @@ public final class QueryResultMetaDataTest {
         assertThat(queryResultMetaData.getColumnName(1), is("column"));
     }
     
+    @Test
+    public void assertGetColumnType() throws SQLException {
+        assertThat(queryResultMetaData.getColumnType(1), is(Types.DECIMAL));
+    }
+    
+    @Test
+    public void assertGetScale() throws SQLException {
+        assertThat(queryResultMetaData.getScale(1), is(2));
+    }
+    
     @Test
     public void assertGetColumnIndex() {
         assertThat(queryResultMetaData.getColumnIndex("label"), is(1));
@@ -105,4 +121,26 @@ public final class QueryResultMetaDataTest {
         assertTrue(queryResultMetaData.getShardingEncryptor(1).isPresent());
         assertThat(queryResultMetaData.getShardingEncryptor(1).get(), is(shardingEncryptor));
     }
+    
+    @Test
+    public void assertIsDecryptRequired() {
+        assertTrue(queryResultMetaData.isDecryptRequired());
+    }
+    
+    @Test
+    public void assertIsNotDecryptRequiredWithoutEncryptRule() throws SQLException {
+        QueryResultMetaData actual = new QueryResultMetaData(getResultMetaData());
+        assertFalse(actual.isDecryptRequired());
+        assertFalse(actual.getShardingEncryptor(1).isPresent());
+    }
+    
+    @Test
+    public void assertGetShardingEncryptorWithoutEncryptTable() throws SQLException {
+        ResultSetMetaData resultSetMetaData = getResultMetaData();
+        QueryResultMetaData actual = new QueryResultMetaData(resultSetMetaData, new EncryptRule(), new ShardingProperties(new Properties()));
+        assertFalse(actual.isDecryptRequired());
+        assertFalse(actual.getShardingEncryptor(1).isPresent());
+        verify(resultSetMetaData, never()).getTableName(1);
+        verify(resultSetMetaData, never()).getColumnName(1);
+    }
 }
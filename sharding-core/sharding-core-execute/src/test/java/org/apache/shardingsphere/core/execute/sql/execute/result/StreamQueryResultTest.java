@@ -32,10 +32,12 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -44,6 +46,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,6 +82,7 @@ public final class StreamQueryResultTest {
     
     private EncryptRule getEncryptRule() {
         EncryptRule result = mock(EncryptRule.class);
+        when(result.getEncryptTableNames()).thenReturn(Collections.singletonList("order"));
         when(result.findShardingEncryptor("order", "order_id")).thenReturn(Optional.fromNullable(shardingEncryptor));
         when(result.isCipherColumn("order", "order_id")).thenReturn(false);
         return result;
@@ -91,6 +95,29 @@ public final class StreamQueryResultTest {
         assertFalse(queryResult.next());
     }
     
+    @Test
+    public void assertCancelBeforeExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        doReturn(statement).when(resultSet).getStatement();
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.cancel());
+        verify(statement).cancel();
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.cancel());
+    }
+    
+    @Test
+    public void assertCancelAfterExhausted() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        assertFalse(queryResult.cancel());
+        verify(statement, never()).cancel();
+    }
+    
     @Test
     public void assertGetValueWithColumnIndex() throws SQLException {
         StreamQueryResult queryResult = new StreamQueryResult(getResultSet());
@@ -116,7 +143,7 @@ public final class StreamQueryResultTest {
     @Test(expected = Exception.class)
     public void assertGetValueWithException() throws SQLException {
         ResultSet resultSet = getResultSetWithException();
-        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet, getEncryptRule(), new ShardingProperties(new Properties()));
         queryResult.next();
         queryResult.getValue("order_id", Integer.class);
     }
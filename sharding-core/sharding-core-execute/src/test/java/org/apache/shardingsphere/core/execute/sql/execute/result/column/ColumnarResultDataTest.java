@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnarResultDataTest {
+    
+    @Test
+    public void assertGetIntegralValues() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT);
+        when(resultSet.getByte(1)).thenReturn((byte) 1);
+        when(resultSet.getShort(2)).thenReturn((short) 2);
+        when(resultSet.getInt(3)).thenReturn(3);
+        when(resultSet.getLong(4)).thenReturn(4L, 0L);
+        when(resultSet.wasNull()).thenReturn(false, false, false, false, false, false, false, true);
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getRowsCount(), is(2));
+        assertThat(actual.getColumnBuffer(4).getValueType(), is(ColumnValueType.LONG));
+        assertThat(actual.getValue(0, 1), is((Object) (byte) 1));
+        assertThat(actual.getValue(0, 2), is((Object) (short) 2));
+        assertThat(actual.getValue(0, 3), is((Object) 3));
+        assertThat(actual.getValue(0, 4), is((Object) 4L));
+        assertThat(actual.getColumnBuffer(4).getLong(0), is(4L));
+        assertFalse(actual.getColumnBuffer(4).isNull(0));
+        assertTrue(actual.getColumnBuffer(4).isNull(1));
+        assertThat(actual.getValue(1, 4), nullValue());
+    }
+    
+    @Test
+    public void assertGetDoubleValues() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.DOUBLE);
+        when(resultSet.getDouble(1)).thenReturn(1.5D, -0D);
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getColumnBuffer(1).getValueType(), is(ColumnValueType.DOUBLE));
+        assertThat(actual.getValue(0, 1), is((Object) 1.5D));
+        assertThat(actual.getColumnBuffer(1).getDouble(1), is(-0D));
+    }
+    
+    @Test
+    public void assertGetDateValues() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.DATE, Types.TIME, Types.TIMESTAMP);
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        when(resultSet.getDate(1)).thenReturn(new Date(1000L));
+        when(resultSet.getTime(2)).thenReturn(new Time(2000L));
+        when(resultSet.getTimestamp(3)).thenReturn(timestamp);
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getColumnBuffer(3).getValueType(), is(ColumnValueType.DATE));
+        assertThat(actual.getValue(0, 1), is((Object) new Date(1000L)));
+        assertThat(actual.getValue(0, 2), is((Object) new Time(2000L)));
+        assertThat(actual.getValue(1, 3), is((Object) timestamp));
+    }
+    
+    @Test
+    public void assertGetStringValues() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.VARCHAR);
+        String longValue = Strings.repeat("x", 10000);
+        when(resultSet.getString(1)).thenReturn("foo", longValue);
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getColumnBuffer(1).getValueType(), is(ColumnValueType.STRING));
+        assertThat(actual.getValue(0, 1), is((Object) "foo"));
+        assertThat(actual.getValue(1, 1), is((Object) longValue));
+    }
+    
+    @Test
+    public void assertGetObjectValues() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.DECIMAL);
+        when(resultSet.getBigDecimal(1)).thenReturn(new BigDecimal("1.5"));
+        ColumnarResultData actual = new ColumnarResultData(resultSet);
+        assertThat(actual.getColumnBuffer(1).getValueType(), is(ColumnValueType.OBJECT));
+        assertThat(actual.getValue(1, 1), instanceOf(BigDecimal.class));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertGetLongFromStringColumn() throws SQLException {
+        ResultSet resultSet = mockResultSet(Types.VARCHAR);
+        new ColumnarResultData(resultSet).getColumnBuffer(1).getLong(0);
+    }
+    
+    private ResultSet mockResultSet(final int... columnTypes) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columnTypes.length);
+        for (int i = 0; i < columnTypes.length; i++) {
+            when(metaData.getColumnType(i + 1)).thenReturn(columnTypes[i]);
+        }
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, true, false);
+        return result;
+    }
+}
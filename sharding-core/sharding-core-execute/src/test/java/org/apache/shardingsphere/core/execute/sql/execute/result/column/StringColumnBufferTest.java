@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result.column;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StringColumnBufferTest {
+    
+    @Test
+    public void assertGetValueAcrossChunks() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        StringColumnBuffer actual = new StringColumnBuffer();
+        for (int i = 0; i < 3000; i++) {
+            when(resultSet.getString(1)).thenReturn("value_" + i);
+            actual.add(resultSet, 1);
+        }
+        when(resultSet.getString(1)).thenReturn(null);
+        when(resultSet.wasNull()).thenReturn(true);
+        actual.add(resultSet, 1);
+        for (int i = 0; i < 3000; i++) {
+            assertThat(actual.getValue(i), is((Object) ("value_" + i)));
+        }
+        assertThat(actual.getValue(3000), nullValue());
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -49,13 +50,15 @@ public final class MergeEngineFactory {
      * @param routeResult SQL route result
      * @param tableMetas sharding table meta Data
      * @param queryResults query results
+     * @param properties sharding properties
+     * @param autoCommit connection is in auto commit mode or not
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
-    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
-                                          final SQLRouteResult routeResult, final TableMetas tableMetas, final List<QueryResult> queryResults) throws SQLException {
+    public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule, final SQLRouteResult routeResult, 
+                                          final TableMetas tableMetas, final List<QueryResult> queryResults, final ShardingProperties properties, final boolean autoCommit) throws SQLException {
         if (routeResult.getShardingStatement() instanceof ShardingSelectOptimizedStatement) {
-            return new DQLMergeEngine(databaseType, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, routeResult, queryResults, properties, autoCommit);
         } 
         if (routeResult.getShardingStatement().getSQLStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, routeResult.getShardingStatement(), tableMetas);
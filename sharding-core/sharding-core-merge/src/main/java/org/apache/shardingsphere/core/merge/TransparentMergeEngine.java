@@ -18,9 +18,13 @@
 package org.apache.shardingsphere.core.merge;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.merge.dql.common.QueryResultsCloseDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
 
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -35,6 +39,18 @@ public final class TransparentMergeEngine implements MergeEngine {
     
     @Override
     public MergedResult merge() {
-        return new IteratorStreamMergedResult(queryResults);
+        MergedResult result = new IteratorStreamMergedResult(queryResults);
+        Collection<CancelableQueryResult> cancelableQueryResults = getCancelableQueryResults();
+        return cancelableQueryResults.isEmpty() ? result : new QueryResultsCloseDecoratorMergedResult(result, cancelableQueryResults);
+    }
+    
+    private Collection<CancelableQueryResult> getCancelableQueryResults() {
+        Collection<CancelableQueryResult> result = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            if (each instanceof CancelableQueryResult) {
+                result.add((CancelableQueryResult) each);
+            }
+        }
+        return result;
     }
 }
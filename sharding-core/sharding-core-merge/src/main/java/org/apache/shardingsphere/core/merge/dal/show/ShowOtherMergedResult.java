@@ -75,4 +75,8 @@ public final class ShowOtherMergedResult implements MergedResult {
     public boolean wasNull() {
         return false;
     }
+    
+    @Override
+    public void close() {
+    }
 }
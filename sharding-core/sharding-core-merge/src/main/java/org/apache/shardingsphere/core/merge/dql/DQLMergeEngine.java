@@ -20,29 +20,42 @@ package org.apache.shardingsphere.core.merge.dql;
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.AggregationDistinctQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.DistinctQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergeEngine;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.QueryResultsCloseDecoratorMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.merge.dql.pagination.EarlyTerminationDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.pagination.Pagination;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.apache.shardingsphere.core.parse.util.SQLUtil;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
@@ -61,30 +74,57 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final Collection<CancelableQueryResult> cancelableQueryResults;
+    
+    private final ShardingProperties properties;
+    
+    private final boolean autoCommit;
+    
+    private final boolean approximateCountDistinct;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, routeResult, queryResults, new ShardingProperties(new Properties()));
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, final List<QueryResult> queryResults, final ShardingProperties properties) throws SQLException {
+        this(databaseType, routeResult, queryResults, properties, true);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final SQLRouteResult routeResult, 
+                          final List<QueryResult> queryResults, final ShardingProperties properties, final boolean autoCommit) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.shardingStatement = (ShardingSelectOptimizedStatement) routeResult.getShardingStatement();
+        this.properties = properties;
+        this.autoCommit = autoCommit;
+        approximateCountDistinct = isApproximateCountDistinct();
+        cancelableQueryResults = getCancelableQueryResults(queryResults);
         this.queryResults = getRealQueryResults(queryResults);
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
-    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
-        List<QueryResult> result = queryResults;
-        if (1 == result.size()) {
-            return result;
-        }
+    private boolean isApproximateCountDistinct() {
         List<AggregationDistinctSelectItem> aggregationDistinctSelectItems = shardingStatement.getSelectItems().getAggregationDistinctSelectItems();
-        if (!aggregationDistinctSelectItems.isEmpty()) {
-            result = getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, aggregationDistinctSelectItems));
+        if (aggregationDistinctSelectItems.isEmpty() || !properties.<Boolean>getValue(ShardingPropertiesConstant.APPROXIMATE_COUNT_DISTINCT_ENABLED)) {
+            return false;
+        }
+        for (AggregationDistinctSelectItem each : aggregationDistinctSelectItems) {
+            if (AggregationType.COUNT != each.getType()) {
+                return false;
+            }
         }
-        if (isDistinctRowSelectItems()) {
-            result = getDividedQueryResults(new DistinctQueryResult(queryResults, shardingStatement.getSelectItems().getColumnLabels()));
+        return true;
+    }
+    
+    private List<QueryResult> getRealQueryResults(final List<QueryResult> queryResults) throws SQLException {
+        if (1 == queryResults.size()) {
+            return queryResults;
         }
-        return result.isEmpty() ? queryResults : result;
+        List<AggregationDistinctSelectItem> aggregationDistinctSelectItems = shardingStatement.getSelectItems().getAggregationDistinctSelectItems();
+        return aggregationDistinctSelectItems.isEmpty() ? queryResults : getDividedQueryResults(new AggregationDistinctQueryResult(queryResults, aggregationDistinctSelectItems, approximateCountDistinct));
     }
     
     private List<QueryResult> getDividedQueryResults(final DistinctQueryResult distinctQueryResult) {
@@ -97,10 +137,6 @@ public final class DQLMergeEngine implements MergeEngine {
         });
     }
     
-    private boolean isDistinctRowSelectItems() {
-        return shardingStatement.getSelectItems().isDistinctRow() && shardingStatement.getGroupBy().getItems().isEmpty();
-    }
-    
     private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (int i = queryResult.getColumnCount(); i > 0; i--) {
@@ -111,16 +147,72 @@ public final class DQLMergeEngine implements MergeEngine {
     
     @Override
     public MergedResult merge() throws SQLException {
+        MergedResult result = mergeQueryResults();
+        return cancelableQueryResults.isEmpty() ? result : new QueryResultsCloseDecoratorMergedResult(result, cancelableQueryResults);
+    }
+    
+    private MergedResult mergeQueryResults() throws SQLException {
         if (1 == queryResults.size()) {
             return new IteratorStreamMergedResult(queryResults);
         }
         shardingStatement.setIndexForItems(columnLabelIndexMap);
-        return decorate(build());
+        return decorate(isDistinctRowSelectItems() ? buildDistinct() : build(queryResults));
+    }
+    
+    private boolean isDistinctRowSelectItems() {
+        return shardingStatement.getSelectItems().isDistinctRow() && shardingStatement.getGroupBy().getItems().isEmpty();
+    }
+    
+    private MergedResult buildDistinct() throws SQLException {
+        List<Integer> distinctColumnIndexes = getDistinctColumnIndexes();
+        if (isSortedByDistinctColumns(distinctColumnIndexes)) {
+            return new DistinctDecoratorMergedResult(build(queryResults), distinctColumnIndexes);
+        }
+        return build(getDividedQueryResults(new DistinctQueryResult(queryResults, shardingStatement.getSelectItems().getColumnLabels())));
     }
     
-    private MergedResult build() throws SQLException {
+    private List<Integer> getDistinctColumnIndexes() {
+        List<String> columnLabels = shardingStatement.getSelectItems().getColumnLabels();
+        List<Integer> result = new ArrayList<>(columnLabels.size());
+        for (String each : columnLabels) {
+            Integer columnIndex = columnLabelIndexMap.get(SQLUtil.getExactlyValue(each));
+            if (null == columnIndex) {
+                return Collections.emptyList();
+            }
+            result.add(columnIndex);
+        }
+        return result;
+    }
+    
+    private boolean isSortedByDistinctColumns(final List<Integer> distinctColumnIndexes) throws SQLException {
+        if (distinctColumnIndexes.isEmpty() || !shardingStatement.getSelectItems().getAggregationSelectItems().isEmpty() || !isCaseSensitive(distinctColumnIndexes)) {
+            return false;
+        }
+        Collection<Integer> uncoveredColumnIndexes = new HashSet<>(distinctColumnIndexes);
+        for (OrderByItem each : shardingStatement.getOrderBy().getItems()) {
+            if (uncoveredColumnIndexes.isEmpty()) {
+                return true;
+            }
+            if (!distinctColumnIndexes.contains(each.getIndex())) {
+                return false;
+            }
+            uncoveredColumnIndexes.remove(each.getIndex());
+        }
+        return uncoveredColumnIndexes.isEmpty();
+    }
+    
+    private boolean isCaseSensitive(final List<Integer> distinctColumnIndexes) throws SQLException {
+        for (int each : distinctColumnIndexes) {
+            if (!queryResults.get(0).isCaseSensitive(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private MergedResult build(final List<QueryResult> queryResults) throws SQLException {
         if (!shardingStatement.getGroupBy().getItems().isEmpty() || !shardingStatement.getSelectItems().getAggregationSelectItems().isEmpty()) {
-            return getGroupByMergedResult();
+            return getGroupByMergedResult(queryResults);
         }
         if (!shardingStatement.getOrderBy().getItems().isEmpty()) {
             return new OrderByStreamMergedResult(queryResults, shardingStatement.getOrderBy().getItems());
@@ -128,9 +220,37 @@ public final class DQLMergeEngine implements MergeEngine {
         return new IteratorStreamMergedResult(queryResults);
     }
     
-    private MergedResult getGroupByMergedResult() throws SQLException {
-        return shardingStatement.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, shardingStatement) : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, shardingStatement);
+    private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults) throws SQLException {
+        return shardingStatement.isSameGroupByAndOrderByItems() ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, shardingStatement, approximateCountDistinct)
+                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, shardingStatement,
+                        properties.<Integer>getValue(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS_SIZE), getTopRowsSize(), approximateCountDistinct);
+    }
+    
+    private int getTopRowsSize() {
+        Pagination pagination = shardingStatement.getPagination();
+        if (!pagination.isHasPagination() || !pagination.getActualRowCount().isPresent()) {
+            return 0;
+        }
+        String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
+        long result;
+        if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
+            result = pagination.getActualOffset() + pagination.getActualRowCount().get();
+        } else if ("Oracle".equals(trunkDatabaseName) || "SQLServer".equals(trunkDatabaseName)) {
+            result = pagination.getActualRowCount().get();
+        } else {
+            return 0;
+        }
+        return result > 0 && result <= Integer.MAX_VALUE ? (int) result : 0;
+    }
+    
+    private Collection<CancelableQueryResult> getCancelableQueryResults(final List<QueryResult> queryResults) {
+        Collection<CancelableQueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            if (each instanceof CancelableQueryResult) {
+                result.add((CancelableQueryResult) each);
+            }
+        }
+        return result;
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
@@ -138,6 +258,16 @@ public final class DQLMergeEngine implements MergeEngine {
         if (!pagination.isHasPagination() || 1 == queryResults.size()) {
             return mergedResult;
         }
+        MergedResult result = decoratePagination(mergedResult, pagination);
+        return isEarlyTerminationEnabled(pagination) ? new EarlyTerminationDecoratorMergedResult(result, cancelableQueryResults) : result;
+    }
+    
+    private boolean isEarlyTerminationEnabled(final Pagination pagination) {
+        return autoCommit && !cancelableQueryResults.isEmpty() && pagination.getActualRowCount().isPresent() 
+                && "MySQL".equals(DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName());
+    }
+    
+    private MergedResult decoratePagination(final MergedResult mergedResult, final Pagination pagination) throws SQLException {
         String trunkDatabaseName = DatabaseTypes.getTrunkDatabaseType(databaseType.getName()).getName();
         if ("MySQL".equals(trunkDatabaseName) || "PostgreSQL".equals(trunkDatabaseName)) {
             return new LimitDecoratorMergedResult(mergedResult, pagination);
@@ -35,6 +35,10 @@ public class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final Object[] data) {
+        this.data = data;
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -44,6 +48,15 @@ public class MemoryQueryResultRow {
         return result;
     }
     
+    /**
+     * Get column count.
+     * 
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
+    
     /**
      * Get data from cell.
      * 
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Decorator merged result for closing query results.
+ * 
+ * <p>
+ * Query results are closed before merged result is closed,
+ * so result sets are released by prefetch threads before result sets and statements are closed.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class QueryResultsCloseDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final Collection<CancelableQueryResult> queryResults;
+    
+    public QueryResultsCloseDecoratorMergedResult(final MergedResult mergedResult, final Collection<CancelableQueryResult> queryResults) {
+        super(mergedResult);
+        this.queryResults = queryResults;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        return getMergedResult().next();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        for (CancelableQueryResult each : queryResults) {
+            each.close();
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Ordering;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Rows sorter which only keeps top rows.
+ * 
+ * <p>Rows are kept in a bounded heap whose head is the last one of top rows, so rows out of top rows are discarded when they are added.</p>
+ *
+ * @author zhangliang
+ */
+public final class TopRowsSorter implements RowsSorter {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int topRowsSize;
+    
+    private final PriorityQueue<MemoryQueryResultRow> rows;
+    
+    public TopRowsSorter(final Comparator<MemoryQueryResultRow> comparator, final int topRowsSize) {
+        Preconditions.checkArgument(topRowsSize > 0, "Top rows size must be positive.");
+        this.comparator = comparator;
+        this.topRowsSize = topRowsSize;
+        rows = new PriorityQueue<>(Math.min(topRowsSize, 1024), Ordering.from(comparator).reverse());
+    }
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        if (rows.size() < topRowsSize) {
+            rows.offer(row);
+            return;
+        }
+        if (comparator.compare(row, rows.peek()) < 0) {
+            rows.poll();
+            rows.offer(row);
+        }
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sort() {
+        List<MemoryQueryResultRow> result = new ArrayList<>(rows);
+        Collections.sort(result, comparator);
+        return result.iterator();
+    }
+}
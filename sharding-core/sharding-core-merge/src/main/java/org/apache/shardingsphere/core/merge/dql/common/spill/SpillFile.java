@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import com.google.common.collect.AbstractIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.hook.SPISpillHook;
+import org.apache.shardingsphere.core.merge.hook.SpillHook;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Spill file which holds memory query result rows in local temporary directory.
+ * 
+ * <p>Rows are read back in the same order as written, and the file is deleted after all rows are read or spill file is closed.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillFile {
+    
+    private static final String PREFIX = "sharding-merge-";
+    
+    private static final String SUFFIX = ".spill";
+    
+    private final File file;
+    
+    @Getter
+    private final int rowsCount;
+    
+    private final Collection<ObjectInputStream> inputStreams = new LinkedList<>();
+    
+    /**
+     * Write rows to spill file.
+     * 
+     * @param rows rows to be spilled
+     * @return spill file
+     * @throws ShardingException can not write rows to temporary file
+     */
+    public static SpillFile write(final Collection<MemoryQueryResultRow> rows) {
+        SpillHook spillHook = new SPISpillHook();
+        spillHook.start(rows.size());
+        File file = null;
+        try {
+            file = File.createTempFile(PREFIX, SUFFIX);
+            write(file, rows);
+        } catch (final IOException ex) {
+            if (null != file) {
+                file.delete();
+            }
+            spillHook.finishFailure(ex);
+            throw new ShardingException("Can not spill rows to temporary file.", ex);
+        }
+        spillHook.finishSuccess(file.length());
+        return new SpillFile(file, rows.size());
+    }
+    
+    private static void write(final File file, final Collection<MemoryQueryResultRow> rows) throws IOException {
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            for (MemoryQueryResultRow each : rows) {
+                outputStream.writeInt(each.getColumnCount());
+                for (int i = 1; i <= each.getColumnCount(); i++) {
+                    outputStream.writeObject(each.getCell(i));
+                }
+                outputStream.reset();
+            }
+        }
+    }
+    
+    /**
+     * Read rows from spill file.
+     * 
+     * @return iterator of rows
+     * @throws ShardingException can not read rows from temporary file
+     */
+    public Iterator<MemoryQueryResultRow> read() {
+        try {
+            ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            inputStreams.add(inputStream);
+            return new RowsIterator(inputStream);
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingException("Can not read spilled rows from temporary file.", ex);
+        }
+    }
+    
+    /**
+     * Close all opened readers and delete spill file.
+     */
+    public void close() {
+        for (ObjectInputStream each : inputStreams) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+        inputStreams.clear();
+        file.delete();
+    }
+    
+    @RequiredArgsConstructor
+    private final class RowsIterator extends AbstractIterator<MemoryQueryResultRow> {
+        
+        private final ObjectInputStream inputStream;
+        
+        private int readCount;
+        
+        @Override
+        protected MemoryQueryResultRow computeNext() {
+            if (readCount == rowsCount) {
+                SpillFile.this.close();
+                return endOfData();
+            }
+            try {
+                Object[] data = new Object[inputStream.readInt()];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = inputStream.readObject();
+                }
+                readCount++;
+                return new MemoryQueryResultRow(data);
+            } catch (final IOException | ClassNotFoundException ex) {
+                SpillFile.this.close();
+                throw new ShardingException("Can not read spilled rows from temporary file.", ex);
+            }
+        }
+    }
+}
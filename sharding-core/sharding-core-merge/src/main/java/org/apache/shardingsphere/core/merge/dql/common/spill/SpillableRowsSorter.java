@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import com.google.common.collect.Iterators;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.RowsSorter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Rows sorter which spills sorted rows to files when max rows size in memory exceeded.
+ * 
+ * <p>Sorted rows in memory and in spill files are merged by k-way merge, so only the head row of each spill file is held in memory.</p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SpillableRowsSorter implements RowsSorter {
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final int maxRowsSize;
+    
+    private final List<MemoryQueryResultRow> rows = new ArrayList<>();
+    
+    private final List<SpillFile> spillFiles = new LinkedList<>();
+    
+    @Override
+    public void add(final MemoryQueryResultRow row) {
+        rows.add(row);
+        if (0 < maxRowsSize && rows.size() >= maxRowsSize) {
+            Collections.sort(rows, comparator);
+            spillFiles.add(SpillFile.write(rows));
+            rows.clear();
+        }
+    }
+    
+    /**
+     * Judge whether rows are spilled.
+     * 
+     * @return rows are spilled or not
+     */
+    public boolean isSpilled() {
+        return !spillFiles.isEmpty();
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultRow> sort() {
+        Collections.sort(rows, comparator);
+        if (spillFiles.isEmpty()) {
+            return rows.iterator();
+        }
+        List<Iterator<MemoryQueryResultRow>> sortedRows = new ArrayList<>(spillFiles.size() + 1);
+        for (SpillFile each : spillFiles) {
+            sortedRows.add(each.read());
+        }
+        sortedRows.add(rows.iterator());
+        return Iterators.mergeSorted(sortedRows, comparator);
+    }
+    
+    /**
+     * Close sorter and delete all spill files.
+     */
+    public void close() {
+        for (SpillFile each : spillFiles) {
+            each.close();
+        }
+        spillFiles.clear();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.distinct;
+
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decorator merged result for distinct.
+ * 
+ * <p>Merged result must be sorted by distinct columns, so duplicated rows are adjacent and only values of previous row are kept for judging duplication.</p>
+ * 
+ * <p>Distinct columns must be case sensitive, because values equal ignoring case are sorted as equal but judged as different here.</p>
+ *
+ * @author zhangliang
+ */
+public final class DistinctDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final List<Integer> distinctColumnIndexes;
+    
+    private List<Object> previousDistinctValues;
+    
+    public DistinctDecoratorMergedResult(final MergedResult mergedResult, final List<Integer> distinctColumnIndexes) {
+        super(mergedResult);
+        this.distinctColumnIndexes = distinctColumnIndexes;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (getMergedResult().next()) {
+            List<Object> distinctValues = getDistinctValues();
+            if (!distinctValues.equals(previousDistinctValues)) {
+                previousDistinctValues = distinctValues;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private List<Object> getDistinctValues() throws SQLException {
+        List<Object> result = new ArrayList<>(distinctColumnIndexes.size());
+        for (int each : distinctColumnIndexes) {
+            result.add(getMergedResult().getValue(each, Object.class));
+        }
+        return result;
+    }
+}
@@ -19,27 +19,47 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.dql.common.RowsSorter;
+import org.apache.shardingsphere.core.merge.dql.common.TopRowsSorter;
+import org.apache.shardingsphere.core.merge.dql.common.spill.SpillableRowsSorter;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationColumnMetaData;
 import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.AverageAggregationUnit;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.HyperLogLog;
+import org.apache.shardingsphere.core.merge.dql.groupby.aggregation.HyperLogLogAggregationUnit;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>
+ * If max rows size is positive, partial aggregated rows are spilled to files sorted by group by values when rows in memory reach max rows size,
+ * then spilled rows are merged and aggregated again by group by values, and sorted with spilling too.
+ * </p>
+ * 
+ * <p>
+ * If top rows size is positive, only top rows required by pagination are kept in a bounded heap when sorting by order by items.
+ * </p>
  *
  * @author zhangliang
  * @author yangyi
@@ -48,32 +68,59 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final ShardingSelectOptimizedStatement optimizedStatement;
     
+    private final int maxRowsSize;
+    
+    private final int topRowsSize;
+    
+    private final List<AggregationSelectItem> aggregationSelectItems;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final AggregationColumnMetaData aggregationColumnMetaData;
+    
+    private final Collection<SpillableRowsSorter> spillableRowsSorters = new LinkedList<>();
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
-    public GroupByMemoryMergedResult(
-            final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final ShardingSelectOptimizedStatement optimizedStatement) throws SQLException {
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final ShardingSelectOptimizedStatement optimizedStatement,
+                                     final int maxRowsSize, final int topRowsSize, final boolean approximateCountDistinct) throws SQLException {
         super(labelAndIndexMap);
         this.optimizedStatement = optimizedStatement;
-        memoryResultSetRows = init(queryResults);
+        this.maxRowsSize = maxRowsSize;
+        this.topRowsSize = topRowsSize;
+        aggregationSelectItems = optimizedStatement.getSelectItems().getAggregationSelectItems();
+        aggregationColumnMetaData = new AggregationColumnMetaData(queryResults.isEmpty() ? null : queryResults.get(0), aggregationSelectItems, approximateCountDistinct);
+        try {
+            memoryResultSetRows = init(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
         Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        SpillableRowsSorter groupByValueSorter = createSpillableRowsSorter(new GroupByValueComparator(optimizedStatement.getGroupBy().getItems()));
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, optimizedStatement.getGroupBy().getItems());
                 initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
                 aggregate(each, groupByValue, aggregationMap);
+                if (0 < maxRowsSize && dataMap.size() >= maxRowsSize) {
+                    spill(dataMap, aggregationMap, groupByValueSorter);
+                }
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        setAggregationValueToMemoryRow(dataMap, aggregationMap, groupByValueSorter.isSpilled());
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap, valueCaseSensitive);
-        if (!result.isEmpty()) {
-            setCurrentResultSetRow(result.get(0));
+        PeekingIterator<MemoryQueryResultRow> result = Iterators.peekingIterator(groupByValueSorter.isSpilled()
+                ? getSpilledResultSetRows(dataMap, groupByValueSorter, valueCaseSensitive) : getMemoryResultSetRows(dataMap, valueCaseSensitive));
+        if (result.hasNext()) {
+            setCurrentResultSetRow(result.peek());
         }
-        return result.iterator();
+        return result;
     }
     
     private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
@@ -82,28 +129,31 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
             dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
         }
         if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationSelectItem, AggregationUnit> map = Maps.toMap(optimizedStatement.getSelectItems().getAggregationSelectItems(), new Function<AggregationSelectItem, AggregationUnit>() {
-                
-                @Override
-                public AggregationUnit apply(final AggregationSelectItem input) {
-                    return AggregationUnitFactory.create(input.getType());
-                }
-            });
-            aggregationMap.put(groupByValue, map);
+            aggregationMap.put(groupByValue, createAggregationUnits());
         }
     }
     
+    private Map<AggregationSelectItem, AggregationUnit> createAggregationUnits() {
+        return Maps.toMap(aggregationSelectItems, new Function<AggregationSelectItem, AggregationUnit>() {
+            
+            @Override
+            public AggregationUnit apply(final AggregationSelectItem input) {
+                return aggregationColumnMetaData.createAggregationUnit(input);
+            }
+        });
+    }
+    
     private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            aggregationValues.clear();
             if (each.getDerivedAggregationItems().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+                aggregationValues.add(getAggregationValue(queryResult, each));
             } else {
                 for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationMap.get(groupByValue).get(each).merge(aggregationValues);
         }
     }
     
@@ -113,14 +163,47 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                                                final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, final boolean partial) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationSelectItem each : optimizedStatement.getSelectItems().getAggregationSelectItems()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            setAggregationValueToMemoryRow(entry.getValue(), aggregationMap.get(entry.getKey()), partial);
+        }
+    }
+    
+    private void setAggregationValueToMemoryRow(final MemoryQueryResultRow row, final Map<AggregationSelectItem, AggregationUnit> aggregationUnits, final boolean partial) {
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            AggregationUnit aggregationUnit = aggregationUnits.get(each);
+            if (partial) {
+                setPartialAggregationValueToMemoryRow(row, each, aggregationUnit);
+            } else {
+                row.setCell(each.getIndex(), aggregationUnit.getResult());
             }
         }
     }
     
+    private void setPartialAggregationValueToMemoryRow(final MemoryQueryResultRow row, final AggregationSelectItem aggregationSelectItem, final AggregationUnit aggregationUnit) {
+        if (aggregationUnit instanceof HyperLogLogAggregationUnit) {
+            row.setCell(aggregationSelectItem.getIndex(), ((HyperLogLogAggregationUnit) aggregationUnit).getSketch());
+            return;
+        }
+        row.setCell(aggregationSelectItem.getIndex(), aggregationUnit.getResult());
+        List<AggregationSelectItem> derivedAggregationItems = aggregationSelectItem.getDerivedAggregationItems();
+        if (aggregationUnit instanceof AverageAggregationUnit && 2 == derivedAggregationItems.size()) {
+            row.setCell(derivedAggregationItems.get(0).getIndex(), ((AverageAggregationUnit) aggregationUnit).getCount());
+            row.setCell(derivedAggregationItems.get(1).getIndex(), ((AverageAggregationUnit) aggregationUnit).getSum());
+        }
+    }
+    
+    private void spill(final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                       final Map<GroupByValue, Map<AggregationSelectItem, AggregationUnit>> aggregationMap, final SpillableRowsSorter groupByValueSorter) {
+        setAggregationValueToMemoryRow(dataMap, aggregationMap, true);
+        for (MemoryQueryResultRow each : dataMap.values()) {
+            groupByValueSorter.add(each);
+        }
+        dataMap.clear();
+        aggregationMap.clear();
+    }
+    
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
         List<Boolean> result = Lists.newArrayList(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
@@ -129,12 +212,71 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+    private Iterator<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+        if (0 < topRowsSize && topRowsSize < dataMap.size()) {
+            RowsSorter resultSorter = new TopRowsSorter(new GroupByRowComparator(optimizedStatement, valueCaseSensitive), topRowsSize);
+            for (MemoryQueryResultRow each : dataMap.values()) {
+                resultSorter.add(each);
+            }
+            return resultSorter.sort();
+        }
         List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
         Collections.sort(result, new GroupByRowComparator(optimizedStatement, valueCaseSensitive));
+        return result.iterator();
+    }
+    
+    private Iterator<MemoryQueryResultRow> getSpilledResultSetRows(
+            final Map<GroupByValue, MemoryQueryResultRow> dataMap, final SpillableRowsSorter groupByValueSorter, final List<Boolean> valueCaseSensitive) {
+        for (MemoryQueryResultRow each : dataMap.values()) {
+            groupByValueSorter.add(each);
+        }
+        dataMap.clear();
+        GroupByValueComparator groupByValueComparator = new GroupByValueComparator(optimizedStatement.getGroupBy().getItems());
+        RowsSorter resultSorter = isTopRowsSortable() ? new TopRowsSorter(new GroupByRowComparator(optimizedStatement, valueCaseSensitive), topRowsSize)
+                : createSpillableRowsSorter(new GroupByRowComparator(optimizedStatement, valueCaseSensitive));
+        PeekingIterator<MemoryQueryResultRow> partialRows = Iterators.peekingIterator(groupByValueSorter.sort());
+        while (partialRows.hasNext()) {
+            MemoryQueryResultRow row = partialRows.next();
+            Map<AggregationSelectItem, AggregationUnit> aggregationUnits = createAggregationUnits();
+            aggregate(row, aggregationUnits);
+            while (partialRows.hasNext() && 0 == groupByValueComparator.compare(row, partialRows.peek())) {
+                aggregate(partialRows.next(), aggregationUnits);
+            }
+            setAggregationValueToMemoryRow(row, aggregationUnits, false);
+            resultSorter.add(row);
+        }
+        return resultSorter.sort();
+    }
+    
+    private SpillableRowsSorter createSpillableRowsSorter(final Comparator<MemoryQueryResultRow> comparator) {
+        SpillableRowsSorter result = new SpillableRowsSorter(comparator, maxRowsSize);
+        spillableRowsSorters.add(result);
         return result;
     }
     
+    private boolean isTopRowsSortable() {
+        return 0 < topRowsSize && (0 >= maxRowsSize || topRowsSize < maxRowsSize);
+    }
+    
+    private void aggregate(final MemoryQueryResultRow partialRow, final Map<AggregationSelectItem, AggregationUnit> aggregationUnits) {
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            AggregationUnit aggregationUnit = aggregationUnits.get(each);
+            if (aggregationUnit instanceof HyperLogLogAggregationUnit) {
+                ((HyperLogLogAggregationUnit) aggregationUnit).mergeSketch((HyperLogLog) partialRow.getCell(each.getIndex()));
+                continue;
+            }
+            aggregationValues.clear();
+            if (each.getDerivedAggregationItems().isEmpty()) {
+                aggregationValues.add((Comparable<?>) partialRow.getCell(each.getIndex()));
+            } else {
+                for (AggregationSelectItem derived : each.getDerivedAggregationItems()) {
+                    aggregationValues.add((Comparable<?>) partialRow.getCell(derived.getIndex()));
+                }
+            }
+            aggregationUnit.merge(aggregationValues);
+        }
+    }
+    
     @Override
     public boolean next() {
         if (memoryResultSetRows.hasNext()) {
@@ -143,4 +285,12 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @Override
+    public void close() {
+        for (SpillableRowsSorter each : spillableRowsSorters) {
+            each.close();
+        }
+        spillableRowsSorters.clear();
+    }
 }
@@ -40,7 +40,7 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         if (null == result) {
             result = new BigDecimal("0");
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(AggregationValueUtil.toBigDecimal(values.get(0)));
     }
     
     @Override
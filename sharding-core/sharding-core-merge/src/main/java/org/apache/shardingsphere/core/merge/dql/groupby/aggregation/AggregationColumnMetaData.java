@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Column meta data of aggregation select items.
+ * 
+ * <p>Column types and scales are loaded once from query result, unknown if query result meta data is unavailable.</p>
+ * 
+ * <p>If approximate count distinct is enabled, count distinct is estimated by HyperLogLog sketch.</p>
+ *
+ * @author zhangliang
+ */
+public final class AggregationColumnMetaData {
+    
+    private final Map<Integer, Integer> columnTypes;
+    
+    private final Map<Integer, Integer> scales;
+    
+    private final boolean approximateCountDistinct;
+    
+    public AggregationColumnMetaData(final QueryResult queryResult, final Collection<AggregationSelectItem> aggregationSelectItems, final boolean approximateCountDistinct) throws SQLException {
+        this.approximateCountDistinct = approximateCountDistinct;
+        columnTypes = new HashMap<>(aggregationSelectItems.size(), 1);
+        scales = new HashMap<>(aggregationSelectItems.size(), 1);
+        QueryResultMetaData queryResultMetaData = null == queryResult ? null : queryResult.getQueryResultMetaData();
+        if (null == queryResultMetaData) {
+            return;
+        }
+        for (AggregationSelectItem each : aggregationSelectItems) {
+            columnTypes.put(each.getIndex(), queryResultMetaData.getColumnType(each.getIndex()));
+            scales.put(each.getIndex(), queryResultMetaData.getScale(each.getIndex()));
+        }
+    }
+    
+    /**
+     * Create aggregation unit for aggregation select item.
+     * 
+     * @param aggregationSelectItem aggregation select item
+     * @return aggregation unit
+     */
+    public AggregationUnit createAggregationUnit(final AggregationSelectItem aggregationSelectItem) {
+        if (approximateCountDistinct && aggregationSelectItem instanceof AggregationDistinctSelectItem && AggregationType.COUNT == aggregationSelectItem.getType()) {
+            return new HyperLogLogAggregationUnit();
+        }
+        Integer columnType = columnTypes.get(aggregationSelectItem.getIndex());
+        Integer scale = scales.get(aggregationSelectItem.getIndex());
+        return AggregationUnitFactory.create(aggregationSelectItem.getType(), null == columnType ? Types.OTHER : columnType, null == scale ? 0 : scale);
+    }
+}
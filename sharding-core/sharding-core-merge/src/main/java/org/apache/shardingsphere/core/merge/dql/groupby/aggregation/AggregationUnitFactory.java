@@ -21,6 +21,8 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  * 
@@ -36,6 +38,20 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type) {
+        return create(type, Types.OTHER, 0);
+    }
+    
+    /**
+     * Create aggregation unit instance by column type.
+     * 
+     * <p>Integral and floating point columns are accumulated with primitive values, other columns are accumulated with big decimal.</p>
+     * 
+     * @param type aggregation function type
+     * @param columnType column type of {@code java.sql.Types}
+     * @param scale scale of column, used as scale of average result
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final int columnType, final int scale) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -43,11 +59,39 @@ public final class AggregationUnitFactory {
                 return new ComparableAggregationUnit(true);
             case SUM:
             case COUNT:
-                return new AccumulationAggregationUnit();
+                return createAccumulationAggregationUnit(columnType);
             case AVG:
-                return new AverageAggregationUnit();
+                return createAverageAggregationUnit(columnType, scale);
             default:
                 throw new UnsupportedOperationException(type.name());
         }
     }
+    
+    private static AggregationUnit createAccumulationAggregationUnit(final int columnType) {
+        if (isIntegral(columnType)) {
+            return new LongAccumulationAggregationUnit();
+        }
+        if (isFloatingPoint(columnType)) {
+            return new DoubleAccumulationAggregationUnit();
+        }
+        return new AccumulationAggregationUnit();
+    }
+    
+    private static AggregationUnit createAverageAggregationUnit(final int columnType, final int scale) {
+        if (isFloatingPoint(columnType)) {
+            return new AverageAggregationUnit(new LongAccumulationAggregationUnit(), new DoubleAccumulationAggregationUnit(), scale);
+        }
+        if (isIntegral(columnType) || Types.DECIMAL == columnType || Types.NUMERIC == columnType) {
+            return new AverageAggregationUnit(new LongAccumulationAggregationUnit(), new LongAccumulationAggregationUnit(), scale);
+        }
+        return new AverageAggregationUnit();
+    }
+    
+    private static boolean isIntegral(final int columnType) {
+        return Types.TINYINT == columnType || Types.SMALLINT == columnType || Types.INTEGER == columnType || Types.BIGINT == columnType;
+    }
+    
+    private static boolean isFloatingPoint(final int columnType) {
+        return Types.FLOAT == columnType || Types.REAL == columnType || Types.DOUBLE == columnType;
+    }
 }
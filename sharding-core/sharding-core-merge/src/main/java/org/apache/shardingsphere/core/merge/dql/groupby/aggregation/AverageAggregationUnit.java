@@ -17,44 +17,81 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 
-import lombok.RequiredArgsConstructor;
-
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Average aggregation unit.
  * 
+ * <p>Count and sum are accumulated by delegated accumulation aggregation units,
+ * result is floating point if sum is floating point, otherwise big decimal rounded to scale.</p>
+ * 
  * @author gaohongtao
  */
-@RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private static final int DEFAULT_SCALE = 4;
+    
+    private final AggregationUnit countAggregationUnit;
+    
+    private final AggregationUnit sumAggregationUnit;
+    
+    private final int scale;
     
-    private BigDecimal sum;
+    private final List<Comparable<?>> countValue = Arrays.asList(new Comparable<?>[1]);
+    
+    private final List<Comparable<?>> sumValue = Arrays.asList(new Comparable<?>[1]);
+    
+    public AverageAggregationUnit() {
+        this(new AccumulationAggregationUnit(), new AccumulationAggregationUnit(), DEFAULT_SCALE);
+    }
+    
+    public AverageAggregationUnit(final AggregationUnit countAggregationUnit, final AggregationUnit sumAggregationUnit, final int scale) {
+        this.countAggregationUnit = countAggregationUnit;
+        this.sumAggregationUnit = sumAggregationUnit;
+        this.scale = 0 < scale ? scale : DEFAULT_SCALE;
+    }
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (null == count) {
-            count = new BigDecimal("0");
-        }
-        if (null == sum) {
-            sum = new BigDecimal("0");
-        }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        countValue.set(0, values.get(0));
+        countAggregationUnit.merge(countValue);
+        sumValue.set(0, values.get(1));
+        sumAggregationUnit.merge(sumValue);
+    }
+    
+    /**
+     * Get accumulated count.
+     * 
+     * @return accumulated count
+     */
+    public Comparable<?> getCount() {
+        return countAggregationUnit.getResult();
+    }
+    
+    /**
+     * Get accumulated sum.
+     * 
+     * @return accumulated sum
+     */
+    public Comparable<?> getSum() {
+        return sumAggregationUnit.getResult();
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.equals(count)) {
+        Comparable<?> count = countAggregationUnit.getResult();
+        if (null == count || 0 == AggregationValueUtil.toBigDecimal(count).signum()) {
             return count;
         }
-        // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, BigDecimal.ROUND_HALF_UP);
+        Comparable<?> sum = sumAggregationUnit.getResult();
+        if (sum instanceof Double) {
+            return (Double) sum / ((Number) count).doubleValue();
+        }
+        return AggregationValueUtil.toBigDecimal(sum).divide(AggregationValueUtil.toBigDecimal(count), scale, BigDecimal.ROUND_HALF_UP);
     }
 }
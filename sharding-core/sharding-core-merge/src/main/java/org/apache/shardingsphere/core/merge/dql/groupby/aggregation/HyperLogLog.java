@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch for estimating count of distinct values.
+ * 
+ * <p>
+ * Sketch keeps sorted hashes of values while there are no more than 256 distinct values, which are counted exactly.
+ * Sketch is promoted to 2^12 registers with fixed size of 4KB after that, relative standard error of estimated count is about 1.04 / sqrt(2^12), which is 1.6%.
+ * Sketches of same values can be merged without losing accuracy.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class HyperLogLog implements Serializable {
+    
+    private static final long serialVersionUID = 4628470920487622734L;
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTERS_SIZE = 1 << PRECISION;
+    
+    private static final int INITIAL_HASHES_CAPACITY = 8;
+    
+    private static final int MAX_HASHES_SIZE = REGISTERS_SIZE / 16;
+    
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS_SIZE);
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private long[] hashes = new long[INITIAL_HASHES_CAPACITY];
+    
+    private int hashesSize;
+    
+    private byte[] registers;
+    
+    /**
+     * Offer value.
+     * 
+     * @param value value to be counted, null is ignored
+     */
+    public void offer(final Object value) {
+        if (null == value) {
+            return;
+        }
+        offerHash(hash(value));
+    }
+    
+    private void offerHash(final long hash) {
+        if (isDense()) {
+            updateRegister(hash);
+            return;
+        }
+        int index = Arrays.binarySearch(hashes, 0, hashesSize, hash);
+        if (index >= 0) {
+            return;
+        }
+        if (MAX_HASHES_SIZE == hashesSize) {
+            promote();
+            updateRegister(hash);
+            return;
+        }
+        int insertionIndex = -index - 1;
+        if (hashes.length == hashesSize) {
+            hashes = Arrays.copyOf(hashes, hashesSize << 1);
+        }
+        System.arraycopy(hashes, insertionIndex, hashes, insertionIndex + 1, hashesSize - insertionIndex);
+        hashes[insertionIndex] = hash;
+        hashesSize++;
+    }
+    
+    private boolean isDense() {
+        return null != registers;
+    }
+    
+    private void promote() {
+        registers = new byte[REGISTERS_SIZE];
+        for (int i = 0; i < hashesSize; i++) {
+            updateRegister(hashes[i]);
+        }
+        hashes = null;
+        hashesSize = 0;
+    }
+    
+    private void updateRegister(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros(hash << PRECISION | 1L << (PRECISION - 1)) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    private long hash(final Object value) {
+        if (AggregationValueUtil.isIntegral(value)) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        if (value instanceof BigDecimal) {
+            return HASH_FUNCTION.hashString(((BigDecimal) value).stripTrailingZeros().toPlainString(), Charsets.UTF_8).asLong();
+        }
+        if (value instanceof byte[]) {
+            return HASH_FUNCTION.hashBytes((byte[]) value).asLong();
+        }
+        return HASH_FUNCTION.hashString(value.toString(), Charsets.UTF_8).asLong();
+    }
+    
+    /**
+     * Merge other sketch.
+     * 
+     * @param other other sketch
+     */
+    public void merge(final HyperLogLog other) {
+        if (!other.isDense()) {
+            for (int i = 0; i < other.hashesSize; i++) {
+                offerHash(other.hashes[i]);
+            }
+            return;
+        }
+        if (!isDense()) {
+            promote();
+        }
+        for (int i = 0; i < REGISTERS_SIZE; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+    
+    /**
+     * Estimate count of distinct values.
+     * 
+     * @return estimated count of distinct values
+     */
+    public long cardinality() {
+        if (!isDense()) {
+            return hashesSize;
+        }
+        double sum = 0;
+        int zeroRegistersCount = 0;
+        for (byte each : registers) {
+            sum += 1.0 / (1L << each);
+            if (0 == each) {
+                zeroRegistersCount++;
+            }
+        }
+        double result = ALPHA * REGISTERS_SIZE * REGISTERS_SIZE / sum;
+        if (result <= 2.5 * REGISTERS_SIZE && 0 != zeroRegistersCount) {
+            result = REGISTERS_SIZE * Math.log((double) REGISTERS_SIZE / zeroRegistersCount);
+        }
+        return Math.round(result);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * HyperLogLog aggregation unit for approximate count distinct.
+ * 
+ * <p>Values to be merged are distinct values from data nodes, and partial sketches of spilled rows are merged as sketches.</p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class HyperLogLogAggregationUnit implements AggregationUnit {
+    
+    private final HyperLogLog sketch = new HyperLogLog();
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values) {
+            return;
+        }
+        sketch.offer(values.get(0));
+    }
+    
+    /**
+     * Merge partial sketch.
+     * 
+     * @param partialSketch partial sketch
+     */
+    public void mergeSketch(final HyperLogLog partialSketch) {
+        sketch.merge(partialSketch);
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        return sketch.cardinality();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values.
+ * 
+ * <p>Values are accumulated with primitive long, result is promoted to big decimal when long overflows or value is not integral.</p>
+ * 
+ * @author zhangliang
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean merged;
+    
+    private long result;
+    
+    private BigDecimal promotedResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        merged = true;
+        Comparable<?> value = values.get(0);
+        if (null != promotedResult) {
+            promotedResult = promotedResult.add(AggregationValueUtil.toBigDecimal(value));
+            return;
+        }
+        if (!AggregationValueUtil.isIntegral(value)) {
+            promotedResult = BigDecimal.valueOf(result).add(AggregationValueUtil.toBigDecimal(value));
+            return;
+        }
+        long addend = ((Number) value).longValue();
+        long sum = result + addend;
+        if (((result ^ sum) & (addend ^ sum)) < 0) {
+            promotedResult = BigDecimal.valueOf(result).add(BigDecimal.valueOf(addend));
+            return;
+        }
+        result = sum;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null != promotedResult) {
+            return promotedResult;
+        }
+        return merged ? result : null;
+    }
+}
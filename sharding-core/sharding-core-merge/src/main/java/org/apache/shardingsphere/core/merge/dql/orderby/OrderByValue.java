@@ -20,18 +20,28 @@ package org.apache.shardingsphere.core.merge.dql.orderby;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.sql.execute.result.ColumnarQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.column.ColumnValueType;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
  * 
+ * <p>
+ * Order values are kept in a buffer reused by every row, 
+ * and case insensitive string values are upper cased once per row instead of once per comparison.
+ * </p>
+ * 
+ * <p>
+ * Long and double values of columnar query result are kept as primitives,
+ * they are boxed only if compared with value of other type.
+ * </p>
+ * 
  * @author zhangliang
  * @author yangyi
  */
@@ -40,23 +50,58 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] orderValueIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] orderValuesCaseSensitive;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final Comparable<?>[] orderValues;
     
-    private List<Comparable<?>> orderValues;
+    private final ColumnValueType[] orderValueTypes;
+    
+    private final boolean[] primitiveOrderValues;
+    
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        orderValueIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderValueIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            i++;
+        }
+        orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        orderValues = new Comparable<?>[orderByItems.size()];
+        orderValueTypes = getOrderValueTypes();
+        primitiveOrderValues = new boolean[orderByItems.size()];
+        longOrderValues = new long[orderByItems.size()];
+        doubleOrderValues = new double[orderByItems.size()];
     }
     
     @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+    private boolean[] getOrderValuesCaseSensitive() {
+        boolean[] result = new boolean[orderValueIndexes.length];
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            result[i] = queryResult.isCaseSensitive(orderValueIndexes[i]);
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private ColumnValueType[] getOrderValueTypes() {
+        ColumnValueType[] result = new ColumnValueType[orderValueIndexes.length];
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            result[i] = queryResult instanceof ColumnarQueryResult ? ((ColumnarQueryResult) queryResult).getColumnValueType(orderValueIndexes[i]) : ColumnValueType.OBJECT;
         }
         return result;
     }
@@ -69,31 +114,59 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            fillOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void fillOrderValues() throws SQLException {
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            primitiveOrderValues[i] = false;
+            if (ColumnValueType.LONG == orderValueTypes[i] || ColumnValueType.DOUBLE == orderValueTypes[i]) {
+                fillPrimitiveOrderValue(i);
+                continue;
+            }
+            Object value = queryResult.getValue(orderValueIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
+    }
+    
+    private void fillPrimitiveOrderValue(final int orderValueIndex) {
+        ColumnarQueryResult columnarQueryResult = (ColumnarQueryResult) queryResult;
+        orderValues[orderValueIndex] = null;
+        if (columnarQueryResult.isNull(orderValueIndexes[orderValueIndex])) {
+            return;
+        }
+        if (ColumnValueType.LONG == orderValueTypes[orderValueIndex]) {
+            longOrderValues[orderValueIndex] = columnarQueryResult.getLong(orderValueIndexes[orderValueIndex]);
+        } else {
+            doubleOrderValues[orderValueIndex] = columnarQueryResult.getDouble(orderValueIndexes[orderValueIndex]);
+        }
+        primitiveOrderValues[orderValueIndex] = true;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = primitiveOrderValues[i] && o.primitiveOrderValues[i] && orderValueTypes[i] == o.orderValueTypes[i]
+                    ? comparePrimitiveOrderValue(o, i) : CompareUtil.compareTo(getOrderValue(i), o.getOrderValue(i), orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int comparePrimitiveOrderValue(final OrderByValue o, final int orderValueIndex) {
+        int result = ColumnValueType.LONG == orderValueTypes[orderValueIndex]
+                ? Long.compare(longOrderValues[orderValueIndex], o.longOrderValues[orderValueIndex]) : Double.compare(doubleOrderValues[orderValueIndex], o.doubleOrderValues[orderValueIndex]);
+        return OrderDirection.ASC == orderDirections[orderValueIndex] ? result : -result;
+    }
+    
+    @SneakyThrows
+    private Comparable<?> getOrderValue(final int orderValueIndex) {
+        return primitiveOrderValues[orderValueIndex] ? (Comparable<?>) queryResult.getValue(orderValueIndexes[orderValueIndex], Object.class) : orderValues[orderValueIndex];
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Each internal node keeps the loser of its sub tournament, 
+ * so replaying the winner's next row only compares it with the losers on the way to root, which is about log2(k) comparisons for k query results.
+ * Ties are won by the order by value of the former query result, so the merged order is deterministic.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[this.orderByValues.length];
+        remaining = this.orderByValues.length;
+        Arrays.fill(losers, this.orderByValues.length);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get order by value of the winner.
+     * 
+     * @return order by value of the winner
+     */
+    public OrderByValue peek() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Iterate the winner to next row and replay the tournament.
+     * 
+     * @return has next winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int index) {
+        int current = index;
+        for (int parent = (index + orderByValues.length) / 2; parent > 0; parent /= 2) {
+            if (isBefore(losers[parent], current)) {
+                int loser = current;
+                current = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (orderByValues.length == index) {
+            return true;
+        }
+        if (orderByValues.length == otherIndex) {
+            return false;
+        }
+        if (exhausted[index] || exhausted[otherIndex]) {
+            return !exhausted[index] && exhausted[otherIndex];
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return 0 == result ? index < otherIndex : result < 0;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.DecoratorMergedResult;
+
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Decorator merged result for early termination.
+ * 
+ * <p>
+ * Once merged result is exhausted, e.g. row count of pagination is satisfied, statements of query results which are not exhausted are cancelled.
+ * It is only used for MySQL in auto commit mode, cancel of MySQL kills current query only,
+ * cancel of other databases may abort current transaction, and cancel in transaction may leave transaction in unexpected state.
+ * </p>
+ *
+ * @author zhangliang
+ */
+public final class EarlyTerminationDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final Collection<CancelableQueryResult> queryResults;
+    
+    private boolean terminated;
+    
+    @Getter
+    private int cancelledCount;
+    
+    public EarlyTerminationDecoratorMergedResult(final MergedResult mergedResult, final Collection<CancelableQueryResult> queryResults) {
+        super(mergedResult);
+        this.queryResults = queryResults;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (terminated) {
+            return false;
+        }
+        if (getMergedResult().next()) {
+            return true;
+        }
+        terminated = true;
+        for (CancelableQueryResult each : queryResults) {
+            if (each.cancel()) {
+                cancelledCount++;
+            }
+        }
+        return false;
+    }
+}
@@ -18,13 +18,18 @@
 package org.apache.shardingsphere.core.merge.dql;
 
 import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.dql.common.QueryResultsCloseDecoratorMergedResult;
+import org.apache.shardingsphere.core.merge.dql.distinct.DistinctDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.core.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.core.merge.dql.pagination.EarlyTerminationDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.core.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
@@ -34,6 +39,7 @@ import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptTranspar
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.ColumnSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItems;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderBy;
@@ -59,8 +65,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -73,11 +82,13 @@ public final class DQLMergeEngineTest {
     
     private List<QueryResult> queryResults;
     
+    private ResultSetMetaData resultSetMetaData;
+    
     @Before
     public void setUp() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.getObject(1)).thenReturn(0);
-        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
         when(resultSetMetaData.getColumnCount()).thenReturn(1);
         when(resultSetMetaData.getColumnLabel(1)).thenReturn("count(*)");
@@ -133,6 +144,35 @@ public final class DQLMergeEngineTest {
         assertThat(((LimitDecoratorMergedResult) actual).getMergedResult(), instanceOf(IteratorStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildEarlyTerminationMergedResultWithMySQLLimit() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResultWithLimitRowCount(), createCancelableQueryResults(), 
+                new ShardingProperties(new Properties()), true);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(QueryResultsCloseDecoratorMergedResult.class));
+        MergedResult decoratedMergedResult = ((QueryResultsCloseDecoratorMergedResult) actual).getMergedResult();
+        assertThat(decoratedMergedResult, instanceOf(EarlyTerminationDecoratorMergedResult.class));
+        assertThat(((EarlyTerminationDecoratorMergedResult) decoratedMergedResult).getMergedResult(), instanceOf(LimitDecoratorMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildWithoutEarlyTerminationWithPostgreSQLLimit() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("PostgreSQL"), createRouteResultWithLimitRowCount(), createCancelableQueryResults(), 
+                new ShardingProperties(new Properties()), true);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(QueryResultsCloseDecoratorMergedResult.class));
+        assertThat(((QueryResultsCloseDecoratorMergedResult) actual).getMergedResult(), instanceOf(LimitDecoratorMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildWithoutEarlyTerminationWithMySQLLimitInTransaction() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResultWithLimitRowCount(), createCancelableQueryResults(), 
+                new ShardingProperties(new Properties()), false);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(QueryResultsCloseDecoratorMergedResult.class));
+        assertThat(((QueryResultsCloseDecoratorMergedResult) actual).getMergedResult(), instanceOf(LimitDecoratorMergedResult.class));
+    }
+    
     @Test
     public void assertBuildIteratorStreamMergedResultWithOracleLimit() throws SQLException {
         ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
@@ -214,6 +254,89 @@ public final class DQLMergeEngineTest {
         assertThat(((TopAndRowNumberDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
     }
     
+    @Test
+    public void assertBuildDistinctDecoratorMergedResultWithOrderByDistinctColumns() throws SQLException {
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(true);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResultForDistinctOrderBy("count(*)"), queryResults);
+        MergedResult actual = mergeEngine.merge();
+        assertThat(actual, instanceOf(DistinctDecoratorMergedResult.class));
+        assertThat(((DistinctDecoratorMergedResult) actual).getMergedResult(), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertBuildOrderByStreamMergedResultWithCaseInsensitiveOrderByDistinctColumns() throws SQLException {
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(false);
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResultForDistinctOrderBy("count(*)"), queryResults);
+        assertThat(mergeEngine.merge(), instanceOf(OrderByStreamMergedResult.class));
+    }
+    
+    @Test
+    public void assertMergeWithCaseInsensitiveOrderByDistinctColumnsAndMixedCaseValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.<QueryResult>asList(
+                new TestQueryResult(mockResultSet("abc")), new TestQueryResult(mockResultSet("ABC")), new TestQueryResult(mockResultSet("abc")));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createRouteResultForDistinctOrderBy("name"), queryResults);
+        MergedResult actual = mergeEngine.merge();
+        List<Object> actualValues = new ArrayList<>();
+        while (actual.next()) {
+            actualValues.add(actual.getValue(1, Object.class));
+        }
+        assertThat(actualValues.size(), is(2));
+        assertThat(actualValues, hasItems((Object) "abc", "ABC"));
+    }
+    
+    private SQLRouteResult createRouteResultWithLimitRowCount() {
+        ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null), 
+                new Pagination(null, new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        return new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
+    }
+    
+    private List<QueryResult> createCancelableQueryResults() throws SQLException {
+        List<QueryResult> result = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            CancelableQueryResult queryResult = mock(CancelableQueryResult.class);
+            when(queryResult.getColumnCount()).thenReturn(1);
+            when(queryResult.getColumnLabel(1)).thenReturn("count(*)");
+            result.add(queryResult);
+        }
+        return result;
+    }
+    
+    private ResultSet mockResultSet(final String value) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getObject(1)).thenReturn(value);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("name");
+        when(resultSetMetaData.isCaseSensitive(1)).thenReturn(false);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+    
+    private SQLRouteResult createRouteResultForDistinctOrderBy(final String columnLabel) {
+        ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), new GroupBy(Collections.<OrderByItem>emptyList(), 0),
+                new OrderBy(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC))), false),
+                new SelectItems(0, 0, true, Collections.<SelectItem>singletonList(new ColumnSelectItem(null, columnLabel, null)), Collections.<TableSegment>emptyList(), null), 
+                new Pagination(null, null, Collections.emptyList()));
+        return new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
+    }
+    
+    @Test
+    public void assertBuildIteratorStreamMergedResultWithDistinct() throws SQLException {
+        ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, true, Collections.<SelectItem>singletonList(new ColumnSelectItem(null, "count(*)", null)), Collections.<TableSegment>emptyList(), null), 
+                new Pagination(null, null, Collections.emptyList()));
+        SQLRouteResult routeResult = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        assertThat(mergeEngine.merge(), instanceOf(IteratorStreamMergedResult.class));
+    }
+    
     @Test
     public void assertBuildGroupByStreamMergedResult() throws SQLException {
         ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
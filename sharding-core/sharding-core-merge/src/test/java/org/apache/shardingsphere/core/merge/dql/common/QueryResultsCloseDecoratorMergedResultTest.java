@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class QueryResultsCloseDecoratorMergedResultTest {
+    
+    @Test
+    public void assertNext() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        QueryResultsCloseDecoratorMergedResult actual = new QueryResultsCloseDecoratorMergedResult(mergedResult, Arrays.asList(mock(CancelableQueryResult.class)));
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseQueryResultsBeforeMergedResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        CancelableQueryResult queryResult1 = mock(CancelableQueryResult.class);
+        CancelableQueryResult queryResult2 = mock(CancelableQueryResult.class);
+        new QueryResultsCloseDecoratorMergedResult(mergedResult, Arrays.asList(queryResult1, queryResult2)).close();
+        InOrder inOrder = inOrder(queryResult1, queryResult2, mergedResult);
+        inOrder.verify(queryResult1).close();
+        inOrder.verify(queryResult2).close();
+        inOrder.verify(mergedResult).close();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TopRowsSorterTest {
+    
+    private final Comparator<MemoryQueryResultRow> comparator = new Comparator<MemoryQueryResultRow>() {
+        
+        @Override
+        public int compare(final MemoryQueryResultRow o1, final MemoryQueryResultRow o2) {
+            return ((Integer) o1.getCell(1)).compareTo((Integer) o2.getCell(1));
+        }
+    };
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertNewInstanceWithoutPositiveTopRowsSize() {
+        new TopRowsSorter(comparator, 0);
+    }
+    
+    @Test
+    public void assertSortWithLessRows() {
+        TopRowsSorter sorter = new TopRowsSorter(comparator, 5);
+        addRows(sorter, 3, 1, 2);
+        assertRows(sorter.sort(), 1, 2, 3);
+    }
+    
+    @Test
+    public void assertSortWithMoreRows() {
+        TopRowsSorter sorter = new TopRowsSorter(comparator, 3);
+        addRows(sorter, 5, 3, 6, 1, 4, 2);
+        assertRows(sorter.sort(), 1, 2, 3);
+    }
+    
+    private void addRows(final TopRowsSorter sorter, final Integer... values) {
+        for (Integer each : values) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{each}));
+        }
+    }
+    
+    private void assertRows(final Iterator<MemoryQueryResultRow> actual, final Integer... expected) {
+        for (Integer each : expected) {
+            assertTrue(actual.hasNext());
+            assertThat((Integer) actual.next().getCell(1), is(each));
+        }
+        assertFalse(actual.hasNext());
+    }
+}
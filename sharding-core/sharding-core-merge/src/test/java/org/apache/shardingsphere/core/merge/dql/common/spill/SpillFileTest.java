@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.common.spill;
+
+import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.merge.hook.fixture.SpillHookFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillFileTest {
+    
+    @Before
+    public void setUp() {
+        SpillHookFixture.clearActions();
+    }
+    
+    @Test
+    public void assertWriteAndRead() {
+        SpillFile actual = SpillFile.write(Arrays.asList(new MemoryQueryResultRow(new Object[]{1, "foo", null}), new MemoryQueryResultRow(new Object[]{2, "bar", new BigDecimal("1.5")})));
+        assertThat(actual.getRowsCount(), is(2));
+        assertTrue(SpillHookFixture.containsAction("start"));
+        assertTrue(SpillHookFixture.containsAction("finishSuccess"));
+        Iterator<MemoryQueryResultRow> rows = actual.read();
+        assertTrue(rows.hasNext());
+        MemoryQueryResultRow row = rows.next();
+        assertThat((Integer) row.getCell(1), is(1));
+        assertThat((String) row.getCell(2), is("foo"));
+        assertThat(row.getCell(3), nullValue());
+        assertTrue(rows.hasNext());
+        row = rows.next();
+        assertThat((Integer) row.getCell(1), is(2));
+        assertThat((String) row.getCell(2), is("bar"));
+        assertThat((BigDecimal) row.getCell(3), is(new BigDecimal("1.5")));
+        assertFalse(rows.hasNext());
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertReadAfterCloseWithoutReadingAllRows() {
+        SpillFile actual = SpillFile.write(Arrays.asList(new MemoryQueryResultRow(new Object[]{1}), new MemoryQueryResultRow(new Object[]{2})));
+        Iterator<MemoryQueryResultRow> rows = actual.read();
+        assertThat((Integer) rows.next().getCell(1), is(1));
+        actual.close();
+        actual.read();
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertWriteWithNotSerializableValue() {
+        try {
+            SpillFile.write(Collections.singletonList(new MemoryQueryResultRow(new Object[]{new Object()})));
+        } finally {
+            assertTrue(SpillHookFixture.containsAction("finishFailure"));
+        }
+    }
+}
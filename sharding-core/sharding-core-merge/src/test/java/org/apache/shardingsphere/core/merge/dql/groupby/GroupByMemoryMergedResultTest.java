@@ -18,15 +18,19 @@
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.collect.Lists;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
+import org.apache.shardingsphere.core.merge.hook.fixture.SpillHookFixture;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.encrypt.statement.EncryptTransparentOptimizedStatement;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationDistinctSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItem;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.SelectItems;
@@ -38,11 +42,14 @@ import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSe
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.math.BigDecimal;
 import java.sql.ResultSet;
@@ -52,11 +59,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -77,6 +87,10 @@ public final class GroupByMemoryMergedResultTest {
         for (ResultSet each : resultSets) {
             queryResults.add(new TestQueryResult(each));
         }
+        routeResult = createRouteResult(new Pagination(null, null, Collections.emptyList()));
+    }
+    
+    private SQLRouteResult createRouteResult(final Pagination pagination) {
         AggregationSelectItem aggregationSelectItem1 = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
         aggregationSelectItem1.setIndex(1);
         AggregationSelectItem aggregationSelectItem2 = new AggregationSelectItem(AggregationType.AVG, "(num)", null);
@@ -92,8 +106,8 @@ public final class GroupByMemoryMergedResultTest {
                 new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(), 
                 new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
                 new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
-                selectItems, new Pagination(null, null, Collections.emptyList()));
-        routeResult = new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
+                selectItems, pagination);
+        return new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
     }
     
     private ResultSet mockResultSet() throws SQLException {
@@ -152,4 +166,135 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmptyWithSpill() throws SQLException {
+        SpillHookFixture.clearActions();
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS_SIZE.getKey(), "1");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, new ShardingProperties(props));
+        mockRows(resultSets.get(0), new Object[]{20, 0, 2, 2, 20});
+        mockRows(resultSets.get(2), new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(SpillHookFixture.containsAction("finishSuccess"));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForAverageWithSpillAfterMultipleRowsOfGroup() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS_SIZE.getKey(), "2");
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), createAverageRouteResult(), queryResults, new ShardingProperties(props));
+        mockRows(resultSets.get(0), new Object[]{2, 10, 2, 2, 20}, new Object[]{3, 20, 2, 3, 60}, new Object[]{2, 15, 3, 2, 30});
+        mockRows(resultSets.get(2), new Object[]{5, 4, 2, 5, 20});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).doubleValue(), is(15D));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).doubleValue(), is(10D));
+        assertFalse(actual.next());
+    }
+    
+    private SQLRouteResult createAverageRouteResult() {
+        AggregationSelectItem countSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        countSelectItem.setIndex(1);
+        AggregationSelectItem averageSelectItem = new AggregationSelectItem(AggregationType.AVG, "(num)", null);
+        averageSelectItem.setIndex(2);
+        AggregationSelectItem derivedCountSelectItem = new AggregationSelectItem(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        derivedCountSelectItem.setIndex(4);
+        averageSelectItem.getDerivedAggregationItems().add(derivedCountSelectItem);
+        AggregationSelectItem derivedSumSelectItem = new AggregationSelectItem(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        derivedSumSelectItem.setIndex(5);
+        averageSelectItem.getDerivedAggregationItems().add(derivedSumSelectItem);
+        SelectItems selectItems = new SelectItems(0, 0, false, Arrays.<SelectItem>asList(countSelectItem, averageSelectItem), Collections.<TableSegment>emptyList(), null);
+        ShardingOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                selectItems, new Pagination(null, null, Collections.emptyList()));
+        return new SQLRouteResult(shardingStatement, new EncryptTransparentOptimizedStatement(new SelectStatement()));
+    }
+    
+    @Test
+    public void assertNextForApproximateCountDistinctWithSpill() throws SQLException {
+        AggregationSelectItem countDistinctSelectItem = new AggregationDistinctSelectItem(0, 0, AggregationType.COUNT, "(DISTINCT num)", "c", "num");
+        countDistinctSelectItem.setIndex(1);
+        SelectItems selectItems = new SelectItems(0, 0, false, Collections.<SelectItem>singletonList(countDistinctSelectItem), Collections.<TableSegment>emptyList(), null);
+        ShardingSelectOptimizedStatement shardingStatement = new ShardingSelectOptimizedStatement(
+                new SelectStatement(), Collections.<ShardingCondition>emptyList(), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderBy(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                selectItems, new Pagination(null, null, Collections.emptyList()));
+        mockRows(resultSets.get(0), new Object[]{7, 0, 2, 0, 0}, new Object[]{8, 0, 3, 0, 0});
+        mockRows(resultSets.get(2), new Object[]{7, 0, 2, 0, 0}, new Object[]{9, 0, 2, 0, 0});
+        MergedResult actual = new GroupByMemoryMergedResult(Collections.<String, Integer>emptyMap(), queryResults, shardingStatement, 1, 0, true);
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((Long) actual.getValue(1, Object.class), is(1L));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((Long) actual.getValue(1, Object.class), is(2L));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForTopRowsWithLimit() throws SQLException {
+        routeResult = createRouteResult(new Pagination(new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults);
+        mockRows(resultSets.get(0), new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 4, 1, 10});
+        mockRows(resultSets.get(2), new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30}, new Object[]{10, 0, 1, 1, 10});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForTopRowsWithLimitAndSpill() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ShardingPropertiesConstant.MEMORY_MERGE_MAX_ROWS_SIZE.getKey(), "3");
+        routeResult = createRouteResult(new Pagination(new NumberLiteralLimitValueSegment(0, 0, 1), new NumberLiteralLimitValueSegment(0, 0, 1), Collections.emptyList()));
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), routeResult, queryResults, new ShardingProperties(props));
+        mockRows(resultSets.get(0), new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 4, 1, 10});
+        mockRows(resultSets.get(2), new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30}, new Object[]{10, 0, 1, 1, 10});
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    private void mockRows(final ResultSet resultSet, final Object[]... rows) throws SQLException {
+        final AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                return rowIndex.incrementAndGet() < rows.length;
+            }
+        });
+        when(resultSet.getObject(anyInt())).thenAnswer(new Answer<Object>() {
+            
+            @Override
+            public Object answer(final InvocationOnMock invocation) {
+                return rows[rowIndex.get()][(Integer) invocation.getArgument(0) - 1];
+            }
+        });
+    }
 }
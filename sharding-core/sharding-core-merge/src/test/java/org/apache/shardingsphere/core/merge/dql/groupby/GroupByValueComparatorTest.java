@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby;
+
+import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GroupByValueComparatorTest {
+    
+    private final GroupByValueComparator groupByValueComparator = new GroupByValueComparator(Arrays.asList(
+            createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC)),
+            createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+    
+    @Test
+    public void assertCompareToIgnoreOrderDirection() {
+        assertTrue(groupByValueComparator.compare(new MemoryQueryResultRow(new Object[]{"1", "2"}), new MemoryQueryResultRow(new Object[]{"1", "3"})) < 0);
+    }
+    
+    @Test
+    public void assertCompareToWithNullValue() {
+        assertTrue(groupByValueComparator.compare(new MemoryQueryResultRow(new Object[]{null, "2"}), new MemoryQueryResultRow(new Object[]{"1", "2"})) < 0);
+    }
+    
+    @Test
+    public void assertCompareToCaseSensitive() {
+        assertTrue(groupByValueComparator.compare(new MemoryQueryResultRow(new Object[]{"1", "a"}), new MemoryQueryResultRow(new Object[]{"1", "A"})) > 0);
+    }
+    
+    @Test
+    public void assertCompareToEquals() {
+        assertThat(groupByValueComparator.compare(new MemoryQueryResultRow(new Object[]{"1", "2"}), new MemoryQueryResultRow(new Object[]{"1", "2"})), is(0));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResultMetaData;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationDistinctSelectItem;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.AggregationSelectItem;
+import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class AggregationColumnMetaDataTest {
+    
+    @Test
+    public void assertCreateAggregationUnitWithColumnType() throws SQLException {
+        AggregationSelectItem aggregationSelectItem = createAggregationSelectItem();
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getQueryResultMetaData()).thenReturn(queryResultMetaData);
+        AggregationColumnMetaData actual = new AggregationColumnMetaData(queryResult, Collections.singletonList(aggregationSelectItem), false);
+        assertThat(actual.createAggregationUnit(aggregationSelectItem), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateAggregationUnitWithoutQueryResultMetaData() throws SQLException {
+        AggregationSelectItem aggregationSelectItem = createAggregationSelectItem();
+        AggregationColumnMetaData actual = new AggregationColumnMetaData(mock(QueryResult.class), Collections.singletonList(aggregationSelectItem), false);
+        assertThat(actual.createAggregationUnit(aggregationSelectItem), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateAggregationUnitWithApproximateCountDistinct() throws SQLException {
+        AggregationSelectItem aggregationSelectItem = new AggregationDistinctSelectItem(0, 0, AggregationType.COUNT, "(DISTINCT order_id)", "c", "order_id");
+        aggregationSelectItem.setIndex(1);
+        AggregationColumnMetaData actual = new AggregationColumnMetaData(mock(QueryResult.class), Collections.singletonList(aggregationSelectItem), true);
+        assertThat(actual.createAggregationUnit(aggregationSelectItem), instanceOf(HyperLogLogAggregationUnit.class));
+    }
+    
+    private AggregationSelectItem createAggregationSelectItem() {
+        AggregationSelectItem result = new AggregationSelectItem(AggregationType.COUNT, "(*)", null);
+        result.setIndex(1);
+        return result;
+    }
+}
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.core.parse.core.constant.AggregationType;
 import org.junit.Test;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
@@ -41,4 +43,18 @@ public final class AggregationUnitFactoryTest {
     public void assertCreateAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG), instanceOf(AverageAggregationUnit.class));
     }
+    
+    @Test
+    public void assertCreateAccumulationAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, Types.BIGINT, 0), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.INTEGER, 0), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DOUBLE, 0), instanceOf(DoubleAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, Types.DECIMAL, 2), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    public void assertCreateAverageAggregationUnitWithColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, Types.DECIMAL, 6), instanceOf(AverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.AVG, Types.DOUBLE, 0), instanceOf(AverageAggregationUnit.class));
+    }
 }
@@ -47,4 +47,20 @@ public final class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.<Comparable<?>>asList(0, 40));
         assertThat((BigDecimal) avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    public void assertAvgAggregationWithScale() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit(new LongAccumulationAggregationUnit(), new LongAccumulationAggregationUnit(), 2);
+        avgAggregationUnit.merge(Arrays.<Comparable<?>>asList(2L, 5L));
+        avgAggregationUnit.merge(Arrays.<Comparable<?>>asList(1L, new BigDecimal("1.1")));
+        assertThat((BigDecimal) avgAggregationUnit.getResult(), is(new BigDecimal("2.03")));
+    }
+    
+    @Test
+    public void assertAvgAggregationWithDouble() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit(new LongAccumulationAggregationUnit(), new DoubleAccumulationAggregationUnit(), 0);
+        avgAggregationUnit.merge(Arrays.<Comparable<?>>asList(2L, 5D));
+        avgAggregationUnit.merge(Arrays.<Comparable<?>>asList(2L, 1D));
+        assertThat((Double) avgAggregationUnit.getResult(), is(1.5D));
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class HyperLogLogAggregationUnitTest {
+    
+    @Test
+    public void assertHyperLogLogAggregation() {
+        HyperLogLogAggregationUnit hyperLogLogAggregationUnit = new HyperLogLogAggregationUnit();
+        hyperLogLogAggregationUnit.merge(null);
+        hyperLogLogAggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        hyperLogLogAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        hyperLogLogAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        hyperLogLogAggregationUnit.merge(Collections.<Comparable<?>>singletonList(2));
+        assertThat(hyperLogLogAggregationUnit.getResult(), is((Comparable) 2L));
+    }
+    
+    @Test
+    public void assertHyperLogLogAggregationWithPartialSketch() {
+        HyperLogLogAggregationUnit partial = new HyperLogLogAggregationUnit();
+        partial.merge(Arrays.<Comparable<?>>asList(1));
+        partial.merge(Arrays.<Comparable<?>>asList(2));
+        HyperLogLogAggregationUnit actual = new HyperLogLogAggregationUnit();
+        actual.merge(Arrays.<Comparable<?>>asList(2));
+        actual.merge(Arrays.<Comparable<?>>asList(3));
+        actual.mergeSketch(partial.getSketch());
+        assertThat(actual.getResult(), is((Comparable) 3L));
+    }
+}
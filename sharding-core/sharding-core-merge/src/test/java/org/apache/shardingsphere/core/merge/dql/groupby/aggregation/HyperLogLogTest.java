@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogTest {
+    
+    @Test
+    public void assertCardinalityWithoutValues() {
+        assertThat(new HyperLogLog().cardinality(), is(0L));
+    }
+    
+    @Test
+    public void assertCardinalityWithDuplicatedValues() {
+        HyperLogLog actual = new HyperLogLog();
+        actual.offer(1);
+        actual.offer(1L);
+        actual.offer(new BigDecimal("1.00"));
+        actual.offer(new BigDecimal("1"));
+        actual.offer("1");
+        actual.offer(null);
+        assertThat(actual.cardinality(), is(2L));
+    }
+    
+    @Test
+    public void assertCardinalityWithinErrorRate() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 100000; i++) {
+            actual.offer(i);
+        }
+        assertTrue(Math.abs(actual.cardinality() - 100000) < 100000 * 0.05);
+    }
+    
+    @Test
+    public void assertCardinalityWithExactCountBeforePromoted() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 256; i++) {
+            actual.offer(i);
+            actual.offer(i);
+        }
+        assertThat(actual.cardinality(), is(256L));
+    }
+    
+    @Test
+    public void assertCardinalityAfterPromoted() {
+        HyperLogLog actual = new HyperLogLog();
+        for (int i = 0; i < 257; i++) {
+            actual.offer(i);
+        }
+        assertTrue(Math.abs(actual.cardinality() - 257) < 257 * 0.05);
+    }
+    
+    @Test
+    public void assertMergeWithoutPromoted() {
+        HyperLogLog actual = new HyperLogLog();
+        HyperLogLog other = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            actual.offer(i);
+            other.offer(i + 50);
+        }
+        actual.merge(other);
+        assertThat(actual.cardinality(), is(150L));
+        assertThat(other.cardinality(), is(100L));
+    }
+    
+    @Test
+    public void assertMergeToPromoted() {
+        HyperLogLog actual = new HyperLogLog();
+        HyperLogLog other = new HyperLogLog();
+        for (int i = 0; i < 200; i++) {
+            actual.offer(i);
+            other.offer(i + 200);
+        }
+        actual.merge(other);
+        assertTrue(Math.abs(actual.cardinality() - 400) < 400 * 0.05);
+    }
+    
+    @Test
+    public void assertMergePromotedToNotPromoted() {
+        HyperLogLog actual = new HyperLogLog();
+        HyperLogLog other = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            other.offer(i);
+        }
+        actual.offer(1000);
+        actual.merge(other);
+        assertTrue(Math.abs(actual.cardinality() - 1001) < 1001 * 0.05);
+    }
+    
+    @Test
+    public void assertMerge() {
+        HyperLogLog actual = new HyperLogLog();
+        HyperLogLog other = new HyperLogLog();
+        for (int i = 0; i < 1000; i++) {
+            actual.offer(i);
+            other.offer(i + 500);
+        }
+        actual.merge(other);
+        assertTrue(Math.abs(actual.cardinality() - 1500) < 1500 * 0.05);
+    }
+}
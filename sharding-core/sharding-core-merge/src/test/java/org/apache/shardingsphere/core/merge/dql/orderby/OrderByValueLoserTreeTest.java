@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(1, 2)));
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is((Object) 1));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is((Object) 2));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    public void assertNextWithMultipleOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(3, 8, 9), createOrderByValue(1, 5), createOrderByValue(2, 2, 7), createOrderByValue(4), createOrderByValue(6, 10)));
+        List<Object> values = new ArrayList<>();
+        do {
+            values.add(actual.peek().getQueryResult().getValue(1, Object.class));
+        } while (actual.next());
+        assertThat(values, is(Arrays.<Object>asList(1, 2, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+        assertTrue(actual.isEmpty());
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(queryResult.next()).thenReturn(true, nextResults);
+        Object[] valuesForOrderByAndRead = new Object[values.length * 2];
+        for (int i = 0; i < values.length; i++) {
+            valuesForOrderByAndRead[i * 2] = values[i];
+            valuesForOrderByAndRead[i * 2 + 1] = values[i];
+        }
+        when(queryResult.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(valuesForOrderByAndRead, 1, valuesForOrderByAndRead.length));
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(orderByItem));
+        assertTrue(result.next());
+        return result;
+    }
+}
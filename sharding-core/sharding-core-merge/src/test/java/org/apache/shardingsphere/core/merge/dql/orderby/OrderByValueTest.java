@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.merge.dql.orderby;
 
+import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
 import org.apache.shardingsphere.core.merge.fixture.TestQueryResult;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
@@ -30,12 +31,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -117,6 +120,52 @@ public final class OrderByValueTest {
         assertFalse(orderByValue2.getQueryResult().next());
     }
     
+    @Test
+    public void assertCompareToWithColumnarQueryResult() throws SQLException {
+        OrderByValue orderByValue1 = new OrderByValue(new MemoryQueryResult(createColumnarResultSet(1L, 2.5D)), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByValue1.next());
+        OrderByValue orderByValue2 = new OrderByValue(new MemoryQueryResult(createColumnarResultSet(1L, 1.5D)), 
+                Arrays.asList(
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC)), 
+                        createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) < 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) > 0);
+        assertFalse(orderByValue1.next());
+        assertFalse(orderByValue2.next());
+    }
+    
+    @Test
+    public void assertCompareToWithColumnarAndOtherQueryResult() throws SQLException {
+        OrderByValue orderByValue1 = new OrderByValue(new MemoryQueryResult(createColumnarResultSet(3L, 2.5D)), 
+                Arrays.asList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByValue1.next());
+        when(resultSet2.getObject(1)).thenReturn(2L);
+        OrderByValue orderByValue2 = new OrderByValue(new TestQueryResult(resultSet2), 
+                Arrays.asList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        assertTrue(orderByValue2.next());
+        assertTrue(orderByValue1.compareTo(orderByValue2) > 0);
+        assertTrue(orderByValue2.compareTo(orderByValue1) < 0);
+    }
+    
+    private ResultSet createColumnarResultSet(final long longValue, final double doubleValue) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("order_id");
+        when(metaData.getColumnLabel(2)).thenReturn("price");
+        when(metaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(metaData.getColumnType(2)).thenReturn(Types.DOUBLE);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.next()).thenReturn(true, false);
+        when(result.getLong(1)).thenReturn(longValue);
+        when(result.getDouble(2)).thenReturn(doubleValue);
+        return result;
+    }
+    
     private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
         OrderByItem result = new OrderByItem(indexOrderByItemSegment);
         result.setIndex(indexOrderByItemSegment.getColumnIndex());
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.pagination;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.CancelableQueryResult;
+import org.apache.shardingsphere.core.merge.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class EarlyTerminationDecoratorMergedResultTest {
+    
+    @Test
+    public void assertNextWithCancelRemainingQueryResults() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.next()).thenReturn(true, false);
+        CancelableQueryResult exhaustedQueryResult = mock(CancelableQueryResult.class);
+        CancelableQueryResult remainingQueryResult = mock(CancelableQueryResult.class);
+        when(remainingQueryResult.cancel()).thenReturn(true);
+        EarlyTerminationDecoratorMergedResult actual = new EarlyTerminationDecoratorMergedResult(mergedResult, Arrays.asList(exhaustedQueryResult, remainingQueryResult));
+        assertTrue(actual.next());
+        verify(remainingQueryResult, never()).cancel();
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        verify(mergedResult, times(2)).next();
+        verify(exhaustedQueryResult).cancel();
+        verify(remainingQueryResult).cancel();
+        assertThat(actual.getCancelledCount(), is(1));
+    }
+}
@@ -17,12 +17,17 @@
 
 package org.apache.shardingsphere.core.optimize.sharding.segment.condition;
 
+import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding condition.
@@ -35,4 +40,6 @@ import java.util.List;
 public class ShardingCondition {
     
     private final List<RouteValue> routeValues = new LinkedList<>();
+    
+    private final Map<Column, Multimap<Comparable<?>, DataNode>> listValueDataNodes = new HashMap<>();
 }
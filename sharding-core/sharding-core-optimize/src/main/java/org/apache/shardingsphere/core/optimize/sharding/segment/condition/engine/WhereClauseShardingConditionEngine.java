@@ -32,6 +32,7 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredica
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.SubqueryPredicateSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
 import org.apache.shardingsphere.core.rule.ShardingRule;
@@ -39,10 +40,13 @@ import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +60,9 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class WhereClauseShardingConditionEngine {
     
+    private static final List<Class<? extends Comparable<?>>> NUMERIC_TYPES = Arrays.<Class<? extends Comparable<?>>>asList(
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigDecimal.class);
+    
     private final ShardingRule shardingRule;
     
     private final TableMetas tableMetas;
@@ -108,7 +115,7 @@ public final class WhereClauseShardingConditionEngine {
             }
             Column column = new Column(each.getColumn().getName(), tableName.get());
             Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
-            if (!routeValue.isPresent()) {
+            if (!routeValue.isPresent() || isUnsupportedCompareRangeRouteValue(each, column, routeValue.get())) {
                 continue;
             }
             if (!result.containsKey(column)) {
@@ -119,11 +126,16 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
+    private boolean isUnsupportedCompareRangeRouteValue(final PredicateSegment predicateSegment, final Column column, final RouteValue routeValue) {
+        return predicateSegment.getRightValue() instanceof PredicateCompareRightValue && routeValue instanceof RangeRouteValue
+                && !shardingRule.isRangeShardingColumn(column.getName(), column.getTableName());
+    }
+    
     private ShardingCondition createShardingCondition(final Map<Column, Collection<RouteValue>> routeValueMap) {
         ShardingCondition result = new ShardingCondition();
         for (Entry<Column, Collection<RouteValue>> entry : routeValueMap.entrySet()) {
             try {
-                RouteValue routeValue = mergeRouteValues(entry.getKey(), entry.getValue());
+                RouteValue routeValue = mergeRouteValues(entry.getKey(), widenNumericRouteValues(entry.getValue()));
                 if (routeValue instanceof AlwaysFalseRouteValue) {
                     return new AlwaysFalseShardingCondition();
                 }
@@ -135,6 +147,107 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
+    private Collection<RouteValue> widenNumericRouteValues(final Collection<RouteValue> routeValues) {
+        Optional<Class<? extends Comparable<?>>> widenedType = findWidenedNumericType(routeValues);
+        if (!widenedType.isPresent()) {
+            return routeValues;
+        }
+        Collection<RouteValue> result = new LinkedList<>();
+        for (RouteValue each : routeValues) {
+            result.add(widenNumericRouteValue(each, widenedType.get()));
+        }
+        return result;
+    }
+    
+    private Optional<Class<? extends Comparable<?>>> findWidenedNumericType(final Collection<RouteValue> routeValues) {
+        Collection<Comparable<?>> values = new LinkedList<>();
+        for (RouteValue each : routeValues) {
+            values.addAll(getValues(each));
+        }
+        Collection<Class<?>> valueTypes = new HashSet<>();
+        int widenedTypeIndex = -1;
+        for (Comparable<?> each : values) {
+            int typeIndex = NUMERIC_TYPES.indexOf(each.getClass());
+            if (-1 == typeIndex) {
+                return Optional.absent();
+            }
+            valueTypes.add(each.getClass());
+            widenedTypeIndex = Math.max(widenedTypeIndex, typeIndex);
+        }
+        if (valueTypes.size() < 2) {
+            return Optional.absent();
+        }
+        return Optional.<Class<? extends Comparable<?>>>of(NUMERIC_TYPES.get(widenedTypeIndex));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Collection<Comparable<?>> getValues(final RouteValue routeValue) {
+        if (routeValue instanceof ListRouteValue) {
+            return ((ListRouteValue<Comparable<?>>) routeValue).getValues();
+        }
+        Collection<Comparable<?>> result = new LinkedList<>();
+        if (routeValue instanceof RangeRouteValue) {
+            Range<Comparable<?>> range = ((RangeRouteValue<Comparable<?>>) routeValue).getValueRange();
+            if (range.hasLowerBound()) {
+                result.add(range.lowerEndpoint());
+            }
+            if (range.hasUpperBound()) {
+                result.add(range.upperEndpoint());
+            }
+        }
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RouteValue widenNumericRouteValue(final RouteValue routeValue, final Class<? extends Comparable<?>> widenedType) {
+        if (routeValue instanceof ListRouteValue) {
+            ListRouteValue<Comparable<?>> listRouteValue = (ListRouteValue<Comparable<?>>) routeValue;
+            Collection<Comparable<?>> values = new LinkedList<>();
+            for (Comparable<?> each : listRouteValue.getValues()) {
+                values.add(widenNumericValue(each, widenedType));
+            }
+            return new ListRouteValue<>(listRouteValue.getColumnName(), listRouteValue.getTableName(), values);
+        }
+        if (routeValue instanceof RangeRouteValue) {
+            RangeRouteValue<Comparable<?>> rangeRouteValue = (RangeRouteValue<Comparable<?>>) routeValue;
+            return new RangeRouteValue<>(rangeRouteValue.getColumnName(), rangeRouteValue.getTableName(), widenNumericRange(rangeRouteValue.getValueRange(), widenedType));
+        }
+        return routeValue;
+    }
+    
+    private Range<Comparable<?>> widenNumericRange(final Range<Comparable<?>> range, final Class<? extends Comparable<?>> widenedType) {
+        if (range.hasLowerBound() && range.hasUpperBound()) {
+            return Range.<Comparable<?>>range(widenNumericValue(range.lowerEndpoint(), widenedType), range.lowerBoundType(), widenNumericValue(range.upperEndpoint(), widenedType), range.upperBoundType());
+        }
+        if (range.hasLowerBound()) {
+            return Range.<Comparable<?>>downTo(widenNumericValue(range.lowerEndpoint(), widenedType), range.lowerBoundType());
+        }
+        if (range.hasUpperBound()) {
+            return Range.<Comparable<?>>upTo(widenNumericValue(range.upperEndpoint(), widenedType), range.upperBoundType());
+        }
+        return range;
+    }
+    
+    private Comparable<?> widenNumericValue(final Comparable<?> value, final Class<? extends Comparable<?>> widenedType) {
+        Number number = (Number) value;
+        if (Short.class == widenedType) {
+            return number.shortValue();
+        }
+        if (Integer.class == widenedType) {
+            return number.intValue();
+        }
+        if (Long.class == widenedType) {
+            return number.longValue();
+        }
+        if (Float.class == widenedType) {
+            return number.floatValue();
+        }
+        if (Double.class == widenedType) {
+            return number.doubleValue();
+        }
+        return new BigDecimal(value.toString());
+    }
+    
     @SuppressWarnings("unchecked")
     private RouteValue mergeRouteValues(final Column column, final Collection<RouteValue> routeValues) {
         Collection<Comparable<?>> listValue = null;
@@ -151,6 +264,9 @@ public final class WhereClauseShardingConditionEngine {
                 } catch (final IllegalArgumentException ex) {
                     return new AlwaysFalseRouteValue();
                 }
+                if (rangeValue.isEmpty()) {
+                    return new AlwaysFalseRouteValue();
+                }
             }
         }
         if (null == listValue) {
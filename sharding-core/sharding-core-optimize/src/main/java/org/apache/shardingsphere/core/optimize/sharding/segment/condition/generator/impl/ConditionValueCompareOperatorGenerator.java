@@ -19,11 +19,13 @@ package org.apache.shardingsphere.core.optimize.sharding.segment.condition.gener
 
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
 import org.apache.shardingsphere.core.optimize.api.segment.Column;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.generator.ConditionValue;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.generator.ConditionValueGenerator;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
+import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 
 import java.util.List;
@@ -37,14 +39,31 @@ public final class ConditionValueCompareOperatorGenerator implements ConditionVa
     
     @Override
     public Optional<RouteValue> generate(final PredicateCompareRightValue predicateRightValue, final Column column, final List<Object> parameters) {
-        if (!isSupportedOperator(predicateRightValue.getOperator())) {
+        String operator = predicateRightValue.getOperator();
+        if (!isSupportedOperator(operator)) {
             return Optional.absent();
         }
         Optional<Comparable> routeValue = new ConditionValue(predicateRightValue.getExpression(), parameters).getValue();
-        return routeValue.isPresent() ? Optional.<RouteValue>of(new ListRouteValue<>(column.getName(), column.getTableName(), Lists.newArrayList(routeValue.get()))) : Optional.<RouteValue>absent();
+        return routeValue.isPresent() ? Optional.of(generate(routeValue.get(), column, operator)) : Optional.<RouteValue>absent();
     }
     
     private boolean isSupportedOperator(final String operator) {
-        return "=".equals(operator);
+        return "=".equals(operator) || ">".equals(operator) || ">=".equals(operator) || "<".equals(operator) || "<=".equals(operator);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private RouteValue generate(final Comparable routeValue, final Column column, final String operator) {
+        switch (operator) {
+            case ">":
+                return new RangeRouteValue<>(column.getName(), column.getTableName(), Range.greaterThan(routeValue));
+            case ">=":
+                return new RangeRouteValue<>(column.getName(), column.getTableName(), Range.atLeast(routeValue));
+            case "<":
+                return new RangeRouteValue<>(column.getName(), column.getTableName(), Range.lessThan(routeValue));
+            case "<=":
+                return new RangeRouteValue<>(column.getName(), column.getTableName(), Range.atMost(routeValue));
+            default:
+                return new ListRouteValue<>(column.getName(), column.getTableName(), Lists.newArrayList(routeValue));
+        }
     }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.core.optimize.sharding.segment.select.item.Sele
 import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.item.ShorthandSelectItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
@@ -202,6 +203,139 @@ public final class ShardingSelectOptimizeEngineTest {
         assertTrue(values.containsAll(Arrays.asList(1, 2)));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeCompareRangeConditions() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">=", new LiteralExpressionSegment(0, 0, 1))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("<", new LiteralExpressionSegment(0, 0, 5))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("<=", new LiteralExpressionSegment(0, 0, 3))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(shardingRule, tableMetas, "", Collections.emptyList(), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((RangeRouteValue<Comparable<?>>) shardingValue).getValueRange(), is(Range.<Comparable<?>>closed(1, 3)));
+    }
+    
+    @Test
+    public void assertOptimizeAlwaysFalseCompareRangeConditions() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">=", new LiteralExpressionSegment(0, 0, 3))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("<", new LiteralExpressionSegment(0, 0, 3))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(shardingRule, tableMetas, "", Collections.emptyList(), selectStatement).getShardingConditions();
+        assertTrue(shardingConditions.isAlwaysFalse());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListConditionsAndCompareRangeConditions() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(),
+                new PredicateInRightValue(Arrays.<ExpressionSegment>asList(new LiteralExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, 2)))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">", new LiteralExpressionSegment(0, 0, 1))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(shardingRule, tableMetas, "", Collections.emptyList(), selectStatement).getShardingConditions();
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((ListRouteValue<Comparable<?>>) shardingValue).getValues(), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList(2)));
+    }
+    
+    @Test
+    public void assertOptimizeCompareRangeConditionsWithoutRangeShardingColumn() {
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">=", new LiteralExpressionSegment(0, 0, 1))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("<=", new LiteralExpressionSegment(0, 0, 3))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(shardingRule, tableMetas, "", Collections.emptyList(), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        assertTrue(shardingConditions.getConditions().isEmpty());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListConditionsAndCompareRangeConditionsWithoutRangeShardingColumn() {
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("=", new LiteralExpressionSegment(0, 0, 1))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">", new LiteralExpressionSegment(0, 0, 1))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(shardingRule, tableMetas, "", Collections.emptyList(), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((ListRouteValue<Comparable<?>>) shardingValue).getValues(), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList(1)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListParameterAndCompareRangeLiteralWithDifferentNumericTypes() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("=", new ParameterMarkerExpressionSegment(0, 0, 0))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">", new LiteralExpressionSegment(0, 0, 0))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(
+                shardingRule, tableMetas, "", Collections.<Object>singletonList(2L), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((ListRouteValue<Comparable<?>>) shardingValue).getValues(), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList(2L)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeCompareRangeParameterAndLiteralWithDifferentNumericTypes() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">=", new ParameterMarkerExpressionSegment(0, 0, 0))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("<=", new LiteralExpressionSegment(0, 0, 3))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(
+                shardingRule, tableMetas, "", Collections.<Object>singletonList(1L), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((RangeRouteValue<Comparable<?>>) shardingValue).getValueRange(), is(Range.<Comparable<?>>closed(1L, 3L)));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertOptimizeListParameterAndCompareRangeLiteralWithNarrowerNumericType() {
+        when(shardingRule.isRangeShardingColumn("column", "tbl")).thenReturn(true);
+        selectStatement.setSelectItems(new SelectItemsSegment(0, 0, false));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue("=", new ParameterMarkerExpressionSegment(0, 0, 0))));
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, createColumnSegment(), new PredicateCompareRightValue(">", new LiteralExpressionSegment(0, 0, 0))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingConditions shardingConditions = new ShardingSelectOptimizeEngine().optimize(
+                shardingRule, tableMetas, "", Collections.<Object>singletonList((short) 2), selectStatement).getShardingConditions();
+        assertFalse(shardingConditions.isAlwaysFalse());
+        RouteValue shardingValue = shardingConditions.getConditions().get(0).getRouteValues().get(0);
+        assertThat(((ListRouteValue<Comparable<?>>) shardingValue).getValues(), is((Collection<Comparable<?>>) Collections.<Comparable<?>>singletonList(2)));
+    }
+    
     private ColumnSegment createColumnSegment() {
         ColumnSegment result = new ColumnSegment(0, 0, "column");
         result.setOwner(new TableSegment(0, 0, "tbl"));
@@ -17,9 +17,10 @@
 
 package org.apache.shardingsphere.core.parse;
 
-import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.core.parse.cache.SQLParseCacheOption;
 import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
+import org.apache.shardingsphere.core.parse.cache.SQLParseTemplateCache;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.hook.ParsingHook;
@@ -27,23 +28,36 @@ import org.apache.shardingsphere.core.parse.hook.SPIParsingHook;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.util.concurrent.Callable;
+
 /**
  * SQL parse engine.
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParseEngine {
     
     private final DatabaseType databaseType;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache;
+    
+    private final SQLParseTemplateCache templateCache;
+    
+    public SQLParseEngine(final DatabaseType databaseType) {
+        this(databaseType, SQLParseCacheOption.DEFAULT);
+    }
+    
+    public SQLParseEngine(final DatabaseType databaseType, final SQLParseCacheOption cacheOption) {
+        this.databaseType = databaseType;
+        cache = new SQLParseResultCache(cacheOption);
+        templateCache = new SQLParseTemplateCache(cacheOption);
+    }
     
     /**
      * Parse SQL.
      *
      * @param sql SQL
-     * @param useCache use cache or not
+     * @param useCache use cache or not, SQL without cache will be parsed with template which literals are normalized
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
@@ -62,16 +76,33 @@ public final class SQLParseEngine {
     }
     
     private SQLStatement parse0(final String sql, final boolean useCache) {
-        if (useCache) {
-            Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
-            if (cachedSQLStatement.isPresent()) {
-                return cachedSQLStatement.get();
-            }
-        }
-        SQLStatement result = new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
-        if (useCache) {
-            cache.put(sql, result);
+        if (!useCache) {
+            return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse(templateCache);
         }
-        return result;
+        return cache.getSQLStatement(sql, new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return new SQLParseKernel(ParseRuleRegistry.getInstance(), databaseType, sql).parse();
+            }
+        });
+    }
+    
+    /**
+     * Get statistics of parse result cache.
+     *
+     * @return statistics of parse result cache
+     */
+    public CacheStats getResultCacheStatistics() {
+        return cache.getStatistics();
+    }
+    
+    /**
+     * Get statistics of parse template cache.
+     *
+     * @return statistics of parse template cache
+     */
+    public CacheStats getTemplateCacheStatistics() {
+        return templateCache.getStatistics();
     }
 }
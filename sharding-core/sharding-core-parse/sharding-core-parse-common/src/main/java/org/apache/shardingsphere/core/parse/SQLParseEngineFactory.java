@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.parse;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parse.cache.SQLParseCacheOption;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Map;
@@ -41,16 +42,32 @@ public final class SQLParseEngineFactory {
      * @return SQL parse engine
      */
     public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType) {
-        if (ENGINES.containsKey(databaseType.getName())) {
-            return ENGINES.get(databaseType.getName());
+        return getSQLParseEngine(databaseType, SQLParseCacheOption.DEFAULT);
+    }
+    
+    /**
+     * Get SQL parse engine.
+     *
+     * @param databaseType database type
+     * @param cacheOption cache option
+     * @return SQL parse engine
+     */
+    public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final SQLParseCacheOption cacheOption) {
+        String key = getKey(databaseType, cacheOption);
+        if (ENGINES.containsKey(key)) {
+            return ENGINES.get(key);
         }
         synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseType.getName())) {
-                return ENGINES.get(databaseType.getName());
+            if (ENGINES.containsKey(key)) {
+                return ENGINES.get(key);
             }
-            SQLParseEngine result = new SQLParseEngine(databaseType);
-            ENGINES.put(databaseType.getName(), result);
+            SQLParseEngine result = new SQLParseEngine(databaseType, cacheOption);
+            ENGINES.put(key, result);
             return result;
         }
     }
+    
+    private static String getKey(final DatabaseType databaseType, final SQLParseCacheOption cacheOption) {
+        return databaseType.getName() + cacheOption;
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL parse cache builder.
+ *
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParseCacheBuilder {
+    
+    /**
+     * Build size bounded cache with statistics.
+     * 
+     * @param cacheOption cache option
+     * @param <K> type of cache key
+     * @param <V> type of cache value
+     * @return cache
+     */
+    public static <K, V> Cache<K, V> build(final SQLParseCacheOption cacheOption) {
+        CacheBuilder<Object, Object> result = CacheBuilder.newBuilder().maximumSize(cacheOption.getMaximumSize()).recordStats();
+        if (cacheOption.getExpireAfterAccessSeconds() > 0) {
+            result.expireAfterAccess(cacheOption.getExpireAfterAccessSeconds(), TimeUnit.SECONDS);
+        }
+        return result.build();
+    }
+}
@@ -15,32 +15,30 @@
  * limitations under the License.
  */
 
-package org.apache.shardingsphere.core.merge.dal.show;
+package org.apache.shardingsphere.core.parse.cache;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.core.merge.MergedResult;
-
-import java.util.List;
+import lombok.ToString;
 
 /**
- * Show sharding CTL merged result.
+ * SQL parse cache option.
  *
- * @author zhaojun
+ * @author zhangliang
  */
 @RequiredArgsConstructor
-public final class ShowShardingCTLMergedResult extends LocalMergedResultAdapter implements MergedResult {
-    
-    private int currentIndex;
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class SQLParseCacheOption {
     
-    private final List<Object> values;
+    /**
+     * Default SQL parse cache option, 65535 entries at most and never expire.
+     */
+    public static final SQLParseCacheOption DEFAULT = new SQLParseCacheOption(65535L, 0L);
     
-    @Override
-    public boolean next() {
-        return currentIndex++ < values.size();
-    }
+    private final long maximumSize;
     
-    @Override
-    public Object getValue(final int columnIndex, final Class<?> type) {
-        return values.get(currentIndex - 1);
-    }
+    private final long expireAfterAccessSeconds;
 }
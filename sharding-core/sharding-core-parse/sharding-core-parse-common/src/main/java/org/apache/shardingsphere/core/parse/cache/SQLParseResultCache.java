@@ -18,11 +18,14 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 /**
  * SQL parse result cache.
@@ -32,7 +35,15 @@ import java.util.Map;
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(SQLParseCacheOption.DEFAULT);
+    }
+    
+    public SQLParseResultCache(final SQLParseCacheOption cacheOption) {
+        cache = SQLParseCacheBuilder.build(cacheOption);
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -51,13 +62,40 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get SQL statement, load and put it into cache if absent.
+     * 
+     * @param sql SQL
+     * @param loader loader of SQL statement
+     * @return SQL statement
+     */
+    @SneakyThrows
+    public SQLStatement getSQLStatement(final String sql, final Callable<SQLStatement> loader) {
+        try {
+            return cache.get(sql, loader);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    /**
+     * Get cache statistics.
+     * 
+     * <p>Statistics includes hit ratio, eviction count and load time.</p>
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
-    public synchronized void clear() {
-        cache.clear();
+    public void clear() {
+        cache.invalidateAll();
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParseTemplate;
+
+/**
+ * SQL parse template cache.
+ *
+ * @author zhangliang
+ */
+public final class SQLParseTemplateCache {
+    
+    private final Cache<String, SQLParseTemplate> cache;
+    
+    public SQLParseTemplateCache() {
+        this(SQLParseCacheOption.DEFAULT);
+    }
+    
+    public SQLParseTemplateCache(final SQLParseCacheOption cacheOption) {
+        cache = SQLParseCacheBuilder.build(cacheOption);
+    }
+    
+    /**
+     * Put SQL shape and parse template into cache.
+     * 
+     * @param shape shape of normalized SQL
+     * @param parseTemplate SQL parse template
+     */
+    public void put(final String shape, final SQLParseTemplate parseTemplate) {
+        cache.put(shape, parseTemplate);
+    }
+    
+    /**
+     * Get SQL parse template.
+     *
+     * @param shape shape of normalized SQL
+     * @return SQL parse template
+     */
+    public Optional<SQLParseTemplate> getSQLParseTemplate(final String shape) {
+        return Optional.fromNullable(cache.getIfPresent(shape));
+    }
+    
+    /**
+     * Get cache statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
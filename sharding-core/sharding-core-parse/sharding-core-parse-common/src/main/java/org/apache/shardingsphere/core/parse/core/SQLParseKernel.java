@@ -17,11 +17,15 @@
 
 package org.apache.shardingsphere.core.parse.core;
 
+import com.google.common.base.Optional;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.cache.SQLParseTemplateCache;
 import org.apache.shardingsphere.core.parse.core.extractor.SQLSegmentsExtractorEngine;
 import org.apache.shardingsphere.core.parse.core.filler.SQLStatementFillerEngine;
+import org.apache.shardingsphere.core.parse.core.parser.NormalizedSQL;
 import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParseTemplate;
 import org.apache.shardingsphere.core.parse.core.parser.SQLParserEngine;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
@@ -58,7 +62,38 @@ public final class SQLParseKernel {
      * @return SQL statement
      */
     public SQLStatement parse() {
-        SQLAST ast = parserEngine.parse();
+        return parse(parserEngine.parse());
+    }
+    
+    /**
+     * Parse SQL with parse template cache.
+     * 
+     * <p>
+     * SQL is lexed and normalized first, parse template with same shape will be rebound to current SQL to skip parsing again.
+     * </p>
+     *
+     * @param templateCache parse template cache
+     * @return SQL statement
+     */
+    public SQLStatement parse(final SQLParseTemplateCache templateCache) {
+        NormalizedSQL normalizedSQL = parserEngine.normalize();
+        Optional<SQLParseTemplate> cachedTemplate = templateCache.getSQLParseTemplate(normalizedSQL.getShape());
+        if (cachedTemplate.isPresent() && cachedTemplate.get().tryBind(normalizedSQL)) {
+            try {
+                return parse(cachedTemplate.get().getAst());
+            } finally {
+                cachedTemplate.get().release();
+            }
+        }
+        SQLParseTemplate template = parserEngine.parse(normalizedSQL);
+        SQLStatement result = parse(template.getAst());
+        if (template.isReusable()) {
+            templateCache.put(normalizedSQL.getShape(), template);
+        }
+        return result;
+    }
+    
+    private SQLStatement parse(final SQLAST ast) {
         Collection<SQLSegment> sqlSegments = extractorEngine.extract(ast);
         Map<ParserRuleContext, Integer> parameterMarkerIndexes = ast.getParameterMarkerIndexes();
         return fillerEngine.fill(sqlSegments, parameterMarkerIndexes.size(), ast.getSqlStatementRule());
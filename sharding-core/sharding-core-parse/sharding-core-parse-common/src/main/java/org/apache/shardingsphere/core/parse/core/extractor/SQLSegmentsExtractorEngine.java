@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.parse.core.extractor.api.CollectionSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.api.OptionalSQLSegmentExtractor;
 import org.apache.shardingsphere.core.parse.core.extractor.api.SQLSegmentExtractor;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndexHolder;
 import org.apache.shardingsphere.core.parse.core.parser.SQLAST;
 import org.apache.shardingsphere.core.parse.sql.segment.SQLSegment;
 
@@ -30,6 +31,8 @@ import java.util.LinkedList;
 /**
  * SQL segments extractor engine.
  * 
+ * <p>All extractors share the parse tree index of SQL AST, so parse tree is traversed only once.</p>
+ * 
  * @author zhangliang
  */
 public final class SQLSegmentsExtractorEngine {
@@ -42,15 +45,20 @@ public final class SQLSegmentsExtractorEngine {
      */
     public Collection<SQLSegment> extract(final SQLAST ast) {
         Collection<SQLSegment> result = new LinkedList<>();
-        for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
-            if (each instanceof OptionalSQLSegmentExtractor) {
-                Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes());
-                if (sqlSegment.isPresent()) {
-                    result.add(sqlSegment.get());
+        ParseTreeIndexHolder.set(ast.getParseTreeIndex());
+        try {
+            for (SQLSegmentExtractor each : ast.getSqlStatementRule().getExtractors()) {
+                if (each instanceof OptionalSQLSegmentExtractor) {
+                    Optional<? extends SQLSegment> sqlSegment = ((OptionalSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes());
+                    if (sqlSegment.isPresent()) {
+                        result.add(sqlSegment.get());
+                    }
+                } else if (each instanceof CollectionSQLSegmentExtractor) {
+                    result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes()));
                 }
-            } else if (each instanceof CollectionSQLSegmentExtractor) {
-                result.addAll(((CollectionSQLSegmentExtractor) each).extract(ast.getParserRuleContext(), ast.getParameterMarkerIndexes()));
             }
+        } finally {
+            ParseTreeIndexHolder.clear();
         }
         return result;
     }
@@ -140,7 +140,25 @@ public final class PredicateExtractor implements OptionalSQLSegmentExtractor {
                 ? (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(2) : (ParserRuleContext) comparisonOperatorNode.get().getParent().getChild(0);
         Optional<? extends ExpressionSegment> sqlExpression = expressionExtractor.extract(valueNode, parameterMarkerIndexes);
         return sqlExpression.isPresent() ? Optional.of(new PredicateSegment(booleanPrimaryNode.getStart().getStartIndex(), booleanPrimaryNode.getStop().getStopIndex(), column.get(), 
-                new PredicateCompareRightValue(comparisonOperatorNode.get().getText(), sqlExpression.get()))) : Optional.<PredicateSegment>absent();
+                new PredicateCompareRightValue(getCompareOperator(comparisonOperatorNode.get().getText(), leftColumnNode.isPresent()), sqlExpression.get()))) : Optional.<PredicateSegment>absent();
+    }
+    
+    private String getCompareOperator(final String operator, final boolean isColumnOnLeft) {
+        if (isColumnOnLeft) {
+            return operator;
+        }
+        switch (operator) {
+            case ">":
+                return "<";
+            case ">=":
+                return "<=";
+            case "<":
+                return ">";
+            case "<=":
+                return ">=";
+            default:
+                return operator;
+        }
     }
     
     private Optional<PredicateSegment> extractBetweenPredicate(final ParserRuleContext predicateNode, final Map<ParserRuleContext, Integer> parameterMarkerIndexes, final ColumnSegment column) {
@@ -24,13 +24,16 @@ import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Queue;
 
 /**
  * Extractor utility.
  * 
+ * <p>Parse tree index held by {@code ParseTreeIndexHolder} is used if start node is indexed, otherwise parse tree will be traversed.</p>
+ * 
  * @author duhongjun
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,7 +60,11 @@ public final class ExtractorUtils {
      * @return matched node
      */
     public static Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
-        Queue<ParserRuleContext> parserRuleContexts = new LinkedList<>();
+        ParseTreeIndex parseTreeIndex = ParseTreeIndexHolder.get();
+        if (null != parseTreeIndex && parseTreeIndex.contains(node)) {
+            return parseTreeIndex.findFirstChildNode(node, ruleName);
+        }
+        Queue<ParserRuleContext> parserRuleContexts = new ArrayDeque<>();
         parserRuleContexts.add(node);
         ParserRuleContext parserRuleContext;
         while (null != (parserRuleContext = parserRuleContexts.poll())) {
@@ -124,28 +131,32 @@ public final class ExtractorUtils {
      * @return all descendant nodes
      */
     public static Collection<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
-        Collection<ParserRuleContext> result = new LinkedList<>();
-        if (isMatchedNode(node, ruleName)) {
-            result.add(node);
-        }
-        for (ParserRuleContext each : getChildrenNodes(node)) {
-            result.addAll(getAllDescendantNodes(each, ruleName));
+        ParseTreeIndex parseTreeIndex = ParseTreeIndexHolder.get();
+        if (null != parseTreeIndex && parseTreeIndex.contains(node)) {
+            return parseTreeIndex.getAllDescendantNodes(node, ruleName);
         }
+        Collection<ParserRuleContext> result = new ArrayList<>();
+        collectDescendantNodes(node, ruleName, result);
         return result;
     }
     
-    private static boolean isMatchedNode(final ParserRuleContext node, final RuleName ruleName) {
-        return ruleName.getName().equals(node.getClass().getSimpleName());
-    }
-    
-    private static Collection<ParserRuleContext> getChildrenNodes(final ParserRuleContext node) {
-        Collection<ParserRuleContext> result = new LinkedList<>();
+    private static void collectDescendantNodes(final ParserRuleContext node, final RuleName ruleName, final Collection<ParserRuleContext> result) {
+        if (isMatchedNode(node, ruleName)) {
+            result.add(node);
+        }
         for (int i = 0; i < node.getChildCount(); i++) {
             ParseTree child = node.getChild(i);
             if (child instanceof ParserRuleContext) {
-                result.add((ParserRuleContext) child);
+                collectDescendantNodes((ParserRuleContext) child, ruleName, result);
             }
         }
-        return result;
+    }
+    
+    private static boolean isMatchedNode(final ParserRuleContext node, final RuleName ruleName) {
+        ParseTreeIndex parseTreeIndex = ParseTreeIndexHolder.get();
+        if (null != parseTreeIndex && parseTreeIndex.contains(node)) {
+            return parseTreeIndex.isMatchedNode(node, ruleName);
+        }
+        return ruleName.getName().equals(node.getClass().getSimpleName());
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parse tree index.
+ * 
+ * <p>
+ * Parse tree is traversed only once, nodes are grouped by rule index in pre-order,
+ * so descendants of any indexed node are a continuous range of each group.
+ * </p>
+ * 
+ * @author zhangliang
+ */
+public final class ParseTreeIndex {
+    
+    private static final Map<Class<? extends Parser>, Map<RuleName, Integer>> RULE_INDEXES = new ConcurrentHashMap<>();
+    
+    private final Map<RuleName, Integer> ruleIndexes;
+    
+    private final Map<ParserRuleContext, NodePosition> positions = new IdentityHashMap<>();
+    
+    private final List<List<ParserRuleContext>> nodes;
+    
+    public ParseTreeIndex(final Parser parser, final ParserRuleContext rootNode) {
+        ruleIndexes = getRuleIndexes(parser);
+        int ruleCount = parser.getRuleNames().length;
+        nodes = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            nodes.add(null);
+        }
+        index(rootNode, 0);
+    }
+    
+    private static Map<RuleName, Integer> getRuleIndexes(final Parser parser) {
+        Map<RuleName, Integer> result = RULE_INDEXES.get(parser.getClass());
+        if (null == result) {
+            result = createRuleIndexes(parser.getRuleNames());
+            RULE_INDEXES.put(parser.getClass(), result);
+        }
+        return result;
+    }
+    
+    private static Map<RuleName, Integer> createRuleIndexes(final String[] ruleNames) {
+        Map<RuleName, Integer> result = new EnumMap<>(RuleName.class);
+        for (RuleName each : RuleName.values()) {
+            String contextName = each.getName();
+            String ruleName = Character.toLowerCase(contextName.charAt(0)) + contextName.substring(1, contextName.length() - "Context".length());
+            for (int i = 0; i < ruleNames.length; i++) {
+                if (ruleName.equals(ruleNames[i])) {
+                    result.put(each, i);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void index(final ParserRuleContext node, final int depth) {
+        NodePosition position = new NodePosition(positions.size(), depth);
+        positions.put(node, position);
+        getNodes(node.getRuleIndex()).add(node);
+        for (int i = 0; i < node.getChildCount(); i++) {
+            ParseTree child = node.getChild(i);
+            if (child instanceof ParserRuleContext) {
+                index((ParserRuleContext) child, depth + 1);
+            }
+        }
+        position.lastDescendant = positions.size() - 1;
+    }
+    
+    private List<ParserRuleContext> getNodes(final int ruleIndex) {
+        List<ParserRuleContext> result = nodes.get(ruleIndex);
+        if (null == result) {
+            result = new ArrayList<>();
+            nodes.set(ruleIndex, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge is node indexed or not.
+     * 
+     * @param node node
+     * @return is node indexed or not
+     */
+    public boolean contains(final ParserRuleContext node) {
+        return positions.containsKey(node);
+    }
+    
+    /**
+     * Judge is node matched rule name or not.
+     * 
+     * @param node indexed node
+     * @param ruleName rule name
+     * @return is node matched rule name or not
+     */
+    public boolean isMatchedNode(final ParserRuleContext node, final RuleName ruleName) {
+        Integer ruleIndex = ruleIndexes.get(ruleName);
+        return null != ruleIndex && ruleIndex == node.getRuleIndex();
+    }
+    
+    /**
+     * Find first child node in breadth first order.
+     * 
+     * @param node indexed start node
+     * @param ruleName rule name
+     * @return matched node
+     */
+    public Optional<ParserRuleContext> findFirstChildNode(final ParserRuleContext node, final RuleName ruleName) {
+        ParserRuleContext result = null;
+        int resultDepth = Integer.MAX_VALUE;
+        for (ParserRuleContext each : getAllDescendantNodes(node, ruleName)) {
+            int depth = positions.get(each).depth;
+            if (depth < resultDepth) {
+                result = each;
+                resultDepth = depth;
+            }
+        }
+        return Optional.fromNullable(result);
+    }
+    
+    /**
+     * Get all descendant nodes in pre-order, include start node.
+     * 
+     * @param node indexed start node
+     * @param ruleName rule name
+     * @return all descendant nodes
+     */
+    public List<ParserRuleContext> getAllDescendantNodes(final ParserRuleContext node, final RuleName ruleName) {
+        NodePosition position = positions.get(node);
+        Preconditions.checkArgument(null != position, "Node is not indexed.");
+        Integer ruleIndex = ruleIndexes.get(ruleName);
+        if (null == ruleIndex || null == nodes.get(ruleIndex)) {
+            return Collections.emptyList();
+        }
+        List<ParserRuleContext> candidates = nodes.get(ruleIndex);
+        int fromIndex = getFirstIndexNotBefore(candidates, position.order);
+        int toIndex = getFirstIndexNotBefore(candidates, position.lastDescendant + 1);
+        return Collections.unmodifiableList(candidates.subList(fromIndex, toIndex));
+    }
+    
+    private int getFirstIndexNotBefore(final List<ParserRuleContext> candidates, final int order) {
+        int low = 0;
+        int high = candidates.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions.get(candidates.get(middle)).order < order) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NodePosition {
+        
+        private final int order;
+        
+        private final int depth;
+        
+        private int lastDescendant;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Parse tree index holder.
+ * 
+ * <p>Hold parse tree index of current thread during extracting, so all extractors share one index.</p>
+ * 
+ * @author zhangliang
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ParseTreeIndexHolder {
+    
+    private static final ThreadLocal<ParseTreeIndex> PARSE_TREE_INDEX = new ThreadLocal<>();
+    
+    /**
+     * Get parse tree index of current thread.
+     * 
+     * @return parse tree index, null if absent
+     */
+    public static ParseTreeIndex get() {
+        return PARSE_TREE_INDEX.get();
+    }
+    
+    /**
+     * Set parse tree index of current thread.
+     * 
+     * @param parseTreeIndex parse tree index
+     */
+    public static void set(final ParseTreeIndex parseTreeIndex) {
+        PARSE_TREE_INDEX.set(parseTreeIndex);
+    }
+    
+    /**
+     * Clear parse tree index of current thread.
+     */
+    public static void clear() {
+        PARSE_TREE_INDEX.remove();
+    }
+}
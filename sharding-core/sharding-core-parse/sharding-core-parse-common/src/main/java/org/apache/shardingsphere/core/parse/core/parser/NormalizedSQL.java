@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import lombok.Getter;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Normalized SQL.
+ * 
+ * <p>
+ * SQL is lexed only once and literals are replaced with positional slots,
+ * SQL with same shape but different literals can share same parse template.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class NormalizedSQL {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList("STRING_", "NUMBER_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final List<Token> tokens;
+    
+    private final String shape;
+    
+    public NormalizedSQL(final CommonTokenStream tokenStream) {
+        this.tokenStream = tokenStream;
+        tokens = new ArrayList<>(tokenStream.size());
+        Vocabulary vocabulary = ((Lexer) tokenStream.getTokenSource()).getVocabulary();
+        StringBuilder shape = new StringBuilder();
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel()) {
+                continue;
+            }
+            tokens.add(each);
+            if (Token.EOF == each.getType()) {
+                continue;
+            }
+            String tokenName = vocabulary.getSymbolicName(each.getType());
+            shape.append(LITERAL_TOKEN_NAMES.contains(tokenName) ? "<" + tokenName + ">" : each.getText()).append(' ');
+        }
+        this.shape = shape.toString();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.Token;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SQL parse template.
+ * 
+ * <p>
+ * Parse template holds abstract syntax tree of SQL,
+ * tokens of tree can be rebound to another normalized SQL with same shape to skip parsing again.
+ * </p>
+ *
+ * @author zhangliang
+ */
+@RequiredArgsConstructor
+public final class SQLParseTemplate {
+    
+    @Getter
+    private final SQLAST ast;
+    
+    private final List<Token> tokens;
+    
+    @Getter
+    private final boolean reusable;
+    
+    private final Lock lock = new ReentrantLock();
+    
+    /**
+     * Try to bind normalized SQL to template.
+     * 
+     * <p>Template is occupied by current thread if bind success, {@code release()} should be called after AST used.</p>
+     *
+     * @param normalizedSQL normalized SQL
+     * @return bind success or not
+     */
+    public boolean tryBind(final NormalizedSQL normalizedSQL) {
+        if (!reusable || tokens.size() != normalizedSQL.getTokens().size() || !lock.tryLock()) {
+            return false;
+        }
+        if (!isSameTokenTypes(normalizedSQL.getTokens())) {
+            lock.unlock();
+            return false;
+        }
+        Iterator<Token> boundTokens = normalizedSQL.getTokens().iterator();
+        for (Token each : tokens) {
+            bindToken((CommonToken) each, boundTokens.next());
+        }
+        return true;
+    }
+    
+    private boolean isSameTokenTypes(final List<Token> boundTokens) {
+        Iterator<Token> boundTokenIterator = boundTokens.iterator();
+        for (Token each : tokens) {
+            if (each.getType() != boundTokenIterator.next().getType()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void bindToken(final CommonToken token, final Token boundToken) {
+        token.setText(boundToken.getText());
+        token.setStartIndex(boundToken.getStartIndex());
+        token.setStopIndex(boundToken.getStopIndex());
+        token.setLine(boundToken.getLine());
+        token.setCharPositionInLine(boundToken.getCharPositionInLine());
+    }
+    
+    /**
+     * Release template occupied by current thread.
+     */
+    public void release() {
+        lock.unlock();
+    }
+}
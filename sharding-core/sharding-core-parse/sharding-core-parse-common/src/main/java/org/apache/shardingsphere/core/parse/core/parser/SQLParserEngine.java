@@ -18,10 +18,18 @@
 package org.apache.shardingsphere.core.parse.core.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.core.extractor.util.ParseTreeIndex;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
 import org.apache.shardingsphere.core.parse.core.rule.registry.statement.SQLStatementRule;
@@ -34,6 +42,12 @@ import java.util.Map;
 
 /**
  * SQL parser engine.
+ * 
+ * <p>
+ * SQL is parsed with SLL prediction mode which bails out at first syntax error,
+ * and parsed again with full LL prediction mode only if SLL parsing failed or did not reach end of SQL.
+ * Statement rules do not end with EOF, so SLL parsing may succeed with prefix of SQL only.
+ * </p>
  *
  * @author zhangliang
  */
@@ -52,7 +66,32 @@ public final class SQLParserEngine {
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        return parse(SQLParserFactory.newInstance(databaseType, sql));
+    }
+    
+    /**
+     * Lex SQL to normalized SQL.
+     *
+     * @return normalized SQL
+     */
+    public NormalizedSQL normalize() {
+        return new NormalizedSQL(SQLParserFactory.newTokenStream(databaseType, sql));
+    }
+    
+    /**
+     * Parse normalized SQL to parse template.
+     *
+     * @param normalizedSQL normalized SQL
+     * @return parse template
+     */
+    public SQLParseTemplate parse(final NormalizedSQL normalizedSQL) {
+        SQLParser sqlParser = SQLParserFactory.newInstance(databaseType, normalizedSQL.getTokenStream());
+        SQLAST ast = parse(sqlParser);
+        return new SQLParseTemplate(ast, normalizedSQL.getTokens(), 0 == ((Parser) sqlParser).getNumberOfSyntaxErrors());
+    }
+    
+    private SQLAST parse(final SQLParser sqlParser) {
+        ParseTree parseTree = execute(sqlParser).getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -60,11 +99,31 @@ public final class SQLParserEngine {
         if (null == rule) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
-        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
+        ParseTreeIndex parseTreeIndex = new ParseTreeIndex((Parser) sqlParser, (ParserRuleContext) parseTree);
+        return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree, parseTreeIndex), rule, parseTreeIndex);
+    }
+    
+    private ParserRuleContext execute(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            ParserRuleContext result = sqlParser.execute();
+            if (Token.EOF == parser.getCurrentToken().getType()) {
+                return result;
+            }
+        } catch (final ParseCancellationException ignored) {
+        }
+        parser.reset();
+        parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+        parser.setErrorHandler(new DefaultErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        return sqlParser.execute();
     }
     
-    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
-        Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
+    private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode, final ParseTreeIndex parseTreeIndex) {
+        Collection<ParserRuleContext> placeholderNodes = parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
         int index = 0;
         for (ParserRuleContext each : placeholderNodes) {
@@ -32,12 +32,20 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Constructor;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * Parser entries are loaded once, constructors of lexer and parser are resolved once for every database type.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,12 +54,20 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final Map<DatabaseType, Constructor<? extends Lexer>> LEXER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final Map<DatabaseType, Constructor<? extends SQLParser>> PARSER_CONSTRUCTORS = new ConcurrentHashMap<>();
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
             }
+            PARSER_ENTRIES.put(databaseType, each);
         }
     }
     
@@ -72,17 +88,67 @@ public final class SQLParserFactory {
      * @return SQL parser
      */
     public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+        return newInstance(databaseType, new CommonTokenStream(createLexer(databaseType, sql)));
+    }
+    
+    /**
+     * New instance of SQL parser with lexed token stream.
+     *
+     * @param databaseType database type
+     * @param tokenStream token stream
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final DatabaseType databaseType, final TokenStream tokenStream) {
+        Constructor<? extends SQLParser> constructor = PARSER_CONSTRUCTORS.get(databaseType);
+        if (null == constructor) {
+            constructor = getParserConstructor(getSQLParserEntry(databaseType));
+            PARSER_CONSTRUCTORS.put(databaseType, constructor);
+        }
+        return createInstance(constructor, tokenStream);
+    }
+    
+    /**
+     * New instance of token stream which all tokens of SQL are lexed.
+     *
+     * @param databaseType database type
+     * @param sql SQL
+     * @return token stream
+     */
+    public static CommonTokenStream newTokenStream(final DatabaseType databaseType, final String sql) {
+        CommonTokenStream result = new CommonTokenStream(createLexer(databaseType, sql));
+        result.fill();
+        return result;
+    }
+    
+    private static Lexer createLexer(final DatabaseType databaseType, final String sql) {
+        Constructor<? extends Lexer> constructor = LEXER_CONSTRUCTORS.get(databaseType);
+        if (null == constructor) {
+            constructor = getLexerConstructor(getSQLParserEntry(databaseType));
+            LEXER_CONSTRUCTORS.put(databaseType, constructor);
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return createInstance(constructor, CharStreams.fromString(sql));
+    }
+    
+    private static SQLParserEntry getSQLParserEntry(final DatabaseType databaseType) {
+        SQLParserEntry result = PARSER_ENTRIES.get(databaseType);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        return result;
+    }
+    
+    @SneakyThrows
+    private static Constructor<? extends Lexer> getLexerConstructor(final SQLParserEntry parserEntry) {
+        return parserEntry.getLexerClass().getConstructor(CharStream.class);
+    }
+    
+    @SneakyThrows
+    private static Constructor<? extends SQLParser> getParserConstructor(final SQLParserEntry parserEntry) {
+        return parserEntry.getParserClass().getConstructor(TokenStream.class);
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
-        return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
+    private static <T> T createInstance(final Constructor<? extends T> constructor, final Object input) {
+        return constructor.newInstance(input);
     }
 }
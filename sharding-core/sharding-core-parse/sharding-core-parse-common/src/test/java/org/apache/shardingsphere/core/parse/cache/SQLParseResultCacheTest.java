@@ -21,6 +21,8 @@ import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.junit.Test;
 
+import java.util.concurrent.Callable;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
@@ -45,6 +47,45 @@ public final class SQLParseResultCacheTest {
         assertFalse(actual.getSQLStatement("SELECT 2").isPresent());
     }
     
+    @Test
+    public void assertGetSQLStatementWithLoader() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        final SQLStatement selectStatement = new SelectStatement();
+        Callable<SQLStatement> loader = new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                return selectStatement;
+            }
+        };
+        assertThat(actual.getSQLStatement("SELECT 1", loader), is(selectStatement));
+        assertThat(actual.getSQLStatement("SELECT 1", loader), is(selectStatement));
+        assertThat(actual.getStatistics().missCount(), is(1L));
+        assertThat(actual.getStatistics().hitCount(), is(1L));
+        assertThat(actual.getStatistics().loadSuccessCount(), is(1L));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGetSQLStatementWithFailureLoader() {
+        new SQLParseResultCache().getSQLStatement("SELECT 1", new Callable<SQLStatement>() {
+            
+            @Override
+            public SQLStatement call() {
+                throw new IllegalStateException();
+            }
+        });
+    }
+    
+    @Test
+    public void assertEvictWhenExceedMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseCacheOption(1L, 0L));
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertThat(actual.getStatistics().evictionCount(), is(1L));
+    }
+    
     @Test
     public void assertClear() {
         SQLParseResultCache actual = new SQLParseResultCache();
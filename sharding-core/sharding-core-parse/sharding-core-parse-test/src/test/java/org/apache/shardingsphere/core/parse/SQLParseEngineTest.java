@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse;
+
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParseEngineTest {
+    
+    @Test
+    public void assertParseWithoutCacheForDifferentLiterals() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        SelectStatement first = (SelectStatement) parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        SelectStatement second = (SelectStatement) parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1000", false);
+        assertThat(second, not(sameInstance(first)));
+        assertLiteralPredicate(first, 39, 39, 1);
+        assertLiteralPredicate(second, 39, 42, 1000);
+    }
+    
+    @Test
+    public void assertParseWithoutCacheForDifferentStringLiterals() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        parseEngine.parse("INSERT INTO t_order (order_id, status) VALUES (1, 'init')", false);
+        InsertStatement actual = (InsertStatement) parseEngine.parse("INSERT INTO t_order (order_id, status) VALUES (20, 'finished')", false);
+        Iterator<?> values = actual.getValues().iterator().next().getValues().iterator();
+        LiteralExpressionSegment orderId = (LiteralExpressionSegment) values.next();
+        assertThat(orderId.getLiterals(), is((Object) 20));
+        assertThat(orderId.getStartIndex(), is(47));
+        LiteralExpressionSegment status = (LiteralExpressionSegment) values.next();
+        assertThat(status.getLiterals(), is((Object) "finished"));
+        assertThat(status.getStartIndex(), is(51));
+        assertThat(status.getStopIndex(), is(60));
+    }
+    
+    @Test
+    public void assertParseWithoutCacheForLiteralAndParameterMarker() {
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL"));
+        parseEngine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        assertThat(parseEngine.parse("SELECT * FROM t_order WHERE order_id = ?", false).getParametersCount(), is(1));
+    }
+    
+    @Test
+    public void assertParseWithSQLAfterFirstJoinedTable() {
+        String sql = "SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id JOIN t_user r ON o.user_id = r.user_id WHERE o.user_id = 1";
+        assertJoinedTables((SelectStatement) new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")).parse(sql, false));
+        assertJoinedTables((SelectStatement) new SQLParseEngine(DatabaseTypes.getActualDatabaseType("MySQL")).parse(sql, true));
+    }
+    
+    private void assertJoinedTables(final SelectStatement actual) {
+        List<String> actualTableNames = new LinkedList<>();
+        for (TableSegment each : actual.getTables()) {
+            actualTableNames.add(each.getTableName());
+        }
+        assertThat(actualTableNames, is(Arrays.asList("t_order", "t_order_item", "t_user")));
+        assertTrue(actual.getWhere().isPresent());
+    }
+    
+    private void assertLiteralPredicate(final SelectStatement actual, final int startIndex, final int stopIndex, final Object literals) {
+        PredicateSegment predicate = actual.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        LiteralExpressionSegment literalSegment = (LiteralExpressionSegment) ((PredicateCompareRightValue) predicate.getRightValue()).getExpression();
+        assertThat(literalSegment.getStartIndex(), is(startIndex));
+        assertThat(literalSegment.getStopIndex(), is(stopIndex));
+        assertThat(literalSegment.getLiterals(), is(literals));
+    }
+}
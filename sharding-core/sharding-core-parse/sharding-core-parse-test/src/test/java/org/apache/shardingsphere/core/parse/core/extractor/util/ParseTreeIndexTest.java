@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.extractor.util;
+
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.core.parse.core.parser.SQLParserFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ParseTreeIndexTest {
+    
+    private ParserRuleContext rootNode;
+    
+    private ParseTreeIndex parseTreeIndex;
+    
+    @Before
+    public void setUp() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"),
+                "SELECT o.order_id, o.status FROM t_order o WHERE o.user_id = ? AND o.order_id IN (?, ?) AND o.status = (SELECT status FROM t_status WHERE id = ?)");
+        rootNode = (ParserRuleContext) sqlParser.execute().getChild(0);
+        parseTreeIndex = new ParseTreeIndex((Parser) sqlParser, rootNode);
+    }
+    
+    @After
+    public void tearDown() {
+        ParseTreeIndexHolder.clear();
+    }
+    
+    @Test
+    public void assertGetAllDescendantNodes() {
+        for (RuleName each : RuleName.values()) {
+            Collection<ParserRuleContext> expected = ExtractorUtils.getAllDescendantNodes(rootNode, each);
+            assertThat(each.name(), new ArrayList<>(parseTreeIndex.getAllDescendantNodes(rootNode, each)), is((Object) new ArrayList<>(expected)));
+        }
+        assertThat(parseTreeIndex.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER).size(), is(4));
+    }
+    
+    @Test
+    public void assertGetAllDescendantNodesOfSubtree() {
+        ParserRuleContext whereClause = ExtractorUtils.getFirstChildNode(rootNode, RuleName.WHERE_CLAUSE);
+        ParserRuleContext subquery = ExtractorUtils.getFirstChildNode(whereClause, RuleName.SUBQUERY);
+        assertThat(parseTreeIndex.getAllDescendantNodes(subquery, RuleName.PARAMETER_MARKER).size(), is(1));
+        assertThat(parseTreeIndex.getAllDescendantNodes(subquery, RuleName.WHERE_CLAUSE).size(), is(1));
+        assertThat(parseTreeIndex.getAllDescendantNodes(whereClause, RuleName.SELECT_ITEMS).size(), is(1));
+    }
+    
+    @Test
+    public void assertFindFirstChildNode() {
+        for (RuleName each : RuleName.values()) {
+            assertThat(each.name(), parseTreeIndex.findFirstChildNode(rootNode, each), is(ExtractorUtils.findFirstChildNode(rootNode, each)));
+        }
+        ParserRuleContext whereClause = ExtractorUtils.getFirstChildNode(rootNode, RuleName.WHERE_CLAUSE);
+        assertThat(parseTreeIndex.findFirstChildNode(rootNode, RuleName.WHERE_CLAUSE).get(), is(whereClause));
+    }
+    
+    @Test
+    public void assertIsMatchedNode() {
+        ParserRuleContext whereClause = ExtractorUtils.getFirstChildNode(rootNode, RuleName.WHERE_CLAUSE);
+        assertTrue(parseTreeIndex.isMatchedNode(whereClause, RuleName.WHERE_CLAUSE));
+        assertFalse(parseTreeIndex.isMatchedNode(whereClause, RuleName.EXPR));
+    }
+    
+    @Test
+    public void assertExtractorUtilsWithHeldIndex() {
+        ParserRuleContext expected = ExtractorUtils.getFirstChildNode(rootNode, RuleName.WHERE_CLAUSE);
+        ParseTreeIndexHolder.set(parseTreeIndex);
+        assertTrue(parseTreeIndex.contains(rootNode));
+        assertThat(ExtractorUtils.getFirstChildNode(rootNode, RuleName.WHERE_CLAUSE), is(expected));
+        assertThat(ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER).size(), is(4));
+        assertFalse(parseTreeIndex.contains(new ParserRuleContext()));
+        assertThat(ExtractorUtils.getAllDescendantNodes(new ParserRuleContext(), RuleName.PARAMETER_MARKER).size(), is(0));
+    }
+}
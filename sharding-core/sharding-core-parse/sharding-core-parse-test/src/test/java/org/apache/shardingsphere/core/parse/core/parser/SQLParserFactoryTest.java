@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Parser;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    @Test
+    public void assertNewInstance() {
+        SQLParser first = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT 1");
+        SQLParser second = SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT 2");
+        assertThat(second, not(first));
+        assertThat(((Parser) first).getInputStream().getTokenSource().getInputStream().toString(), is("SELECT 1"));
+        assertThat(((Parser) second).getInputStream().getTokenSource().getInputStream().toString(), is("SELECT 2"));
+    }
+    
+    @Test
+    public void assertNewTokenStream() {
+        CommonTokenStream actual = SQLParserFactory.newTokenStream(DatabaseTypes.getActualDatabaseType("MySQL"), "SELECT * FROM t_order");
+        assertThat(actual.size(), is(5));
+        assertThat(actual.get(3).getText(), is("t_order"));
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void assertNewInstanceWithUnsupportedDatabaseType() {
+        SQLParserFactory.newInstance(DatabaseTypes.getActualDatabaseType("H2"), "SELECT 1");
+    }
+}
@@ -23,7 +23,6 @@ import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.integrate.asserts.ShardingSQLStatementAssert;
 import org.apache.shardingsphere.core.parse.integrate.jaxb.ParserResultSetRegistry;
 import org.apache.shardingsphere.core.parse.integrate.jaxb.ShardingParserResultSetRegistry;
-import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 import org.apache.shardingsphere.test.sql.SQLCaseType;
 import org.apache.shardingsphere.test.sql.loader.SQLCasesLoader;
 import org.apache.shardingsphere.test.sql.loader.sharding.ShardingSQLCasesRegistry;
@@ -60,7 +59,8 @@ public final class ShardingParameterizedParsingTest {
     @Test
     public void assertSupportedSQL() {
         String sql = sqlCasesLoader.getSQL(sqlCaseId, sqlCaseType, parserResultSetRegistry.get(sqlCaseId).getParameters());
-        SQLStatement sqlStatement = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType)).parse(sql, false);
-        new ShardingSQLStatementAssert(sqlStatement, sqlCaseId, sqlCaseType).assertSQLStatement();
+        SQLParseEngine parseEngine = new SQLParseEngine(DatabaseTypes.getTrunkDatabaseType(databaseType));
+        new ShardingSQLStatementAssert(parseEngine.parse(sql, false), sqlCaseId, sqlCaseType).assertSQLStatement();
+        new ShardingSQLStatementAssert(parseEngine.parse(sql, false), sqlCaseId, sqlCaseType).assertSQLStatement();
     }
 }
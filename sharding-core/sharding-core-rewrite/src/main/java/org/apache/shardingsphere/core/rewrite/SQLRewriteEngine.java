@@ -43,12 +43,13 @@ import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.encrypt.EncryptTable;
+import org.apache.shardingsphere.core.strategy.encrypt.ShardingEncryptorUtil;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.apache.shardingsphere.spi.encrypt.ShardingQueryAssistedEncryptor;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -64,8 +65,6 @@ public final class SQLRewriteEngine {
     
     private final OptimizedStatement optimizedStatement;
     
-    private final List<SQLToken> sqlTokens;
-    
     private final SQLBuilder sqlBuilder;
     
     private final ParameterBuilder parameterBuilder;
@@ -77,8 +76,7 @@ public final class SQLRewriteEngine {
         processGeneratedKey();
         encryptOptimizedStatement(shardingRule.getEncryptRule());
         parameterBuilder = createParameterBuilder(parameters, sqlRouteResult);
-        sqlTokens = createSQLTokens(isSingleRoute, isQueryWithCipherColumn);
-        sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        sqlBuilder = new SQLBuilder(sql, createSQLTokens(isSingleRoute, isQueryWithCipherColumn));
     }
     
     public SQLRewriteEngine(final EncryptRule encryptRule, final EncryptOptimizedStatement encryptStatement, final String sql, final List<Object> parameters, final boolean isQueryWithCipherColumn) {
@@ -86,16 +84,14 @@ public final class SQLRewriteEngine {
         optimizedStatement = encryptStatement;
         encryptOptimizedStatement(encryptRule);
         parameterBuilder = createParameterBuilder(parameters);
-        sqlTokens = createSQLTokens(false, isQueryWithCipherColumn);
-        sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        sqlBuilder = new SQLBuilder(sql, createSQLTokens(false, isQueryWithCipherColumn));
     }
     
     public SQLRewriteEngine(final MasterSlaveRule masterSlaveRule, final OptimizedStatement optimizedStatement, final String sql) {
         baseRule = masterSlaveRule;
         this.optimizedStatement = optimizedStatement;
         parameterBuilder = createParameterBuilder(Collections.emptyList());
-        sqlTokens = createSQLTokens(false, false);
-        sqlBuilder = new SQLBuilder(sql, sqlTokens);
+        sqlBuilder = new SQLBuilder(sql, createSQLTokens(false, false));
     }
     
     private void processGeneratedKey() {
@@ -128,17 +124,27 @@ public final class SQLRewriteEngine {
             int columnIndex = insertOptimizedStatement.getColumnNames().indexOf(each);
             Optional<ShardingEncryptor> shardingEncryptor = encryptRule.findShardingEncryptor(tableName, each);
             if (shardingEncryptor.isPresent()) {
-                for (InsertValue insertValue : insertOptimizedStatement.getInsertValues()) {
-                    encryptInsertValue(encryptRule, shardingEncryptor.get(), tableName, columnIndex, insertValue, each);
-                }
+                encryptInsertValues(encryptRule, shardingEncryptor.get(), tableName, columnIndex, insertOptimizedStatement.getInsertValues(), each);
             }
         }
     }
     
-    private void encryptInsertValue(final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor, 
-                                    final String tableName, final int columnIndex, final InsertValue insertValue, final String encryptLogicColumnName) {
-        Object originalValue = insertValue.getValue(columnIndex);
-        insertValue.setValue(columnIndex, shardingEncryptor.encrypt(originalValue));
+    private void encryptInsertValues(final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor,
+                                     final String tableName, final int columnIndex, final List<InsertValue> insertValues, final String encryptLogicColumnName) {
+        List<Object> originalValues = new ArrayList<>(insertValues.size());
+        for (InsertValue each : insertValues) {
+            originalValues.add(each.getValue(columnIndex));
+        }
+        Iterator<String> cipherValues = ShardingEncryptorUtil.encrypt(shardingEncryptor, originalValues).iterator();
+        Iterator<Object> originalValuesIterator = originalValues.iterator();
+        for (InsertValue each : insertValues) {
+            encryptInsertValue(encryptRule, shardingEncryptor, tableName, columnIndex, each, encryptLogicColumnName, originalValuesIterator.next(), cipherValues.next());
+        }
+    }
+    
+    private void encryptInsertValue(final EncryptRule encryptRule, final ShardingEncryptor shardingEncryptor, final String tableName, 
+                                    final int columnIndex, final InsertValue insertValue, final String encryptLogicColumnName, final Object originalValue, final String cipherValue) {
+        insertValue.setValue(columnIndex, cipherValue);
         if (shardingEncryptor instanceof ShardingQueryAssistedEncryptor) {
             Optional<String> assistedColumnName = encryptRule.findAssistedQueryColumn(tableName, encryptLogicColumnName);
             Preconditions.checkArgument(assistedColumnName.isPresent(), "Can not find assisted query Column Name");
@@ -164,7 +170,7 @@ public final class SQLRewriteEngine {
     }
     
     private List<SQLToken> createSQLTokens(final boolean isSingleRoute, final boolean isQueryWithCipherColumn) {
-        List<SQLToken> result = new LinkedList<>();
+        List<SQLToken> result = new ArrayList<>();
         result.addAll(new BaseTokenGenerateEngine().generateSQLTokens(optimizedStatement, parameterBuilder, baseRule, isSingleRoute, isQueryWithCipherColumn));
         if (baseRule instanceof ShardingRule) {
             ShardingRule shardingRule = (ShardingRule) baseRule;
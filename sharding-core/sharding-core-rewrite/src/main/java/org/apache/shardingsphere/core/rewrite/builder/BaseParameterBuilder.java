@@ -23,8 +23,11 @@ import org.apache.shardingsphere.core.optimize.sharding.segment.select.paginatio
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSelectOptimizedStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +48,8 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     private final Map<Integer, Object> replacedIndexAndParameters = new HashMap<>();
     
+    private final Map<Integer, Collection<DataNode>> routedIndexAndDataNodes = new HashMap<>();
+    
     public BaseParameterBuilder(final List<Object> parameters) {
         originalParameters.addAll(parameters);
     }
@@ -95,6 +100,36 @@ public final class BaseParameterBuilder implements ParameterBuilder {
     
     @Override
     public List<Object> getParameters(final RoutingUnit routingUnit) {
-        return getParameters();
+        if (routedIndexAndDataNodes.isEmpty()) {
+            return getParameters();
+        }
+        List<Object> result = new LinkedList<>();
+        Iterator<Object> parameters = originalParameters.iterator();
+        for (int i = 0; parameters.hasNext(); i++) {
+            Object parameter = parameters.next();
+            if (addedIndexAndParameters.containsKey(i)) {
+                result.add(addedIndexAndParameters.get(i));
+            }
+            if (isRoutedParameter(i, routingUnit)) {
+                result.add(replacedIndexAndParameters.containsKey(i) ? replacedIndexAndParameters.get(i) : parameter);
+            }
+        }
+        if (addedIndexAndParameters.containsKey(originalParameters.size())) {
+            result.add(addedIndexAndParameters.get(originalParameters.size()));
+        }
+        return result;
+    }
+    
+    private boolean isRoutedParameter(final int index, final RoutingUnit routingUnit) {
+        Collection<DataNode> dataNodes = routedIndexAndDataNodes.get(index);
+        if (null == dataNodes) {
+            return true;
+        }
+        for (DataNode each : dataNodes) {
+            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.core.rewrite.builder;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Alterable;
+import org.apache.shardingsphere.core.rewrite.token.pojo.LogicSQLAware;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.Substitutable;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
@@ -35,12 +35,44 @@ import java.util.Map;
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLBuilder {
     
     private final String logicSQL;
     
-    private final List<SQLToken> sqlTokens;
+    private final SQLToken[] sqlTokens;
+    
+    private final String[] conjunctionLiterals;
+    
+    private int lastSQLLength;
+    
+    public SQLBuilder(final String logicSQL, final List<SQLToken> sqlTokens) {
+        this.logicSQL = logicSQL;
+        this.sqlTokens = sqlTokens.toArray(new SQLToken[sqlTokens.size()]);
+        for (SQLToken each : sqlTokens) {
+            if (each instanceof LogicSQLAware) {
+                ((LogicSQLAware) each).setLogicSQL(logicSQL);
+            }
+        }
+        conjunctionLiterals = createConjunctionLiterals();
+        lastSQLLength = logicSQL.length();
+    }
+    
+    private String[] createConjunctionLiterals() {
+        if (0 == sqlTokens.length) {
+            return new String[0];
+        }
+        String[] result = new String[sqlTokens.length + 1];
+        result[0] = logicSQL.substring(0, sqlTokens[0].getStartIndex());
+        for (int i = 0; i < sqlTokens.length; i++) {
+            int stopIndex = sqlTokens.length - 1 == i ? logicSQL.length() : sqlTokens[i + 1].getStartIndex();
+            result[i + 1] = logicSQL.substring(Math.min(getStartIndex(sqlTokens[i]), logicSQL.length()), stopIndex);
+        }
+        return result;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+    }
     
     /**
      * Convert to SQL.
@@ -59,33 +91,24 @@ public final class SQLBuilder {
      * @return SQL
      */
     public String toSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        if (sqlTokens.isEmpty()) {
+        if (0 == sqlTokens.length) {
             return logicSQL;
         }
         return createLogicSQL(routingUnit, logicAndActualTables);
     }
     
     private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
-        for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+        StringBuilder result = new StringBuilder(lastSQLLength);
+        result.append(conjunctionLiterals[0]);
+        for (int i = 0; i < sqlTokens.length; i++) {
+            result.append(getSQLTokenLiterals(sqlTokens[i], routingUnit, logicAndActualTables));
+            result.append(conjunctionLiterals[i + 1]);
         }
+        lastSQLLength = result.length();
         return result.toString();
     }
     
     private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
         return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
     }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        return sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-    }
 }
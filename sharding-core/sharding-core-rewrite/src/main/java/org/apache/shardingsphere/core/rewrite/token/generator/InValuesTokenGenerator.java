@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.generator;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Multimap;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
+import org.apache.shardingsphere.core.optimize.api.segment.Table;
+import org.apache.shardingsphere.core.optimize.api.segment.Tables;
+import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
+import org.apache.shardingsphere.core.optimize.sharding.segment.condition.generator.ConditionValue;
+import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
+import org.apache.shardingsphere.core.parse.sql.statement.generic.WhereSegmentAvailable;
+import org.apache.shardingsphere.core.rewrite.builder.BaseParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.builder.ParameterBuilder;
+import org.apache.shardingsphere.core.rewrite.token.pojo.InValuesToken;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * In values token generator.
+ * 
+ * <p>Only available for single sharding condition, which IN values are routed one by one during routing.</p>
+ *
+ * @author zhangliang
+ */
+public final class InValuesTokenGenerator implements CollectionSQLTokenGenerator<ShardingRule>, IgnoreForSingleRoute {
+    
+    @Override
+    public Collection<InValuesToken> generateSQLTokens(
+            final OptimizedStatement optimizedStatement, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule, final boolean isQueryWithCipherColumn) {
+        if (!(optimizedStatement instanceof ShardingConditionOptimizedStatement) || !(optimizedStatement.getSQLStatement() instanceof WhereSegmentAvailable)) {
+            return Collections.emptyList();
+        }
+        List<ShardingCondition> shardingConditions = ((ShardingConditionOptimizedStatement) optimizedStatement).getShardingConditions().getConditions();
+        if (1 != shardingConditions.size() || shardingConditions.get(0).getListValueDataNodes().isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<WhereSegment> whereSegment = ((WhereSegmentAvailable) optimizedStatement.getSQLStatement()).getWhere();
+        if (!whereSegment.isPresent() || 1 != whereSegment.get().getAndPredicates().size()) {
+            return Collections.emptyList();
+        }
+        return createInValuesTokens(whereSegment.get().getAndPredicates().iterator().next(), optimizedStatement.getTables(), shardingConditions.get(0), parameterBuilder, shardingRule);
+    }
+    
+    private Collection<InValuesToken> createInValuesTokens(final AndPredicate andPredicate, 
+                                                           final Tables tables, final ShardingCondition shardingCondition, final ParameterBuilder parameterBuilder, final ShardingRule shardingRule) {
+        Collection<InValuesToken> result = new LinkedList<>();
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            if (!(each.getRightValue() instanceof PredicateInRightValue)) {
+                continue;
+            }
+            Optional<String> tableName = findTableName(each.getColumn(), tables);
+            if (!tableName.isPresent()) {
+                continue;
+            }
+            Optional<Entry<Column, Multimap<Comparable<?>, DataNode>>> listValueDataNodes = findListValueDataNodes(shardingCondition, new Column(each.getColumn().getName(), tableName.get()));
+            if (listValueDataNodes.isPresent() 
+                    && !shardingRule.getEncryptRule().findShardingEncryptor(listValueDataNodes.get().getKey().getTableName(), listValueDataNodes.get().getKey().getName()).isPresent()) {
+                result.add(createInValuesToken((PredicateInRightValue) each.getRightValue(), listValueDataNodes.get().getValue(), parameterBuilder));
+            }
+        }
+        return result;
+    }
+    
+    private Optional<String> findTableName(final ColumnSegment columnSegment, final Tables tables) {
+        if (tables.isSingleTable()) {
+            return Optional.of(tables.getSingleTableName());
+        }
+        if (!columnSegment.getOwner().isPresent()) {
+            return Optional.absent();
+        }
+        Optional<Table> table = tables.find(columnSegment.getOwner().get().getTableName());
+        return table.isPresent() ? Optional.of(table.get().getName()) : Optional.<String>absent();
+    }
+    
+    private Optional<Entry<Column, Multimap<Comparable<?>, DataNode>>> findListValueDataNodes(final ShardingCondition shardingCondition, final Column column) {
+        for (Entry<Column, Multimap<Comparable<?>, DataNode>> entry : shardingCondition.getListValueDataNodes().entrySet()) {
+            if (entry.getKey().equals(column)) {
+                return Optional.of(entry);
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private InValuesToken createInValuesToken(final PredicateInRightValue predicateInRightValue, 
+                                              final Multimap<Comparable<?>, DataNode> valueDataNodes, final ParameterBuilder parameterBuilder) {
+        List<ExpressionSegment> values = new ArrayList<>(predicateInRightValue.getSqlExpressions());
+        InValuesToken result = new InValuesToken(values.get(0).getStartIndex(), values.get(values.size() - 1).getStopIndex());
+        for (ExpressionSegment each : values) {
+            Optional<Comparable> value = new ConditionValue(each, parameterBuilder.getOriginalParameters()).getValue();
+            Collection<DataNode> dataNodes = value.isPresent() ? valueDataNodes.get(value.get()) : Collections.<DataNode>emptyList();
+            if (!dataNodes.isEmpty() && each instanceof ParameterMarkerExpressionSegment && parameterBuilder instanceof BaseParameterBuilder) {
+                ((BaseParameterBuilder) parameterBuilder).getRoutedIndexAndDataNodes().put(((ParameterMarkerExpressionSegment) each).getParameterMarkerIndex(), dataNodes);
+            }
+            result.addInValueToken(each, dataNodes);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In values token.
+ * 
+ * <p>Only values which are routed to the routing unit are kept in the IN list of each routing unit, each value is copied from logic SQL as it is.</p>
+ *
+ * @author zhangliang
+ */
+@Getter
+public final class InValuesToken extends SQLToken implements Substitutable, Alterable, LogicSQLAware {
+    
+    private final int stopIndex;
+    
+    @Setter
+    private String logicSQL;
+    
+    private final List<InValueToken> inValueTokens;
+    
+    public InValuesToken(final int startIndex, final int stopIndex) {
+        super(startIndex);
+        this.stopIndex = stopIndex;
+        inValueTokens = new LinkedList<>();
+    }
+    
+    /**
+     * Add in value token.
+     * 
+     * @param value value
+     * @param dataNodes data nodes of value, empty means value is kept for all routing units
+     */
+    public void addInValueToken(final ExpressionSegment value, final Collection<DataNode> dataNodes) {
+        inValueTokens.add(new InValueToken(value, dataNodes));
+    }
+    
+    @Override
+    public String toString(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
+        StringBuilder result = new StringBuilder();
+        for (InValueToken each : inValueTokens) {
+            if (null == routingUnit || each.isRouted(routingUnit)) {
+                result.append(each).append(", ");
+            }
+        }
+        result.delete(result.length() - 2, result.length());
+        return result.toString();
+    }
+    
+    @RequiredArgsConstructor
+    private final class InValueToken {
+        
+        private final ExpressionSegment value;
+        
+        private final Collection<DataNode> dataNodes;
+        
+        private boolean isRouted(final RoutingUnit routingUnit) {
+            if (dataNodes.isEmpty()) {
+                return true;
+            }
+            for (DataNode each : dataNodes) {
+                if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        @Override
+        public String toString() {
+            return logicSQL.substring(value.getStartIndex(), value.getStopIndex() + 1);
+        }
+    }
+}
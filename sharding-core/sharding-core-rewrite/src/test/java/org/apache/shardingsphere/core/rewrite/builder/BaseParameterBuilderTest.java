@@ -24,6 +24,8 @@ import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingSe
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -68,6 +70,21 @@ public final class BaseParameterBuilderTest {
         assertThat(baseParameterBuilder.getParameters(mock(RoutingUnit.class)), is(Arrays.<Object>asList(1, 2, 0L, 6L, 7)));
     }
     
+    @Test
+    public void assertGetParametersWithRoutedIndexAndDataNodes() {
+        baseParameterBuilder.getRoutedIndexAndDataNodes().put(0, Collections.singleton(new DataNode("ds_0", "t_order_0")));
+        baseParameterBuilder.getRoutedIndexAndDataNodes().put(1, Collections.singleton(new DataNode("ds_0", "t_order_1")));
+        assertThat(baseParameterBuilder.getParameters(), is(Arrays.<Object>asList(1, 2, 0L, 6L, 7)));
+        assertThat(baseParameterBuilder.getParameters(createRoutingUnit("t_order_0")), is(Arrays.<Object>asList(1, 0L, 6L, 7)));
+        assertThat(baseParameterBuilder.getParameters(createRoutingUnit("t_order_1")), is(Arrays.<Object>asList(2, 0L, 6L, 7)));
+    }
+    
+    private RoutingUnit createRoutingUnit(final String actualTableName) {
+        RoutingUnit result = new RoutingUnit("ds_0");
+        result.getTableUnits().add(new TableUnit("t_order", actualTableName));
+        return result;
+    }
+    
     @Test
     public void assertGetOriginalParameters() {
         assertThat(baseParameterBuilder.getOriginalParameters(), is(Arrays.<Object>asList(1, 2, 1, 5)));
@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.core.rewrite.builder;
 
 import org.apache.shardingsphere.core.parse.core.constant.QuoteCharacter;
+import org.apache.shardingsphere.core.rewrite.token.pojo.RemoveToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.token.pojo.TableToken;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -50,4 +54,23 @@ public final class SQLBuilderTest {
     public void assertToSQLWithTokens() {
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithMultipleTokens() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT t_order.order_id FROM t_order JOIN t_order_item ON t_order.order_id = t_order_item.order_id", Arrays.<SQLToken>asList(
+                new TableToken(7, 13, "t_order", QuoteCharacter.NONE), new TableToken(29, 35, "t_order", QuoteCharacter.NONE), new TableToken(42, 53, "t_order_item", QuoteCharacter.NONE), 
+                new TableToken(58, 64, "t_order", QuoteCharacter.NONE), new TableToken(77, 88, "t_order_item", QuoteCharacter.NONE)));
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_0");
+        logicAndActualTables.put("t_order_item", "t_order_item_0");
+        String expected = "SELECT t_order_0.order_id FROM t_order_0 JOIN t_order_item_0 ON t_order_0.order_id = t_order_item_0.order_id";
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is(expected));
+        assertThat(sqlBuilder.toSQL(null, logicAndActualTables), is(expected));
+    }
+    
+    @Test
+    public void assertToSQLWithRemoveTokenAtEnd() {
+        SQLBuilder sqlBuilder = new SQLBuilder("SELECT * FROM t_order WHERE order_id > 1", Arrays.<SQLToken>asList(new TableToken(14, 20, "t_order", QuoteCharacter.NONE), new RemoveToken(21, 40)));
+        assertThat(sqlBuilder.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0"));
+    }
 }
@@ -18,7 +18,10 @@
 package org.apache.shardingsphere.core.rewrite.rewriter;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
 import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptConditions;
@@ -57,6 +60,10 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.item.SelectItemsSegm
 import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateInRightValue;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.SchemaSegment;
 import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dal.DALStatement;
@@ -1082,6 +1089,63 @@ public final class ShardingSQLRewriteEngineTest {
         return result;
     }
     
+    @Test
+    public void assertRewriteSelectInWithJoinAndEscapedLiteral() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(createSQLRouteResultForSelectInWithJoin("x"), 
+                "SELECT x.id FROM table_x x JOIN table_w w ON x.id = w.id WHERE x.name IN ('a', 'it''s')", Collections.emptyList());
+        assertThat(rewriteEngine.generateSQL(createRoutingUnit("db0"), Collections.<String, String>emptyMap()).getSql(), 
+                is("SELECT x.id FROM table_x x JOIN table_w w ON x.id = w.id WHERE x.name IN ('a')"));
+        assertThat(rewriteEngine.generateSQL(createRoutingUnit("db1"), Collections.<String, String>emptyMap()).getSql(), 
+                is("SELECT x.id FROM table_x x JOIN table_w w ON x.id = w.id WHERE x.name IN ('it''s')"));
+    }
+    
+    @Test
+    public void assertRewriteSelectInWithJoinAndSameColumnNameOfAnotherTable() {
+        SQLRewriteEngine rewriteEngine = createSQLRewriteEngine(createSQLRouteResultForSelectInWithJoin("w"), 
+                "SELECT x.id FROM table_x x JOIN table_w w ON x.id = w.id WHERE w.name IN ('a', 'it''s')", Collections.emptyList());
+        assertThat(rewriteEngine.generateSQL(createRoutingUnit("db0"), Collections.<String, String>emptyMap()).getSql(), 
+                is("SELECT x.id FROM table_x x JOIN table_w w ON x.id = w.id WHERE w.name IN ('a', 'it''s')"));
+    }
+    
+    private SQLRouteResult createSQLRouteResultForSelectInWithJoin(final String predicateOwner) {
+        SelectStatement selectStatement = new SelectStatement();
+        TableSegment tableX = new TableSegment(17, 23, "table_x");
+        tableX.setAlias("x");
+        selectStatement.getAllSQLSegments().add(tableX);
+        TableSegment tableW = new TableSegment(32, 38, "table_w");
+        tableW.setAlias("w");
+        selectStatement.getAllSQLSegments().add(tableW);
+        ColumnSegment columnSegment = new ColumnSegment(63, 68, "name");
+        columnSegment.setOwner(new TableSegment(63, 63, predicateOwner));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(63, 86, columnSegment, new PredicateInRightValue(
+                Arrays.<ExpressionSegment>asList(new LiteralExpressionSegment(74, 76, "a"), new LiteralExpressionSegment(79, 85, "it's")))));
+        WhereSegment whereSegment = new WhereSegment(57, 86, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        ShardingCondition shardingCondition = new ShardingCondition();
+        Multimap<Comparable<?>, DataNode> valueDataNodes = LinkedHashMultimap.create();
+        valueDataNodes.put("a", new DataNode("db0", "table_x"));
+        valueDataNodes.put("it's", new DataNode("db1", "table_x"));
+        shardingCondition.getListValueDataNodes().put(new Column("name", "table_x"), valueDataNodes);
+        SQLRouteResult result = new SQLRouteResult(new ShardingSelectOptimizedStatement(selectStatement, Collections.singletonList(shardingCondition), Collections.<EncryptCondition>emptyList(),
+                new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false),
+                new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null), new Pagination(null, null, Collections.emptyList())),
+                new EncryptTransparentOptimizedStatement(selectStatement));
+        RoutingResult routingResult = new RoutingResult();
+        routingResult.getRoutingUnits().add(createRoutingUnit("db0"));
+        routingResult.getRoutingUnits().add(createRoutingUnit("db1"));
+        result.setRoutingResult(routingResult);
+        return result;
+    }
+    
+    private RoutingUnit createRoutingUnit(final String dataSourceName) {
+        RoutingUnit result = new RoutingUnit(dataSourceName);
+        result.getTableUnits().add(new TableUnit("table_x", "table_x"));
+        result.getTableUnits().add(new TableUnit("table_w", "table_w"));
+        return result;
+    }
+    
     private SQLRewriteEngine createSQLRewriteEngine(final SQLRouteResult routeResult, final String sql, final List<Object> parameters) {
         return createSQLRewriteEngine(routeResult, sql, parameters, true);
     }
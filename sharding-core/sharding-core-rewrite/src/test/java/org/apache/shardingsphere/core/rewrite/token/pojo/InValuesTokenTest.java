@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.rewrite.token.pojo;
+
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.route.type.TableUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InValuesTokenTest {
+    
+    private InValuesToken inValuesToken;
+    
+    @Before
+    public void setUp() {
+        inValuesToken = new InValuesToken(0, 12);
+        inValuesToken.setLogicSQL("?, 1, 'it''s'");
+        inValuesToken.addInValueToken(new ParameterMarkerExpressionSegment(0, 0, 0), Collections.singleton(new DataNode("ds_0", "t_order_0")));
+        inValuesToken.addInValueToken(new LiteralExpressionSegment(3, 3, 1), Collections.singleton(new DataNode("ds_0", "t_order_1")));
+        inValuesToken.addInValueToken(new LiteralExpressionSegment(6, 12, "it's"), Collections.<DataNode>emptyList());
+    }
+    
+    @Test
+    public void assertToStringWithoutRoutingUnit() {
+        assertThat(inValuesToken.toString(null, Collections.<String, String>emptyMap()), is("?, 1, 'it''s'"));
+    }
+    
+    @Test
+    public void assertToStringWithRoutingUnit() {
+        assertThat(inValuesToken.toString(createRoutingUnit("t_order_0"), Collections.<String, String>emptyMap()), is("?, 'it''s'"));
+        assertThat(inValuesToken.toString(createRoutingUnit("t_order_1"), Collections.<String, String>emptyMap()), is("1, 'it''s'"));
+    }
+    
+    private RoutingUnit createRoutingUnit(final String actualTableName) {
+        RoutingUnit result = new RoutingUnit("ds_0");
+        result.getTableUnits().add(new TableUnit("t_order", actualTableName));
+        return result;
+    }
+}
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.core.route.type.standard;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.core.exception.ShardingException;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
 import org.apache.shardingsphere.core.optimize.api.segment.InsertValue;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.statement.dml.ShardingConditionOptimizedStatement;
@@ -46,6 +49,7 @@ import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -114,9 +118,11 @@ public final class StandardRoutingEngine implements RoutingEngine {
     private Collection<DataNode> routeByShardingConditionsWithCondition(final TableRule tableRule) {
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : optimizedStatement.getShardingConditions().getConditions()) {
-            Collection<DataNode> dataNodes = route0(tableRule, getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each),
-                    getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each));
+            List<RouteValue> databaseShardingValues = getShardingValuesFromShardingConditions(shardingRule.getDatabaseShardingStrategy(tableRule).getShardingColumns(), each);
+            List<RouteValue> tableShardingValues = getShardingValuesFromShardingConditions(shardingRule.getTableShardingStrategy(tableRule).getShardingColumns(), each);
+            Collection<DataNode> dataNodes = route0(tableRule, databaseShardingValues, tableShardingValues);
             reviseInsertValue(each, dataNodes);
+            reviseListRouteValues(tableRule, each, databaseShardingValues, tableShardingValues, dataNodes);
             result.addAll(dataNodes);
         }
         return result;
@@ -193,19 +199,21 @@ public final class StandardRoutingEngine implements RoutingEngine {
     }
     
     private Collection<String> routeDataSources(final TableRule tableRule, final List<RouteValue> databaseShardingValues) {
+        Collection<String> result = doRouteDataSources(tableRule, databaseShardingValues);
+        Preconditions.checkState(!result.isEmpty(), "no database route info");
+        return result;
+    }
+    
+    private Collection<String> doRouteDataSources(final TableRule tableRule, final List<RouteValue> databaseShardingValues) {
         Collection<String> availableTargetDatabases = tableRule.getActualDatasourceNames();
         if (databaseShardingValues.isEmpty()) {
             return availableTargetDatabases;
         }
-        Collection<String> result = new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues));
-        Preconditions.checkState(!result.isEmpty(), "no database route info");
-        return result;
+        return new LinkedHashSet<>(shardingRule.getDatabaseShardingStrategy(tableRule).doSharding(availableTargetDatabases, databaseShardingValues));
     }
     
     private Collection<DataNode> routeTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
-        Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
-        Collection<String> routedTables = new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
-                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+        Collection<String> routedTables = doRouteTables(tableRule, routedDataSource, tableShardingValues);
         Preconditions.checkState(!routedTables.isEmpty(), "no table route info");
         Collection<DataNode> result = new LinkedList<>();
         for (String each : routedTables) {
@@ -214,6 +222,12 @@ public final class StandardRoutingEngine implements RoutingEngine {
         return result;
     }
     
+    private Collection<String> doRouteTables(final TableRule tableRule, final String routedDataSource, final List<RouteValue> tableShardingValues) {
+        Collection<String> availableTargetTables = tableRule.getActualTableNames(routedDataSource);
+        return new LinkedHashSet<>(tableShardingValues.isEmpty() ? availableTargetTables
+                : shardingRule.getTableShardingStrategy(tableRule).doSharding(availableTargetTables, tableShardingValues));
+    }
+    
     private void reviseInsertValue(final ShardingCondition shardingCondition, final Collection<DataNode> dataNodes) {
         if (optimizedStatement instanceof ShardingInsertOptimizedStatement) {
             for (InsertValue each : ((ShardingInsertOptimizedStatement) optimizedStatement).getInsertValues()) {
@@ -234,4 +248,60 @@ public final class StandardRoutingEngine implements RoutingEngine {
         }
         return true;
     }
+    
+    private void reviseListRouteValues(final TableRule tableRule, final ShardingCondition shardingCondition, 
+                                       final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues, final Collection<DataNode> dataNodes) {
+        if (optimizedStatement instanceof ShardingInsertOptimizedStatement || 1 != optimizedStatement.getShardingConditions().getConditions().size() || dataNodes.size() < 2) {
+            return;
+        }
+        for (RouteValue each : shardingCondition.getRouteValues()) {
+            if (each instanceof ListRouteValue && ((ListRouteValue<?>) each).getValues().size() > 1 && (databaseShardingValues.contains(each) || tableShardingValues.contains(each))) {
+                Optional<Multimap<Comparable<?>, DataNode>> valueDataNodes = routeListRouteValue(tableRule, (ListRouteValue<?>) each, databaseShardingValues, tableShardingValues);
+                if (valueDataNodes.isPresent() && new HashSet<>(valueDataNodes.get().values()).containsAll(dataNodes)) {
+                    shardingCondition.getListValueDataNodes().put(new Column(each.getColumnName(), each.getTableName()), valueDataNodes.get());
+                }
+            }
+        }
+    }
+    
+    private Optional<Multimap<Comparable<?>, DataNode>> routeListRouteValue(
+            final TableRule tableRule, final ListRouteValue<?> listRouteValue, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        Multimap<Comparable<?>, DataNode> result = LinkedHashMultimap.create();
+        for (Comparable<?> each : listRouteValue.getValues()) {
+            RouteValue singleRouteValue = new ListRouteValue<>(listRouteValue.getColumnName(), listRouteValue.getTableName(), Collections.<Comparable<?>>singletonList(each));
+            Optional<Collection<DataNode>> dataNodes = findRoutedDataNodes(
+                    tableRule, replaceRouteValue(databaseShardingValues, listRouteValue, singleRouteValue), replaceRouteValue(tableShardingValues, listRouteValue, singleRouteValue));
+            if (!dataNodes.isPresent()) {
+                return Optional.absent();
+            }
+            result.putAll(each, dataNodes.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Collection<DataNode>> findRoutedDataNodes(final TableRule tableRule, final List<RouteValue> databaseShardingValues, final List<RouteValue> tableShardingValues) {
+        Collection<String> routedDataSources = doRouteDataSources(tableRule, databaseShardingValues);
+        if (routedDataSources.isEmpty()) {
+            return Optional.absent();
+        }
+        Collection<DataNode> result = new LinkedList<>();
+        for (String each : routedDataSources) {
+            Collection<String> routedTables = doRouteTables(tableRule, each, tableShardingValues);
+            if (routedTables.isEmpty()) {
+                return Optional.absent();
+            }
+            for (String routedTable : routedTables) {
+                result.add(new DataNode(each, routedTable));
+            }
+        }
+        return Optional.of(result);
+    }
+    
+    private List<RouteValue> replaceRouteValue(final List<RouteValue> routeValues, final RouteValue originalRouteValue, final RouteValue replacedRouteValue) {
+        List<RouteValue> result = new ArrayList<>(routeValues.size());
+        for (RouteValue each : routeValues) {
+            result.add(originalRouteValue == each ? replacedRouteValue : each);
+        }
+        return result;
+    }
 }
@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core.route.type.standard;
 
+import com.google.common.collect.Multimap;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.optimize.api.segment.Column;
 import org.apache.shardingsphere.core.optimize.encrypt.condition.EncryptCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.condition.ShardingCondition;
 import org.apache.shardingsphere.core.optimize.sharding.segment.select.groupby.GroupBy;
@@ -33,6 +35,7 @@ import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.type.RoutingResult;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
@@ -41,32 +44,41 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class StandardRoutingEngineTest {
     
+    private ShardingCondition shardingCondition;
+    
     private StandardRoutingEngine standardRoutingEngine;
     
     @Before
     public void setEngineContext() {
+        standardRoutingEngine = createStandardRoutingEngine(Collections.singleton(1L));
+    }
+    
+    private StandardRoutingEngine createStandardRoutingEngine(final Collection<Long> orderIds) {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         shardingRuleConfig.getTableRuleConfigs().add(new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
         shardingRuleConfig.setDefaultDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", "ds_${user_id % 2}"));
         shardingRuleConfig.setDefaultTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", "t_order_${order_id % 2}"));
         List<ShardingCondition> shardingConditions = new ArrayList<>();
         RouteValue shardingValue1 = new ListRouteValue<>("user_id", "t_order", Collections.singleton(1L));
-        RouteValue shardingValue2 = new ListRouteValue<>("order_id", "t_order", Collections.singleton(1L));
-        ShardingCondition shardingCondition = new ShardingCondition();
+        RouteValue shardingValue2 = new ListRouteValue<>("order_id", "t_order", orderIds);
+        shardingCondition = new ShardingCondition();
         shardingCondition.getRouteValues().add(shardingValue1);
         shardingCondition.getRouteValues().add(shardingValue2);
         shardingConditions.add(shardingCondition);
         ShardingRule shardingRule = new ShardingRule(shardingRuleConfig, Arrays.asList("ds_0", "ds_1"));
-        standardRoutingEngine = new StandardRoutingEngine(
+        return new StandardRoutingEngine(
                 shardingRule, "t_order", new ShardingSelectOptimizedStatement(new SelectStatement(), shardingConditions, Collections.<EncryptCondition>emptyList(), 
                 new GroupBy(Collections.<OrderByItem>emptyList(), 0), new OrderBy(Collections.<OrderByItem>emptyList(), false), 
                 new SelectItems(0, 0, false, Collections.<SelectItem>emptyList(), Collections.<TableSegment>emptyList(), null),
@@ -83,5 +95,18 @@ public final class StandardRoutingEngineTest {
         assertThat(tableUnitList.get(0).getTableUnits().size(), is(1));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getActualTableName(), is("t_order_1"));
         assertThat(tableUnitList.get(0).getTableUnits().get(0).getLogicTableName(), is("t_order"));
+        assertTrue(shardingCondition.getListValueDataNodes().isEmpty());
+    }
+    
+    @Test
+    public void assertRouteWithMultipleListValues() {
+        RoutingResult routingResult = createStandardRoutingEngine(Arrays.asList(1L, 2L, 3L)).route();
+        assertThat(routingResult.getRoutingUnits().size(), is(2));
+        Multimap<Comparable<?>, DataNode> actual = shardingCondition.getListValueDataNodes().get(new Column("order_id", "t_order"));
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(1L), is((Collection<DataNode>) Collections.singleton(new DataNode("ds_1", "t_order_1"))));
+        assertThat(actual.get(2L), is((Collection<DataNode>) Collections.singleton(new DataNode("ds_1", "t_order_0"))));
+        assertThat(actual.get(3L), is((Collection<DataNode>) Collections.singleton(new DataNode("ds_1", "t_order_1"))));
+        assertFalse(shardingCondition.getListValueDataNodes().containsKey(new Column("user_id", "t_order")));
     }
 }
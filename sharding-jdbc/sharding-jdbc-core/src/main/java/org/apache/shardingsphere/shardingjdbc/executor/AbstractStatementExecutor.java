@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingjdbc.executor;
 
 import com.google.common.base.Function;
+import com.google.common.base.Functions;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import lombok.AccessLevel;
@@ -25,12 +26,17 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.CompletionOrderedExecuteResults;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CompletionOrderedQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrefetchStreamQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -41,6 +47,7 @@ import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateIndexStateme
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.CreateTableStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropIndexStatement;
 import org.apache.shardingsphere.core.parse.sql.statement.ddl.DropTableStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.metadata.JDBCTableMetaDataConnectionManager;
@@ -50,6 +57,7 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -96,6 +104,8 @@ public class AbstractStatementExecutor {
     @Getter
     private final List<ResultSet> resultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<PrefetchStreamQueryResult> prefetchQueryResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<ShardingExecuteGroup<StatementExecuteUnit>> executeGroups = new LinkedList<>();
     
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
@@ -136,6 +146,39 @@ public class AbstractStatementExecutor {
         return result;
     }
     
+    @SuppressWarnings("unchecked")
+    protected final List<QueryResult> executeQueryCallback(final SQLExecuteCallback<QueryResult> executeCallback) throws SQLException {
+        long timeoutMilliseconds = connection.getRuntimeContext().getProps().<Long>getValue(ShardingPropertiesConstant.QUERY_EXECUTE_TIMEOUT_MILLISECONDS);
+        CompletionOrderedExecuteResults<StatementExecuteUnit, QueryResult> executeResults = sqlExecuteTemplate.executeGroupInCompletionOrder(
+                (Collection) executeGroups, null, executeCallback, timeoutMilliseconds);
+        int executeUnitsSize = getExecuteUnitsSize();
+        List<QueryResult> result = new ArrayList<>(executeUnitsSize);
+        for (int i = 0; i < executeUnitsSize; i++) {
+            result.add(new CompletionOrderedQueryResult<>(executeResults, Functions.<QueryResult>identity()));
+        }
+        refreshMetaDataIfNeeded(connection.getRuntimeContext(), optimizedStatement);
+        return result;
+    }
+    
+    private int getExecuteUnitsSize() {
+        int result = 0;
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : executeGroups) {
+            result += each.getInputs().size();
+        }
+        return result;
+    }
+    
+    protected final QueryResult getStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        ShardingRule shardingRule = connection.getRuntimeContext().getRule();
+        ShardingProperties properties = connection.getRuntimeContext().getProps();
+        if (0 >= properties.<Integer>getValue(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE)) {
+            return new StreamQueryResult(resultSet, shardingRule, properties);
+        }
+        PrefetchStreamQueryResult result = new PrefetchStreamQueryResult(resultSet, shardingRule, properties, connection.getRuntimeContext().getExecuteEngine());
+        prefetchQueryResults.add(result);
+        return result;
+    }
+    
     protected final boolean isAccumulate() {
         return !connection.getRuntimeContext().getRule().isAllBroadcastTables(optimizedStatement.getTables().getTableNames());
     }
@@ -146,6 +189,7 @@ public class AbstractStatementExecutor {
      * @throws SQLException sql exception
      */
     public void clear() throws SQLException {
+        closePrefetchQueryResults();
         clearStatements();
         statements.clear();
         parameterSets.clear();
@@ -154,6 +198,13 @@ public class AbstractStatementExecutor {
         executeGroups.clear();
     }
     
+    private void closePrefetchQueryResults() {
+        for (PrefetchStreamQueryResult each : prefetchQueryResults) {
+            each.close();
+        }
+        prefetchQueryResults.clear();
+    }
+    
     private void clearStatements() throws SQLException {
         for (Statement each : getStatements()) {
             each.close();
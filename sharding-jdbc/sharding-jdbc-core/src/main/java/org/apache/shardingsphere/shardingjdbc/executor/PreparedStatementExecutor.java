@@ -25,7 +25,6 @@ import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
-import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareCallback;
 import org.apache.shardingsphere.core.route.RouteUnit;
@@ -108,7 +107,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
                 return getQueryResult(statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
+        return executeQueryCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
@@ -117,7 +116,7 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         ShardingRule shardingRule = getConnection().getRuntimeContext().getRule();
         ShardingProperties properties = getConnection().getRuntimeContext().getProps();
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet, shardingRule, properties) 
+        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? getStreamQueryResult(resultSet) 
                 : new MemoryQueryResult(resultSet, shardingRule, properties);
     }
     
@@ -72,7 +72,12 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final ResultSetMetaData getMetaData() throws SQLException {
-        return new ShardingResultSetMetaData(resultSets.get(0).getMetaData(), getShardingRule(), sqlRouteResult.getShardingStatement(), logicAndActualColumns);
+        ResultSet resultSet = resultSets.get(0);
+        ResultSetMetaData resultSetMetaData;
+        synchronized (resultSet) {
+            resultSetMetaData = resultSet.getMetaData();
+        }
+        return new ShardingResultSetMetaData(resultSetMetaData, getShardingRule(), sqlRouteResult.getShardingStatement(), logicAndActualColumns);
     }
     
     private Map<String, String> createLogicAndActualColumns() {
@@ -109,11 +114,14 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     
     @Override
     public final int findColumn(final String columnLabel) throws SQLException {
-        return resultSets.get(0).findColumn(getActualColumnLabel(columnLabel));
+        ResultSet resultSet = resultSets.get(0);
+        synchronized (resultSet) {
+            return resultSet.findColumn(getActualColumnLabel(columnLabel));
+        }
     }
     
     @Override
-    public final void close() throws SQLException {
+    public void close() throws SQLException {
         closed = true;
         forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
             
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
+import org.apache.shardingsphere.core.parse.cache.SQLParseCacheOption;
 import org.apache.shardingsphere.core.rule.BaseRule;
 import org.apache.shardingsphere.core.util.ConfigurationLogger;
 import org.apache.shardingsphere.spi.database.DatabaseType;
@@ -53,8 +54,11 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.rule = rule;
         this.props = new ShardingProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType);
+        executeEngine = new ShardingExecuteEngine(this.props.<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE), this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE),
+                this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_SIZE_PER_DATASOURCE), this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_SIZE_PER_DATASOURCE),
+                this.props.<String>getValue(ShardingPropertiesConstant.EXECUTOR_WEIGHTS_PER_DATASOURCE));
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType, new SQLParseCacheOption(
+                this.props.<Long>getValue(ShardingPropertiesConstant.PARSE_CACHE_MAXIMUM_SIZE), this.props.<Long>getValue(ShardingPropertiesConstant.PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS)));
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
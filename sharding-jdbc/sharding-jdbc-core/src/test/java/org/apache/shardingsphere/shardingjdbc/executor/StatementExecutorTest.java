@@ -124,7 +124,7 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         SQLException exp = new SQLException();
         when(statement.executeQuery(DQL_SQL)).thenThrow(exp);
         setExecuteGroups(Collections.singletonList(statement), true);
-        assertThat(actual.executeQuery(), is(Collections.singletonList((QueryResult) null)));
+        assertThat(actual.executeQuery().size(), is(1));
         verify(statement).executeQuery(DQL_SQL);
     }
     
@@ -137,7 +137,7 @@ public final class StatementExecutorTest extends AbstractBaseExecutorTest {
         when(statement2.executeQuery(DQL_SQL)).thenThrow(exp);
         setExecuteGroups(Arrays.asList(statement1, statement2), true);
         List<QueryResult> actualResultSets = actual.executeQuery();
-        assertThat(actualResultSets, is(Arrays.asList((QueryResult) null, null)));
+        assertThat(actualResultSets.size(), is(2));
         verify(statement1).executeQuery(DQL_SQL);
         verify(statement2).executeQuery(DQL_SQL);
     }
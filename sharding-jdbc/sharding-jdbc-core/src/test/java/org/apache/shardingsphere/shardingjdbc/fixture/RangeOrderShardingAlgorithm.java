@@ -27,6 +27,9 @@ public final class RangeOrderShardingAlgorithm implements RangeShardingAlgorithm
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Integer> shardingValue) {
+        if (!shardingValue.getValueRange().hasLowerBound() || !shardingValue.getValueRange().hasUpperBound()) {
+            return new HashSet<>(availableTargetNames);
+        }
         Collection<String> result = new HashSet<>(2);
         for (int i = shardingValue.getValueRange().lowerEndpoint(); i <= shardingValue.getValueRange().upperEndpoint(); i++) {
             for (String each : availableTargetNames) {
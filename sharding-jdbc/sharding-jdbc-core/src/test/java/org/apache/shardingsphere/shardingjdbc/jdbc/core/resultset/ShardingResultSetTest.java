@@ -19,7 +19,12 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrefetchStreamQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
+import org.apache.shardingsphere.core.merge.TransparentMergeEngine;
 import org.apache.shardingsphere.core.optimize.api.segment.Tables;
 import org.apache.shardingsphere.core.optimize.sharding.statement.ShardingOptimizedStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
@@ -31,6 +36,8 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.statement.ShardingStatem
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -46,10 +53,14 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -58,7 +69,9 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class ShardingResultSetTest {
@@ -108,6 +121,77 @@ public final class ShardingResultSetTest {
         return statement;
     }
     
+    @Test
+    public void assertCloseWhilePrefetchInFlight() throws SQLException, InterruptedException {
+        final CountDownLatch fetchingLatch = new CountDownLatch(1);
+        final CountDownLatch releaseLatch = new CountDownLatch(1);
+        final AtomicBoolean fetching = new AtomicBoolean();
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final AtomicBoolean closedWhileFetching = new AtomicBoolean();
+        ResultSet resultSet = getResultSets().get(0);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData().getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("test");
+        when(resultSet.next()).thenAnswer(new Answer<Boolean>() {
+            
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                fetching.set(true);
+                fetchingLatch.countDown();
+                try {
+                    releaseLatch.await();
+                } catch (final InterruptedException ex) {
+                    interrupted.set(true);
+                }
+                fetching.set(false);
+                return true;
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                closedWhileFetching.set(fetching.get());
+                return null;
+            }
+        }).when(resultSet).close();
+        ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(1);
+        try {
+            QueryResult queryResult = new PrefetchStreamQueryResult(resultSet, getPrefetchProperties(), executeEngine);
+            MergedResult mergedResult = new TransparentMergeEngine(Collections.singletonList(queryResult)).merge();
+            ShardingResultSet actual = new ShardingResultSet(Collections.singletonList(resultSet), mergedResult, getShardingStatement(), createSQLRouteResult());
+            assertTrue(fetchingLatch.await(1L, TimeUnit.SECONDS));
+            releaseLater(releaseLatch);
+            actual.close();
+            verify(resultSet).close();
+            assertFalse(closedWhileFetching.get());
+            assertFalse(interrupted.get());
+        } finally {
+            executeEngine.close();
+        }
+    }
+    
+    private ShardingProperties getPrefetchProperties() {
+        Properties result = new Properties();
+        result.setProperty(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE.getKey(), "4");
+        result.setProperty(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_DEPTH.getKey(), "2");
+        return new ShardingProperties(result);
+    }
+    
+    private void releaseLater(final CountDownLatch releaseLatch) {
+        new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(200L);
+                } catch (final InterruptedException ignored) {
+                }
+                releaseLatch.countDown();
+            }
+        }).start();
+    }
+    
     @Test
     public void assertNext() throws SQLException {
         when(mergeResultSet.next()).thenReturn(true);
@@ -43,6 +43,7 @@ import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
@@ -127,8 +128,10 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     }
     
     private void setMergedResult(final SQLRouteResult routeResult) throws SQLException {
-        mergedResult = MergeEngineFactory.newInstance(databaseType,
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults()).merge();
+        mergedResult = MergeEngineFactory.newInstance(databaseType, logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), 
+                ((QueryResponse) response).getQueryResults(), ShardingProxyContext.getInstance().getShardingProperties(), 
+                !executeEngine.getBackendConnection().getStateHandler().isInTransaction()).merge();
+        executeEngine.getBackendConnection().add(mergedResult);
     }
     
     private void resetColumnLabelForShowTablesMergedResult() {
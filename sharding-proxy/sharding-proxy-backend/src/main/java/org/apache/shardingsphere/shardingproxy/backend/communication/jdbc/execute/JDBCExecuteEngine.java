@@ -17,14 +17,19 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute;
 
+import com.google.common.base.Function;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.CompletionOrderedExecuteResults;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.core.execute.sql.execute.result.CompletionOrderedQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxyJDBCExecutePrepareCallback;
@@ -41,6 +46,7 @@ import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -66,7 +72,7 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         int maxConnectionsSizePerQuery = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, backendConnection.getSchemaName());
         sqlExecuteTemplate = new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine(), backendConnection.isSerialExecute());
     }
     
@@ -77,14 +83,54 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups = sqlExecutePrepareTemplate.getExecuteUnitGroups(
                 routeResult.getRouteUnits(), new ProxyJDBCExecutePrepareCallback(backendConnection, jdbcExecutorWrapper, isReturnGeneratedKeys));
-        Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true), 
-                new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false));
+        ProxySQLExecuteCallback firstCallback = new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, true);
+        ProxySQLExecuteCallback callback = new ProxySQLExecuteCallback(backendConnection, jdbcExecutorWrapper, isExceptionThrown, isReturnGeneratedKeys, false);
+        if (routeResult.getShardingStatement().getSQLStatement() instanceof SelectStatement) {
+            return executeQuery(sqlExecuteGroups, firstCallback, callback);
+        }
+        Collection<ExecuteResponse> executeResponses = sqlExecuteTemplate.executeGroup((Collection) sqlExecuteGroups, firstCallback, callback);
         ExecuteResponse executeResponse = executeResponses.iterator().next();
         return executeResponse instanceof ExecuteQueryResponse
                 ? getExecuteQueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders(), executeResponses) : new UpdateResponse(executeResponses);
     }
     
+    @SuppressWarnings("unchecked")
+    private BackendResponse executeQuery(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups, 
+                                         final ProxySQLExecuteCallback firstCallback, final ProxySQLExecuteCallback callback) throws SQLException {
+        CompletionOrderedExecuteResults<StatementExecuteUnit, ExecuteResponse> executeResults = sqlExecuteTemplate.executeGroupInCompletionOrder((Collection) sqlExecuteGroups, 
+                firstCallback, callback, ShardingProxyContext.getInstance().getShardingProperties().<Long>getValue(ShardingPropertiesConstant.QUERY_EXECUTE_TIMEOUT_MILLISECONDS));
+        ExecuteResponse executeResponse = executeResults.next();
+        if (!(executeResponse instanceof ExecuteQueryResponse)) {
+            Collection<ExecuteResponse> executeResponses = new LinkedList<>();
+            executeResponses.add(executeResponse);
+            while (executeResults.hasNext()) {
+                executeResponses.add(executeResults.next());
+            }
+            return new UpdateResponse(executeResponses);
+        }
+        QueryResponse result = new QueryResponse(((ExecuteQueryResponse) executeResponse).getQueryHeaders());
+        result.getQueryResults().add(((ExecuteQueryResponse) executeResponse).getQueryResult());
+        Function<ExecuteResponse, QueryResult> queryResultFunction = new Function<ExecuteResponse, QueryResult>() {
+            
+            @Override
+            public QueryResult apply(final ExecuteResponse input) {
+                return ((ExecuteQueryResponse) input).getQueryResult();
+            }
+        };
+        for (int i = 1; i < getExecuteUnitsSize(sqlExecuteGroups); i++) {
+            result.getQueryResults().add(new CompletionOrderedQueryResult<>(executeResults, queryResultFunction));
+        }
+        return result;
+    }
+    
+    private int getExecuteUnitsSize(final Collection<ShardingExecuteGroup<StatementExecuteUnit>> sqlExecuteGroups) {
+        int result = 0;
+        for (ShardingExecuteGroup<StatementExecuteUnit> each : sqlExecuteGroups) {
+            result += each.getInputs().size();
+        }
+        return result;
+    }
+    
     private BackendResponse getExecuteQueryResponse(final List<QueryHeader> queryHeaders, final Collection<ExecuteResponse> executeResponses) {
         QueryResponse result = new QueryResponse(queryHeaders);
         for (ExecuteResponse each : executeResponses) {
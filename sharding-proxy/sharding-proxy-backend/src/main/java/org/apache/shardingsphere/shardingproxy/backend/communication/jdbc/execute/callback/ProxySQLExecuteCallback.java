@@ -19,8 +19,11 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execu
 
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.core.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.core.execute.sql.execute.result.PrefetchStreamQueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.core.route.RouteUnit;
@@ -31,6 +34,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execut
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
@@ -100,20 +104,44 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
     }
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
+        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? createStreamQueryResult(resultSet) : createMemoryQueryResult(resultSet);
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        LogicSchema logicSchema = backendConnection.getLogicSchema();
+        ShardingProperties properties = ShardingProxyContext.getInstance().getShardingProperties();
+        if (0 < properties.<Integer>getValue(ShardingPropertiesConstant.MEMORY_STRICTLY_PREFETCH_BUFFER_SIZE)) {
+            ShardingExecuteEngine executeEngine = BackendExecutorContext.getInstance().getExecuteEngine();
+            if (logicSchema instanceof ShardingSchema) {
+                return new PrefetchStreamQueryResult(resultSet, logicSchema.getShardingRule(), properties, executeEngine);
+            }
+            if (logicSchema instanceof EncryptSchema) {
+                return new PrefetchStreamQueryResult(resultSet, ((EncryptSchema) logicSchema).getEncryptRule(), properties, executeEngine);
+            }
+            return new PrefetchStreamQueryResult(resultSet, properties, executeEngine);
+        }
+        if (logicSchema instanceof ShardingSchema) {
+            return new StreamQueryResult(resultSet, logicSchema.getShardingRule(), properties);
+        }
+        if (logicSchema instanceof EncryptSchema) {
+            return new StreamQueryResult(resultSet, ((EncryptSchema) logicSchema).getEncryptRule(), properties);
+        }
+        return new StreamQueryResult(resultSet);
+    }
+    
+    private QueryResult createMemoryQueryResult(final ResultSet resultSet) throws SQLException {
         LogicSchema logicSchema = backendConnection.getLogicSchema();
         if (logicSchema instanceof ShardingSchema) {
             ShardingRule shardingRule = logicSchema.getShardingRule();
             ShardingProperties properties = ShardingProxyContext.getInstance().getShardingProperties();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY 
-                    ? new StreamQueryResult(resultSet, shardingRule, properties) : new MemoryQueryResult(resultSet, shardingRule, properties);
+            return new MemoryQueryResult(resultSet, shardingRule, properties);
         }
         if (logicSchema instanceof EncryptSchema) {
             EncryptRule encryptRule = ((EncryptSchema) logicSchema).getEncryptRule();
             ShardingProperties properties = ShardingProxyContext.getInstance().getShardingProperties();
-            return connectionMode == ConnectionMode.MEMORY_STRICTLY 
-                    ? new StreamQueryResult(resultSet, encryptRule, properties) : new MemoryQueryResult(resultSet, encryptRule, properties);
+            return new MemoryQueryResult(resultSet, encryptRule, properties);
         }
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return new MemoryQueryResult(resultSet);
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -36,7 +36,11 @@ public final class BackendExecutorContext {
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
     private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(
-            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
+            ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE),
+            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE),
+            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_CONCURRENCY_SIZE_PER_DATASOURCE),
+            ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_MAX_QUEUE_SIZE_PER_DATASOURCE),
+            ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.EXECUTOR_WEIGHTS_PER_DATASOURCE));
     
     /**
      * Get executor context instance.
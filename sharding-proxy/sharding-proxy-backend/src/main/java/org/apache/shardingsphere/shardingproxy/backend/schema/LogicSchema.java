@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.optimize.api.statement.OptimizedStatement;
 import org.apache.shardingsphere.core.parse.SQLParseEngine;
 import org.apache.shardingsphere.core.parse.SQLParseEngineFactory;
+import org.apache.shardingsphere.core.parse.cache.SQLParseCacheOption;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
@@ -57,11 +58,17 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(LogicSchemas.getInstance().getDatabaseType());
+        parseEngine = SQLParseEngineFactory.getSQLParseEngine(LogicSchemas.getInstance().getDatabaseType(), getParseCacheOption());
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
+    private SQLParseCacheOption getParseCacheOption() {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        return new SQLParseCacheOption(shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSE_CACHE_MAXIMUM_SIZE),
+                shardingProperties.<Long>getValue(ShardingPropertiesConstant.PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS));
+    }
+    
     /**
      * Get sharding meta data.
      * 
@@ -99,7 +106,7 @@ public abstract class LogicSchema {
         return new TableMetaDataInitializer(
                 dataSourceMetas, BackendExecutorContext.getInstance().getExecuteEngine(), new ProxyTableMetaDataConnectionManager(getBackendDataSource()),
                 shardingProperties.<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY),
-                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED));
+                shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED), name);
     }
     
     /**
@@ -114,6 +121,7 @@ public abstract class LogicSchema {
             return;
         }
         backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
+        BackendExecutorContext.getInstance().getExecuteEngine().retainBulkheads(name, dataSourceChangedEvent.getDataSourceConfigurations().keySet());
     }
     
     /**
@@ -18,9 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
 import com.google.common.base.Optional;
-import org.apache.shardingsphere.core.merge.MergedResult;
-import org.apache.shardingsphere.core.merge.dal.show.ShowShardingCTLMergedResult;
+import org.apache.shardingsphere.core.execute.bulkhead.DataSourceBulkhead;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
@@ -30,15 +30,19 @@ import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendH
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
 
-import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Sharding CTL show backend handler.
  *
  * @author zhaojun
+ * @author zhangliang
  */
 public final class ShardingCTLShowBackendHandler implements TextProtocolBackendHandler {
     
@@ -46,7 +50,14 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
     
     private final BackendConnection backendConnection;
     
-    private MergedResult mergedResult;
+    private static final String[] BULKHEAD_COLUMN_NAMES = {
+        "SCHEMA_NAME", "DATA_SOURCE_NAME", "WEIGHT", "QUEUE_DEPTH", "RUNNING_COUNT", "EXECUTED_COUNT", "REJECTED_COUNT", "AVERAGE_WAIT_NANOS", "MAX_WAIT_NANOS"};
+    
+    private List<Integer> columnTypes;
+    
+    private Iterator<List<Object>> rows;
+    
+    private List<Object> currentRow;
     
     public ShardingCTLShowBackendHandler(final String sql, final BackendConnection backendConnection) {
         this.sql = sql.toUpperCase().trim();
@@ -64,23 +75,52 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "BULKHEADS":
+                return createBulkheadsResponsePackets();
             default:
                 return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
         }
     }
     
     private BackendResponse createResponsePackets(final String columnName, final Object... values) {
-        mergedResult = new ShowShardingCTLMergedResult(Arrays.asList(values));
-        return new QueryResponse(Collections.singletonList(new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0)));
+        List<List<Object>> rows = new ArrayList<>(values.length);
+        for (Object each : values) {
+            rows.add(Collections.singletonList(each));
+        }
+        return createResponsePackets(new String[] {columnName}, rows);
+    }
+    
+    private BackendResponse createBulkheadsResponsePackets() {
+        Collection<DataSourceBulkhead> bulkheads = BackendExecutorContext.getInstance().getExecuteEngine().getBulkheads();
+        List<List<Object>> rows = new ArrayList<>(bulkheads.size());
+        for (DataSourceBulkhead each : bulkheads) {
+            rows.add(Arrays.<Object>asList(each.getSchemaName(), each.getDataSourceName(), each.getWeight(), each.getQueueDepth(), each.getRunningCount(), 
+                    each.getExecutedCount(), each.getRejectedCount(), each.getAverageWaitNanos(), each.getMaxWaitNanos()));
+        }
+        return createResponsePackets(BULKHEAD_COLUMN_NAMES, rows);
+    }
+    
+    private BackendResponse createResponsePackets(final String[] columnNames, final List<List<Object>> rows) {
+        List<QueryHeader> queryHeaders = new ArrayList<>(columnNames.length);
+        for (String each : columnNames) {
+            queryHeaders.add(new QueryHeader("", "", each, each, 100, Types.VARCHAR, 0));
+        }
+        columnTypes = Collections.nCopies(columnNames.length, Types.VARCHAR);
+        this.rows = rows.iterator();
+        return new QueryResponse(queryHeaders);
     }
     
     @Override
-    public boolean next() throws SQLException {
-        return null != mergedResult && mergedResult.next();
+    public boolean next() {
+        if (null == rows || !rows.hasNext()) {
+            return false;
+        }
+        currentRow = rows.next();
+        return true;
     }
     
     @Override
-    public QueryData getQueryData() throws SQLException {
-        return new QueryData(Collections.singletonList(Types.VARCHAR), Collections.singletonList(mergedResult.getValue(1, Object.class)));
+    public QueryData getQueryData() {
+        return new QueryData(columnTypes, currentRow);
     }
 }
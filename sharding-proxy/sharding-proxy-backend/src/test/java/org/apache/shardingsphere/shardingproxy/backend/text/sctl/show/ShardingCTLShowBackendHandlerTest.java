@@ -32,6 +32,7 @@ import java.sql.SQLException;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 public final class ShardingCTLShowBackendHandlerTest {
@@ -62,6 +63,17 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(0));
     }
     
+    @Test
+    public void assertShowBulkheads() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show bulkheads", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(9));
+        assertThat(((QueryResponse) actual).getQueryHeaders().get(1).getColumnName(), is("DATA_SOURCE_NAME"));
+        assertFalse(backendHandler.next());
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
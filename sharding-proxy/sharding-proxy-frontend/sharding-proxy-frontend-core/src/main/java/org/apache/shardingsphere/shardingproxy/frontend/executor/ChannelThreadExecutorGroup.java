@@ -20,11 +20,14 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.spi.ExecutorServiceFactory;
+import org.apache.shardingsphere.core.execute.spi.ExecutorServiceFactoryServiceLoader;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Channel thread executor group.
@@ -32,6 +35,8 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     Thread of channel is created by executor type, virtual thread is used for each channel if configured.
+ *     Executor type is resolved when first channel is registered, after sharding proxy context is initialized.
  * </p>
  * 
  * @author zhaojun
@@ -42,8 +47,12 @@ public final class ChannelThreadExecutorGroup {
     
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
+    private static final String NAME_FORMAT = "Channel-%d";
+    
     private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    private volatile ExecutorServiceFactory executorServiceFactory;
+    
     /**
      * Get channel thread executor group.
      * 
@@ -59,7 +68,19 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        executorServices.put(channelId, getExecutorServiceFactory().newExecutorService(1, NAME_FORMAT));
+    }
+    
+    private ExecutorServiceFactory getExecutorServiceFactory() {
+        if (null == executorServiceFactory) {
+            synchronized (this) {
+                if (null == executorServiceFactory) {
+                    executorServiceFactory = new ExecutorServiceFactoryServiceLoader().newAvailableService(
+                            ShardingProxyContext.getInstance().getShardingProperties().<String>getValue(ShardingPropertiesConstant.EXECUTOR_TYPE));
+                }
+            }
+        }
+        return executorServiceFactory;
     }
     
     /**
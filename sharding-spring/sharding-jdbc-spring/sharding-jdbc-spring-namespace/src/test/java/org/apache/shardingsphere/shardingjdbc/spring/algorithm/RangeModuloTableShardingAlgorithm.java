@@ -27,6 +27,9 @@ public final class RangeModuloTableShardingAlgorithm implements RangeShardingAlg
     
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Integer> shardingValue) {
+        if (!shardingValue.getValueRange().hasLowerBound() || !shardingValue.getValueRange().hasUpperBound()) {
+            return new LinkedHashSet<>(availableTargetNames);
+        }
         Collection<String> result = new LinkedHashSet<>(availableTargetNames.size());
         for (Integer i = shardingValue.getValueRange().lowerEndpoint(); i <= shardingValue.getValueRange().upperEndpoint(); i++) {
             for (String each : availableTargetNames) {